@@ -0,0 +1,55 @@
+package net.furyan.riyaposmod.gametest;
+
+import net.furyan.riyaposmod.RiyaposMod;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+
+import java.util.Arrays;
+
+/**
+ * Measures full server tick durations (MSPT) for the load GameTests, from the start of
+ * {@link ServerTickEvent.Pre} to the end of {@link ServerTickEvent.Post}. Does nothing unless armed.
+ */
+@EventBusSubscriber(modid = RiyaposMod.MOD_ID, bus = EventBusSubscriber.Bus.GAME)
+public final class LoadTestTickTimer {
+    private static long[] samples;
+    private static int count;
+    private static long tickStart;
+
+    private LoadTestTickTimer() {}
+
+    /**
+     * Starts recording up to {@code maxTicks} tick durations, discarding anything recorded before.
+     */
+    public static void arm(int maxTicks) {
+        samples = new long[maxTicks];
+        count = 0;
+        tickStart = 0L;
+    }
+
+    /**
+     * Stops recording.
+     * @return The recorded tick durations in nanoseconds, in tick order.
+     */
+    public static long[] disarm() {
+        long[] recorded = samples == null ? new long[0] : Arrays.copyOf(samples, count);
+        samples = null;
+        return recorded;
+    }
+
+    @SubscribeEvent
+    public static void onServerTickStart(ServerTickEvent.Pre event) {
+        if (samples != null) {
+            tickStart = System.nanoTime();
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerTickEnd(ServerTickEvent.Post event) {
+        // tickStart is 0 when arming happened mid-tick; that partial tick is skipped
+        if (samples != null && tickStart != 0L && count < samples.length) {
+            samples[count++] = System.nanoTime() - tickStart;
+        }
+    }
+}
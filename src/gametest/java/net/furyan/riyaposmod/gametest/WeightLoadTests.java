@@ -0,0 +1,368 @@
+package net.furyan.riyaposmod.gametest;
+
+import com.talhanation.smallships.world.entity.ship.ContainerShip;
+import immersive_aircraft.entity.EngineVehicle;
+import immersive_aircraft.entity.InventoryVehicleEntity;
+import net.furyan.riyaposmod.RiyaposMod;
+import net.furyan.riyaposmod.util.profile.HandlerProfiler;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.gametest.framework.GameTestGenerator;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.gametest.framework.TestFunction;
+import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.Container;
+import net.minecraft.world.SimpleContainer;
+import net.minecraft.world.SimpleMenuProvider;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.inventory.AbstractContainerMenu;
+import net.minecraft.world.inventory.ChestMenu;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.GameType;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.neoforge.gametest.GameTestHolder;
+import net.p3pp3rf1y.sophisticatedbackpacks.backpack.wrapper.BackpackWrapper;
+import net.p3pp3rf1y.sophisticatedcore.inventory.InventoryHandler;
+import top.theillusivec4.curios.api.CuriosApi;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Synthetic load suite for the weight, container, skill and vehicle hooks. Each test spawns
+ * N mock players carrying nested Sophisticated Backpacks (one in the Curios back slot), plus a
+ * few loaded ships and aircraft. It then churns through pickups, container shuffles, equipment
+ * swaps and block breaks while measuring server MSPT and the mod's own handler time via
+ * {@link HandlerProfiler}. A test fails when a measurement exceeds its budget.
+ * <p>
+ * Run headless with {@code ./gradlew runGameTestServer}. Budgets and player counts are read from
+ * system properties, which build.gradle fills from Gradle properties:
+ * <ul>
+ *   <li>{@code riyaposmod.loadtest.players} - comma-separated player counts (default 50,100,200)</li>
+ *   <li>{@code riyaposmod.loadtest.msptBudget} - mean MSPT budget in ms (default 50)</li>
+ *   <li>{@code riyaposmod.loadtest.msptP95Budget} - 95th percentile MSPT budget in ms (default 100)</li>
+ *   <li>{@code riyaposmod.loadtest.handlerBudget} - mod handler time budget in ms per tick (default 5)</li>
+ *   <li>{@code riyaposmod.loadtest.required} - whether a failed budget fails the run (default true); CI turns this
+ *       off because shared runners are too noisy for wall-clock budgets</li>
+ * </ul>
+ */
+@GameTestHolder(RiyaposMod.MOD_ID)
+public class WeightLoadTests {
+    private static final String ARENA = RiyaposMod.MOD_ID + ":load_arena";
+    private static final int ARENA_SIZE = 16;
+    private static final int WARMUP_TICKS = 100;
+    private static final int MEASURE_TICKS = 400;
+    // Each player does one churn action every CHURN_PERIOD ticks, staggered across players
+    private static final int CHURN_PERIOD = 10;
+    private static final int PLAYERS_PER_VEHICLE = 50;
+
+    record Budget(double meanMspt, double p95Mspt, double handlerMsPerTick) {
+        static Budget fromSystemProperties() {
+            return new Budget(
+                doubleProperty("riyaposmod.loadtest.msptBudget", 50.0),
+                doubleProperty("riyaposmod.loadtest.msptP95Budget", 100.0),
+                doubleProperty("riyaposmod.loadtest.handlerBudget", 5.0));
+        }
+
+        private static double doubleProperty(String key, double fallback) {
+            String value = System.getProperty(key);
+            if (value == null || value.isBlank()) {
+                return fallback;
+            }
+            try {
+                return Double.parseDouble(value.trim());
+            } catch (NumberFormatException e) {
+                RiyaposMod.LOGGER.warn("Ignoring invalid {}={}, using {}", key, value, fallback);
+                return fallback;
+            }
+        }
+    }
+
+    @GameTestGenerator
+    public static Collection<TestFunction> loadTests() {
+        List<TestFunction> tests = new ArrayList<>();
+        boolean required = !"false".equalsIgnoreCase(System.getProperty("riyaposmod.loadtest.required", "true").trim());
+        for (String entry : System.getProperty("riyaposmod.loadtest.players", "50,100,200").split(",")) {
+            int players;
+            try {
+                players = Integer.parseInt(entry.trim());
+            } catch (NumberFormatException e) {
+                RiyaposMod.LOGGER.warn("Ignoring invalid load test player count '{}'", entry);
+                continue;
+            }
+            // One batch per test, so the runs never overlap and their measurements stay separate
+            tests.add(new TestFunction("riyaposmod_load_" + players, "riyaposmod.load_" + players + "_players", ARENA,
+                WARMUP_TICKS + MEASURE_TICKS + 200, 0L, required,
+                helper -> new LoadScenario(helper, players, Budget.fromSystemProperties()).start()));
+        }
+        return tests;
+    }
+
+    private static final class LoadScenario {
+        private final GameTestHelper helper;
+        private final ServerLevel level;
+        private final int playerCount;
+        private final Budget budget;
+
+        private final List<ServerPlayer> players = new ArrayList<>();
+        private final List<SimpleContainer> chests = new ArrayList<>();
+        private final List<Container> cargo = new ArrayList<>();
+        private final List<Entity> vehicles = new ArrayList<>();
+        private int tick;
+        private boolean profiling;
+        private boolean finished;
+
+        LoadScenario(GameTestHelper helper, int playerCount, Budget budget) {
+            this.helper = helper;
+            this.level = helper.getLevel();
+            this.playerCount = playerCount;
+            this.budget = budget;
+        }
+
+        void start() {
+            for (int i = 0; i < playerCount; i++) {
+                players.add(spawnPlayer(i));
+                chests.add(filledChest());
+            }
+            int vehicleCount = Math.max(1, playerCount / PLAYERS_PER_VEHICLE);
+            for (int i = 0; i < vehicleCount; i++) {
+                spawnVehicle("smallships:cog", i);
+                spawnVehicle("immersive_aircraft:cargo_airship", i);
+            }
+            helper.onEachTick(this::tick);
+        }
+
+        private ServerPlayer spawnPlayer(int index) {
+            ServerPlayer player = helper.makeMockServerPlayerInLevel();
+            player.setGameMode(GameType.SURVIVAL);
+            Vec3 pos = helper.absoluteVec(new Vec3(1.5 + index % (ARENA_SIZE - 2), 1, 1.5 + (index / (ARENA_SIZE - 2)) % (ARENA_SIZE - 2)));
+            player.moveTo(pos.x, pos.y, pos.z, 0f, 0f);
+
+            // 30 of 36 main slots filled, leaving room for pickups
+            Item[] loose = {Items.COBBLESTONE, Items.IRON_INGOT, Items.OAK_LOG, Items.BREAD, Items.IRON_SWORD, Items.STONE_PICKAXE};
+            for (int slot = 0; slot < 30; slot++) {
+                ItemStack stack = slot % 10 == 0
+                    ? nestedBackpack()
+                    : new ItemStack(loose[slot % loose.length]);
+                stack.setCount(Math.min(stack.getMaxStackSize(), 32));
+                player.getInventory().setItem(slot, stack);
+            }
+            player.setItemSlot(EquipmentSlot.CHEST, new ItemStack(Items.IRON_CHESTPLATE));
+            ItemStack back = nestedBackpack();
+            CuriosApi.getCuriosInventory(player).ifPresent(handler -> handler.setEquippedCurio("back", 0, back));
+            return player;
+        }
+
+        /**
+         * A backpack holding loose items and a second, filled backpack.
+         */
+        private static ItemStack nestedBackpack() {
+            ItemStack inner = backpack("sophisticatedbackpacks:backpack", null);
+            ItemStack outer = backpack("sophisticatedbackpacks:iron_backpack", inner);
+            return outer.isEmpty() ? new ItemStack(Items.SHULKER_BOX) : outer;
+        }
+
+        private static ItemStack backpack(String id, ItemStack nested) {
+            Item item = BuiltInRegistries.ITEM.getOptional(ResourceLocation.parse(id)).orElse(null);
+            if (item == null) {
+                return ItemStack.EMPTY;
+            }
+            ItemStack stack = new ItemStack(item);
+            try {
+                InventoryHandler handler = BackpackWrapper.fromStack(stack).getInventoryHandler();
+                Item[] contents = {Items.IRON_INGOT, Items.COBBLESTONE, Items.GOLD_INGOT};
+                for (int slot = 0; slot < handler.getSlots(); slot++) {
+                    handler.setStackInSlot(slot, new ItemStack(contents[slot % contents.length], 16));
+                }
+                if (nested != null && !nested.isEmpty() && handler.getSlots() > 0) {
+                    handler.setStackInSlot(0, nested);
+                }
+            } catch (Exception e) {
+                RiyaposMod.LOGGER.warn("Could not fill load test backpack {}: {}", id, e.getMessage());
+            }
+            return stack;
+        }
+
+        private static SimpleContainer filledChest() {
+            SimpleContainer chest = new SimpleContainer(27);
+            for (int slot = 0; slot < 27; slot += 3) {
+                chest.setItem(slot, slot == 0 ? nestedBackpack() : new ItemStack(Items.IRON_INGOT, 32));
+            }
+            return chest;
+        }
+
+        private void spawnVehicle(String id, int index) {
+            EntityType<?> type = BuiltInRegistries.ENTITY_TYPE.getOptional(ResourceLocation.parse(id)).orElse(null);
+            Entity entity = type != null ? type.create(level) : null;
+            Container inventory = entity instanceof ContainerShip ship ? ship
+                : entity instanceof InventoryVehicleEntity aircraft ? aircraft.getInventory()
+                : null;
+            if (inventory == null) {
+                RiyaposMod.LOGGER.warn("Load test could not spawn a {} with cargo; skipping it", id);
+                return;
+            }
+            Vec3 pos = helper.absoluteVec(new Vec3(2 + index * 4, 2, ARENA_SIZE - 3));
+            entity.moveTo(pos.x, pos.y, pos.z, 0f, 0f);
+            level.addFreshEntity(entity);
+            vehicles.add(entity);
+            cargo.add(inventory);
+        }
+
+        private void tick() {
+            if (finished) {
+                return;
+            }
+            tick++;
+
+            if (tick == WARMUP_TICKS) {
+                if (!HandlerProfiler.start(null, MEASURE_TICKS / 20 + 60)) {
+                    finish("Another handler profile is already running");
+                    return;
+                }
+                profiling = true;
+                LoadTestTickTimer.arm(MEASURE_TICKS);
+            }
+
+            for (int i = 0; i < players.size(); i++) {
+                ServerPlayer player = players.get(i);
+                // Mock players have no network connection ticking them
+                player.doTick();
+                if ((tick + i) % CHURN_PERIOD == 0) {
+                    churn(player, i, (tick + i) / CHURN_PERIOD);
+                }
+            }
+            for (int i = 0; i < cargo.size(); i++) {
+                loadCargo(i);
+            }
+
+            if (tick == WARMUP_TICKS + MEASURE_TICKS) {
+                evaluate();
+            }
+        }
+
+        private void churn(ServerPlayer player, int index, int step) {
+            switch (step % 4) {
+                case 0 -> pickup(player);
+                case 1 -> shuffleContainer(player, index, step);
+                case 2 -> swapEquipment(player, step);
+                default -> mine(player, index);
+            }
+        }
+
+        private void pickup(ServerPlayer player) {
+            ItemEntity item = new ItemEntity(level, player.getX(), player.getY(), player.getZ(), new ItemStack(Items.GRAVEL, 8));
+            item.setNoPickUpDelay();
+            level.addFreshEntity(item);
+            item.playerTouch(player);
+            if (!item.isRemoved()) {
+                item.discard();
+            }
+            player.getInventory().clearOrCountMatchingItems(stack -> stack.is(Items.GRAVEL), -1, player.inventoryMenu.getCraftSlots());
+        }
+
+        private void shuffleContainer(ServerPlayer player, int index, int step) {
+            SimpleContainer chest = chests.get(index);
+            player.openMenu(new SimpleMenuProvider((id, inventory, p) -> ChestMenu.threeRows(id, inventory, chest), Component.literal("Load test")));
+            AbstractContainerMenu menu = player.containerMenu;
+            if (menu != player.inventoryMenu) {
+                // Move the nested backpack one slot along the chest, then swap a chest slot with the player's inventory
+                int from = step % 27;
+                int to = (step + 1) % 27;
+                ItemStack moved = menu.getSlot(from).getItem();
+                menu.getSlot(from).set(menu.getSlot(to).getItem());
+                menu.getSlot(to).set(moved);
+                int playerSlot = 27 + step % 27;
+                ItemStack fromPlayer = menu.getSlot(playerSlot).getItem();
+                menu.getSlot(playerSlot).set(menu.getSlot(from).getItem());
+                menu.getSlot(from).set(fromPlayer);
+                menu.broadcastChanges();
+            }
+            player.closeContainer();
+        }
+
+        private static void swapEquipment(ServerPlayer player, int step) {
+            player.setItemSlot(EquipmentSlot.CHEST, new ItemStack(step % 2 == 0 ? Items.DIAMOND_CHESTPLATE : Items.IRON_CHESTPLATE));
+        }
+
+        private void mine(ServerPlayer player, int index) {
+            // Above head height, so the block never suffocates anyone
+            BlockPos pos = helper.absolutePos(new BlockPos(1 + index % (ARENA_SIZE - 2), 3, 1 + (index / (ARENA_SIZE - 2)) % (ARENA_SIZE - 2)));
+            level.setBlockAndUpdate(pos, Blocks.STONE.defaultBlockState());
+            player.gameMode.destroyBlock(pos);
+        }
+
+        private void loadCargo(int index) {
+            Container inventory = cargo.get(index);
+            int slot = tick % inventory.getContainerSize();
+            inventory.setItem(slot, inventory.getItem(slot).isEmpty() ? new ItemStack(Items.IRON_BLOCK, 64) : ItemStack.EMPTY);
+            if (vehicles.get(index) instanceof ContainerShip ship) {
+                ship.getContainerModifier();
+            } else if (vehicles.get(index) instanceof EngineVehicle aircraft) {
+                aircraft.getEnginePower();
+            }
+        }
+
+        private void evaluate() {
+            long handlerNanos = HandlerProfiler.recordedNanos();
+            HandlerProfiler.stop(); // Logs the per-handler breakdown
+            profiling = false;
+            long[] ticks = LoadTestTickTimer.disarm();
+            if (ticks.length == 0) {
+                finish("No server ticks were recorded");
+                return;
+            }
+
+            long[] sorted = ticks.clone();
+            Arrays.sort(sorted);
+            double meanMspt = Arrays.stream(sorted).average().orElse(0) / 1_000_000.0;
+            double p95Mspt = sorted[Math.min(sorted.length - 1, (int) Math.ceil(0.95 * sorted.length) - 1)] / 1_000_000.0;
+            double handlerMsPerTick = handlerNanos / 1_000_000.0 / ticks.length;
+
+            String summary = String.format(Locale.ROOT,
+                "%d players: mean MSPT %.2f ms (budget %.2f), p95 MSPT %.2f ms (budget %.2f), mod handlers %.3f ms/tick (budget %.3f)",
+                playerCount, meanMspt, budget.meanMspt(), p95Mspt, budget.p95Mspt(), handlerMsPerTick, budget.handlerMsPerTick());
+            RiyaposMod.LOGGER.info("[LoadTest] {}", summary);
+
+            if (meanMspt > budget.meanMspt() || p95Mspt > budget.p95Mspt() || handlerMsPerTick > budget.handlerMsPerTick()) {
+                finish("Over budget: " + summary);
+            } else {
+                finish(null);
+            }
+        }
+
+        /**
+         * Removes the mock players and vehicles, then passes the test or fails it with {@code failure}.
+         */
+        private void finish(String failure) {
+            finished = true;
+            if (profiling) {
+                HandlerProfiler.stop();
+                profiling = false;
+            }
+            LoadTestTickTimer.disarm();
+            for (ServerPlayer player : players) {
+                level.getServer().getPlayerList().remove(player);
+            }
+            for (Entity vehicle : vehicles) {
+                vehicle.discard();
+            }
+            if (failure != null) {
+                helper.fail(failure);
+            } else {
+                helper.succeed();
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package net.furyan.riyaposmod.gametest;
+
+import net.furyan.riyaposmod.RiyaposMod;
+import net.furyan.riyaposmod.weight.trace.WeightTraceReader;
+import net.furyan.riyaposmod.weight.trace.WeightTraceReplayer;
+import net.minecraft.gametest.framework.GameTestGenerator;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.gametest.framework.TestFunction;
+import net.neoforged.neoforge.gametest.GameTestHolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Replays recorded weight traces through the weight engine (see
+ * {@link net.furyan.riyaposmod.weight.trace.WeightTraceReplayer}) on the headless GameTest server, where the full
+ * mod set and weight datapacks are loaded and no players' caches are shared. Each trace file or directory listed in
+ * the {@code riyaposmod.replay.traces} system property becomes one test, which fails if any replayed total differs
+ * from the recorded one. Throughput is logged so cache and incremental-update changes can be compared between runs.
+ * <p>
+ * Run with {@code ./gradlew runGameTestServer -PreplayTraces=/path/to/traces}. No tests are generated when the
+ * property is empty.
+ */
+@GameTestHolder(RiyaposMod.MOD_ID)
+public class WeightTraceReplayTests {
+    private static final String ARENA = RiyaposMod.MOD_ID + ":load_arena";
+
+    @GameTestGenerator
+    public static Collection<TestFunction> replayTests() {
+        List<TestFunction> tests = new ArrayList<>();
+        int index = 0;
+        for (String entry : System.getProperty("riyaposmod.replay.traces", "").split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            Path path = Path.of(entry.trim());
+            tests.add(new TestFunction("riyaposmod_replay_" + index, "riyaposmod.replay_" + index, ARENA,
+                100, 0L, true, helper -> replay(helper, path)));
+            index++;
+        }
+        return tests;
+    }
+
+    private static void replay(GameTestHelper helper, Path path) {
+        if (!Files.exists(path)) {
+            helper.fail("Trace not found: " + path);
+            return;
+        }
+
+        WeightTraceReplayer.Result result;
+        try {
+            result = WeightTraceReplayer.replay(WeightTraceReader.listTraceFiles(path), helper.getLevel().registryAccess());
+        } catch (IOException e) {
+            helper.fail("Failed to read trace " + path + ": " + e.getMessage());
+            return;
+        }
+        for (String line : result.toLines()) {
+            RiyaposMod.LOGGER.info("[Replay] {}", line);
+        }
+        if (result.events() == 0) {
+            helper.fail("Trace " + path + " contains no events");
+        } else if (!result.passed()) {
+            helper.fail(String.format(Locale.ROOT, "%s: %d recalculations and %d final totals differ from the recording",
+                path.getFileName(), result.recalcMismatches(), result.finalMismatches()));
+        } else {
+            helper.succeed();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package net.furyan.riyaposmod.benchmark;
+
+import net.furyan.riyaposmod.weight.data.WeightDataFixtures;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.component.ItemContainerContents;
+import net.neoforged.neoforge.capabilities.CapabilityHooks;
+import net.neoforged.neoforge.capabilities.RegisterCapabilitiesEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Brings up just enough of Minecraft for the benchmarks to run without a server:
+ * the vanilla registries, NeoForge's vanilla item capabilities (shulker box inventories),
+ * and a synthetic weight data set. Safe to call from every benchmark's setup.
+ */
+public final class BenchmarkBootstrap {
+    // One per-item override for every n-th vanilla item; the rest fall through to the namespace default
+    public static final int WEIGHT_OVERRIDE_STRIDE = 4;
+
+    private static RegistryAccess registryAccess;
+
+    private BenchmarkBootstrap() {}
+
+    public static synchronized RegistryAccess bootstrap() {
+        if (registryAccess == null) {
+            SharedConstants.tryDetectVersion();
+            Bootstrap.bootStrap();
+            // Normally fired by FML during mod loading; registers the component-backed
+            // item handler that shulker boxes expose through Capabilities.ItemHandler.ITEM
+            CapabilityHooks.registerVanillaProviders(new RegisterCapabilitiesEvent());
+            WeightDataFixtures.load(WEIGHT_OVERRIDE_STRIDE);
+            registryAccess = RegistryAccess.fromRegistryOfRegistries(BuiltInRegistries.REGISTRY);
+        }
+        return registryAccess;
+    }
+
+    /**
+     * @return The first {@code count} non-air items of the item registry, one of each.
+     */
+    public static List<ItemStack> distinctStacks(int count) {
+        List<ItemStack> stacks = new ArrayList<>(count);
+        for (var item : BuiltInRegistries.ITEM) {
+            if (stacks.size() == count) {
+                break;
+            }
+            if (item != Items.AIR) {
+                stacks.add(new ItemStack(item));
+            }
+        }
+        return stacks;
+    }
+
+    /**
+     * Builds shulker boxes nested {@code depth} levels deep. Each level is a different colour,
+     * since the weight helper refuses to descend into an item it is already inside.
+     * Every level holds {@code fill} stacks of loose items besides the next box.
+     */
+    public static ItemStack nestedContainer(int depth, int fill) {
+        ItemStack[] boxes = {
+                new ItemStack(Items.WHITE_SHULKER_BOX), new ItemStack(Items.ORANGE_SHULKER_BOX),
+                new ItemStack(Items.MAGENTA_SHULKER_BOX), new ItemStack(Items.LIGHT_BLUE_SHULKER_BOX),
+                new ItemStack(Items.YELLOW_SHULKER_BOX), new ItemStack(Items.LIME_SHULKER_BOX),
+                new ItemStack(Items.PINK_SHULKER_BOX), new ItemStack(Items.GRAY_SHULKER_BOX)
+        };
+        if (depth < 1 || depth > boxes.length) {
+            throw new IllegalArgumentException("Depth must be between 1 and " + boxes.length);
+        }
+        if (fill < 0 || fill > 26) {
+            throw new IllegalArgumentException("A shulker box holds at most 26 loose stacks besides the next box");
+        }
+        List<ItemStack> loose = distinctStacks(fill);
+
+        ItemStack inner = ItemStack.EMPTY;
+        for (int level = depth - 1; level >= 0; level--) {
+            List<ItemStack> contents = new ArrayList<>(fill + 1);
+            for (ItemStack stack : loose) {
+                contents.add(stack.copyWithCount(Math.min(16, stack.getMaxStackSize())));
+            }
+            if (!inner.isEmpty()) {
+                contents.add(inner);
+            }
+            ItemStack box = boxes[level];
+            box.set(DataComponents.CONTAINER, ItemContainerContents.fromItems(contents));
+            inner = box;
+        }
+        return inner;
+    }
+}
@@ -0,0 +1,60 @@
+package net.furyan.riyaposmod.benchmark;
+
+import net.furyan.riyaposmod.weight.util.ContainerWeightHelper;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.world.item.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ContainerWeightHelper#getContainerWeight} on shulker boxes nested {@code depth} levels deep.
+ * "uncached" clears the helper's cache first and so measures a full recursive walk;
+ * "cached" measures the content-hash lookup that follows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ContainerWeightBenchmark {
+
+    @Param({"1", "3", "6"})
+    public int depth;
+
+    @Param({"8", "26"})
+    public int fill;
+
+    private RegistryAccess registryAccess;
+    private ItemStack container;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        registryAccess = BenchmarkBootstrap.bootstrap();
+        container = BenchmarkBootstrap.nestedContainer(depth, fill);
+        ContainerWeightHelper.clearCache();
+    }
+
+    @Benchmark
+    public float uncached() {
+        ContainerWeightHelper.clearCache();
+        return ContainerWeightHelper.getContainerWeight(container, registryAccess);
+    }
+
+    @Benchmark
+    public float cached() {
+        return ContainerWeightHelper.getContainerWeight(container, registryAccess);
+    }
+}
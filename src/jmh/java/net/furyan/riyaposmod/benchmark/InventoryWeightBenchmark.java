@@ -0,0 +1,84 @@
+package net.furyan.riyaposmod.benchmark;
+
+import net.furyan.riyaposmod.weight.capability.PlayerWeightImpl;
+import net.furyan.riyaposmod.weight.data.WeightDataManager;
+import net.furyan.riyaposmod.weight.util.ContainerWeightHelper;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.world.SimpleContainer;
+import net.minecraft.world.item.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The main-inventory part of {@code PlayerWeightImpl.calculateWeight}, run through
+ * {@link PlayerWeightImpl#sumInventoryWeight} on a synthetic 41-slot inventory
+ * (36 main slots, 4 armour, offhand). A real player cannot be created headlessly;
+ * the equipment and Curios passes are not covered.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InventoryWeightBenchmark {
+    private static final int PLAYER_INVENTORY_SIZE = 41;
+
+    /** Number of filled slots. */
+    @Param({"10", "41"})
+    public int filled;
+
+    /** How many of the filled slots hold a nested shulker box. */
+    @Param({"0", "4"})
+    public int containers;
+
+    private RegistryAccess registryAccess;
+    private SimpleContainer inventory;
+    private final int[] visited = new int[2];
+
+    @Setup(Level.Trial)
+    public void setup() {
+        registryAccess = BenchmarkBootstrap.bootstrap();
+        inventory = new SimpleContainer(PLAYER_INVENTORY_SIZE);
+        List<ItemStack> loose = BenchmarkBootstrap.distinctStacks(filled);
+        for (int slot = 0; slot < filled; slot++) {
+            ItemStack stack = slot < containers
+                    ? BenchmarkBootstrap.nestedContainer(3, 16)
+                    : loose.get(slot).copyWithCount(loose.get(slot).getMaxStackSize());
+            inventory.setItem(slot, stack);
+        }
+        WeightDataManager.clearAllCaches();
+        ContainerWeightHelper.clearCache();
+    }
+
+    /**
+     * A dirty recalculation at the start of a tick: the per-tick item cache is empty,
+     * container weights come from the helper's cache.
+     */
+    @Benchmark
+    public float tickRecalculation() {
+        WeightDataManager.clearPerTickWeightCache();
+        return PlayerWeightImpl.sumInventoryWeight(inventory, registryAccess, visited);
+    }
+
+    /**
+     * A second recalculation within the same tick, with every cache warm.
+     */
+    @Benchmark
+    public float sameTickRecalculation() {
+        return PlayerWeightImpl.sumInventoryWeight(inventory, registryAccess, visited);
+    }
+}
@@ -0,0 +1,116 @@
+package net.furyan.riyaposmod.benchmark;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.furyan.riyaposmod.faction.capability.PlayerFactionImpl;
+import net.furyan.riyaposmod.network.packet.ClientboundSkillUpdatePacket;
+import net.furyan.riyaposmod.network.packet.SyncFactionDataPacket;
+import net.furyan.riyaposmod.network.packet.SyncWeightDataPacket;
+import net.furyan.riyaposmod.skills.core.Skills;
+import net.furyan.riyaposmod.weight.capability.PlayerWeightImpl;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and round-trip cost of the sync packets' stream codecs, using the payloads
+ * a freshly joined player would be sent. The buffers are reused, so the numbers exclude
+ * Netty allocation and only cover the codec work itself.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PacketCodecBenchmark {
+
+    private SyncWeightDataPacket weightPacket;
+    private SyncFactionDataPacket factionPacket;
+    private ClientboundSkillUpdatePacket skillPacket;
+
+    private ByteBuf raw;
+    private FriendlyByteBuf buf;
+    private RegistryFriendlyByteBuf registryBuf;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        RegistryAccess registryAccess = BenchmarkBootstrap.bootstrap();
+        weightPacket = new SyncWeightDataPacket(new PlayerWeightImpl().serializeNBT(registryAccess));
+        factionPacket = new SyncFactionDataPacket(new PlayerFactionImpl().serializeNBT(registryAccess));
+
+        // Worst case for one aggregation window: every skill gained XP and levelled up
+        List<ClientboundSkillUpdatePacket.Entry> entries = new ArrayList<>(Skills.count());
+        for (Skills skill : Skills.values()) {
+            entries.add(new ClientboundSkillUpdatePacket.Entry(skill.ordinal(), 1250, 42, true));
+        }
+        skillPacket = new ClientboundSkillUpdatePacket(entries);
+
+        raw = Unpooled.buffer(4096);
+        buf = new FriendlyByteBuf(raw);
+        registryBuf = new RegistryFriendlyByteBuf(raw, registryAccess);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        raw.release();
+    }
+
+    @Benchmark
+    public int encodeWeightSync() {
+        raw.clear();
+        SyncWeightDataPacket.STREAM_CODEC.encode(buf, weightPacket);
+        return raw.writerIndex();
+    }
+
+    @Benchmark
+    public SyncWeightDataPacket roundTripWeightSync() {
+        raw.clear();
+        SyncWeightDataPacket.STREAM_CODEC.encode(buf, weightPacket);
+        return SyncWeightDataPacket.STREAM_CODEC.decode(buf);
+    }
+
+    @Benchmark
+    public int encodeFactionSync() {
+        raw.clear();
+        SyncFactionDataPacket.STREAM_CODEC.encode(buf, factionPacket);
+        return raw.writerIndex();
+    }
+
+    @Benchmark
+    public SyncFactionDataPacket roundTripFactionSync() {
+        raw.clear();
+        SyncFactionDataPacket.STREAM_CODEC.encode(buf, factionPacket);
+        return SyncFactionDataPacket.STREAM_CODEC.decode(buf);
+    }
+
+    @Benchmark
+    public int encodeSkillUpdate() {
+        raw.clear();
+        ClientboundSkillUpdatePacket.STREAM_CODEC.encode(registryBuf, skillPacket);
+        return raw.writerIndex();
+    }
+
+    @Benchmark
+    public ClientboundSkillUpdatePacket roundTripSkillUpdate() {
+        raw.clear();
+        ClientboundSkillUpdatePacket.STREAM_CODEC.encode(registryBuf, skillPacket);
+        return ClientboundSkillUpdatePacket.STREAM_CODEC.decode(registryBuf);
+    }
+}
@@ -0,0 +1,58 @@
+package net.furyan.riyaposmod.benchmark;
+
+import net.furyan.riyaposmod.skills.core.Skills;
+import net.furyan.riyaposmod.skills.util.SkillConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SkillConstants#getLevelForXP} across the whole XP range of the default curve.
+ * Needs no registries; the curves are the built-in defaults.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SkillLevelBenchmark {
+    private static final int SAMPLES = 1024;
+
+    private final long[] xp = new long[SAMPLES];
+    private final Skills[] skills = new Skills[SAMPLES];
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        Skills[] values = Skills.values();
+        long maxXp = SkillConstants.getXpForLevel(values[0], SkillConstants.MAX_SKILL_LEVEL);
+        for (int i = 0; i < SAMPLES; i++) {
+            skills[i] = values[random.nextInt(values.length)];
+            xp[i] = random.nextLong(maxXp + 1);
+        }
+    }
+
+    /**
+     * @return The sum of {@value #SAMPLES} level lookups.
+     */
+    @Benchmark
+    public int getLevelForXP() {
+        int total = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            total += SkillConstants.getLevelForXP(skills[i], xp[i]);
+        }
+        return total;
+    }
+}
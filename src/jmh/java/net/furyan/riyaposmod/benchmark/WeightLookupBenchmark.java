@@ -0,0 +1,65 @@
+package net.furyan.riyaposmod.benchmark;
+
+import net.furyan.riyaposmod.weight.data.WeightDataManager;
+import net.minecraft.world.item.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link WeightDataManager#getWeight} over a set of distinct items.
+ * "cold" clears the per-tick cache first, so every lookup walks the full priority chain;
+ * "warm" measures the cached path a player tick normally hits.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WeightLookupBenchmark {
+
+    @Param({"64", "512"})
+    public int items;
+
+    private ItemStack[] stacks;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkBootstrap.bootstrap();
+        List<ItemStack> distinct = BenchmarkBootstrap.distinctStacks(items);
+        stacks = distinct.toArray(ItemStack[]::new);
+        WeightDataManager.clearAllCaches();
+    }
+
+    @Benchmark
+    public float cold() {
+        WeightDataManager.clearPerTickWeightCache();
+        float total = 0f;
+        for (ItemStack stack : stacks) {
+            total += WeightDataManager.getWeight(stack);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public float warm() {
+        float total = 0f;
+        for (ItemStack stack : stacks) {
+            total += WeightDataManager.getWeight(stack);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,60 @@
+package net.furyan.riyaposmod.weight.data;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.util.profiling.InactiveProfiler;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.Items;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Loads synthetic weight data into {@link WeightDataManager} for benchmarks.
+ * Lives in the same package so it can call the reload listener's {@code apply} directly,
+ * without a resource manager or data pack.
+ */
+public final class WeightDataFixtures {
+
+    private WeightDataFixtures() {}
+
+    /**
+     * Replaces the loaded weight data with a synthetic set: a namespace default, a per-item
+     * override for every {@code stride}-th vanilla item, and every shulker box as a container.
+     */
+    public static void load(int stride) {
+        Map<ResourceLocation, JsonElement> jsons = new HashMap<>();
+
+        JsonObject items = new JsonObject();
+        items.add("_default", weight(1.0f));
+        int index = 0;
+        for (Item item : BuiltInRegistries.ITEM) {
+            if (index++ % stride == 0) {
+                items.add(BuiltInRegistries.ITEM.getKey(item).toString(), weight(0.1f + (index % 50) * 0.1f));
+            }
+        }
+        jsons.put(ResourceLocation.withDefaultNamespace("items"), items);
+
+        JsonObject containers = new JsonObject();
+        for (Item item : BuiltInRegistries.ITEM) {
+            ResourceLocation id = BuiltInRegistries.ITEM.getKey(item);
+            if (id.getPath().endsWith("shulker_box")) {
+                containers.add(id.toString(), weight(5.0f));
+            }
+        }
+        containers.add(BuiltInRegistries.ITEM.getKey(Items.BUNDLE).toString(), weight(0.5f));
+        jsons.put(ResourceLocation.fromNamespaceAndPath("riyaposmod", "container_items/containers"), containers);
+
+        new WeightDataManager().apply(jsons, ResourceManager.Empty.INSTANCE, InactiveProfiler.INSTANCE);
+        WeightDataManager.clearAllCaches();
+    }
+
+    private static JsonObject weight(float weight) {
+        JsonObject entry = new JsonObject();
+        entry.addProperty("weight", weight);
+        return entry;
+    }
+}
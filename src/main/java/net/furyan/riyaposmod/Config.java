@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import net.furyan.riyaposmod.util.log.LogCategory;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.Item;
@@ -36,12 +37,56 @@ public class Config
             .comment("A list of items to log on common setup.")
             .defineListAllowEmpty("items", List.of("minecraft:iron_ingot"), Config::validateItemName);
 
+    private static final ModConfigSpec.IntValue SKILL_XP_FLUSH_INTERVAL_TICKS = BUILDER
+            .comment("How many ticks skill XP gains are accumulated on the server before being sent to the client in one packet")
+            .defineInRange("skillXpFlushIntervalTicks", 10, 1, 200);
+
+    private static final ModConfigSpec.IntValue SKILL_AUTOSAVE_INTERVAL_TICKS = BUILDER
+            .comment("How often, in ticks, players with changed skill data are queued for an incremental save")
+            .defineInRange("skillAutosaveIntervalTicks", 1200, 20, 72000);
+
+    private static final ModConfigSpec.IntValue SKILL_AUTOSAVE_PLAYERS_PER_TICK = BUILDER
+            .comment("Maximum number of queued players saved per tick by the skill autosave")
+            .defineInRange("skillAutosavePlayersPerTick", 2, 1, 64);
+
+    private static final ModConfigSpec.IntValue METRICS_EXPORT_INTERVAL_SECONDS = BUILDER
+            .comment("How often, in seconds, metrics are written in Prometheus text format to <world>/riyaposmod/metrics.prom. 0 disables the file export")
+            .defineInRange("metricsExportIntervalSeconds", 60, 0, 3600);
+
+    private static final ModConfigSpec.BooleanValue WEIGHT_TRACE_ON_STARTUP = BUILDER
+            .comment("Start recording a weight event trace to <world>/riyaposmod/traces when the server starts. Traces can also be started with /riyapos trace start")
+            .define("weightTraceOnStartup", false);
+
+    private static final ModConfigSpec.IntValue WEIGHT_TRACE_FILE_SIZE_MB = BUILDER
+            .comment("Size in MB at which a weight trace file is closed and a new one started")
+            .defineInRange("weightTraceFileSizeMb", 64, 1, 1024);
+
+    private static final ModConfigSpec.IntValue WEIGHT_TRACE_FILE_COUNT = BUILDER
+            .comment("How many weight trace files to keep; the oldest are deleted when a new file is started")
+            .defineInRange("weightTraceFileCount", 8, 1, 100);
+
+    private static final ModConfigSpec.DoubleValue WEIGHT_SHADOW_SAMPLE_RATE = BUILDER
+            .comment("Fraction of weight recalculations re-checked without caches on a worker thread. Divergences are logged and counted in riyaposmod_weight_shadow_divergences_total. 0 disables shadow checks")
+            .defineInRange("weightShadowSampleRate", 0.0, 0.0, 1.0);
+
+    private static final ModConfigSpec.ConfigValue<List<? extends String>> LOG_LEVELS = BUILDER
+            .comment("Per-category log levels as \"category=level\", e.g. \"skills=debug\". Categories: general, skills, weight, containers, ships, aircraft. Unlisted categories log at info.")
+            .defineListAllowEmpty("logLevels", List.of(), LogCategory::isValidLevelEntry);
+
     static final ModConfigSpec SPEC = BUILDER.build();
 
     public static boolean logDirtBlock;
     public static int magicNumber;
     public static String magicNumberIntroduction;
     public static Set<Item> items;
+    public static int skillXpFlushIntervalTicks = 10;
+    public static int skillAutosaveIntervalTicks = 1200;
+    public static int skillAutosavePlayersPerTick = 2;
+    public static int metricsExportIntervalSeconds = 60;
+    public static boolean weightTraceOnStartup;
+    public static int weightTraceFileSizeMb = 64;
+    public static int weightTraceFileCount = 8;
+    public static double weightShadowSampleRate;
 
     private static boolean validateItemName(final Object obj)
     {
@@ -54,6 +99,15 @@ public class Config
         logDirtBlock = LOG_DIRT_BLOCK.get();
         magicNumber = MAGIC_NUMBER.get();
         magicNumberIntroduction = MAGIC_NUMBER_INTRODUCTION.get();
+        skillXpFlushIntervalTicks = SKILL_XP_FLUSH_INTERVAL_TICKS.get();
+        skillAutosaveIntervalTicks = SKILL_AUTOSAVE_INTERVAL_TICKS.get();
+        skillAutosavePlayersPerTick = SKILL_AUTOSAVE_PLAYERS_PER_TICK.get();
+        metricsExportIntervalSeconds = METRICS_EXPORT_INTERVAL_SECONDS.get();
+        weightTraceOnStartup = WEIGHT_TRACE_ON_STARTUP.get();
+        weightTraceFileSizeMb = WEIGHT_TRACE_FILE_SIZE_MB.get();
+        weightTraceFileCount = WEIGHT_TRACE_FILE_COUNT.get();
+        weightShadowSampleRate = WEIGHT_SHADOW_SAMPLE_RATE.get();
+        LogCategory.applyLevels(LOG_LEVELS.get());
 
         // convert the list of strings into a set of items
         items = ITEM_STRINGS.get().stream()
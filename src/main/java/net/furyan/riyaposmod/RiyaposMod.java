@@ -3,14 +3,18 @@ package net.furyan.riyaposmod;
 import net.furyan.riyaposmod.client.events.ItemTooltipHandler;
 import net.furyan.riyaposmod.commands.BenchmarkWeightCommand;
 import net.furyan.riyaposmod.commands.DumpItemsCommand;
+import net.furyan.riyaposmod.commands.RiyaposCommand;
 import net.furyan.riyaposmod.commands.SkillDebugCommand;
 import net.furyan.riyaposmod.commands.SkillInfoCommand;
 import net.furyan.riyaposmod.commands.SkillSetCommand;
+import net.furyan.riyaposmod.commands.SkillsCommand;
 import net.furyan.riyaposmod.faction.commands.FactionCommands;
 import net.furyan.riyaposmod.network.ModNetworking;
+import net.furyan.riyaposmod.network.packet.SyncVehicleDataPacket;
 import net.furyan.riyaposmod.registries.CreativeTabRegistry;
 import net.furyan.riyaposmod.registries.FactionAttachmentRegistry;
 import net.furyan.riyaposmod.registries.ItemRegistry;
+import net.furyan.riyaposmod.registries.SkillAttachmentRegistry;
 import net.furyan.riyaposmod.registries.WeightAttachmentRegistry;
 import net.furyan.riyaposmod.skills.capability.SkillCapabilities;
 import net.furyan.riyaposmod.skills.config.XPConfigLoader;
@@ -41,7 +45,9 @@ import net.minecraft.data.DataGenerator;
 import net.minecraft.data.PackOutput;
 import net.furyan.riyaposmod.datagen.WeightDataProvider;
 import net.furyan.riyaposmod.weight.WeightSystemManager;
+import net.furyan.riyaposmod.weight.data.VehicleDataManager;
 import net.furyan.riyaposmod.weight.data.WeightDataManager;
+import net.neoforged.neoforge.network.PacketDistributor;
 
 
 
@@ -52,6 +58,7 @@ public class RiyaposMod {
     public static final Logger LOGGER = LogUtils.getLogger();
     
     private static final WeightDataManager WEIGHT_DATA = new WeightDataManager();
+    private static final VehicleDataManager VEHICLE_DATA = new VehicleDataManager();
 
     public RiyaposMod(IEventBus modEventBus, ModContainer modContainer) {
         // Register the commonSetup method for modloading
@@ -72,6 +79,7 @@ public class RiyaposMod {
         FactionRegistry.register(modEventBus);
         FactionAttachmentRegistry.register(modEventBus);
         WeightAttachmentRegistry.register(modEventBus);
+        SkillAttachmentRegistry.register(modEventBus);
         
         modEventBus.addListener(SkillCapabilities::registerCapabilities);
         // Register the item to a creative tab
@@ -101,6 +109,8 @@ public class RiyaposMod {
         SkillInfoCommand.register(evt.getDispatcher());
         SkillDebugCommand.register(evt.getDispatcher());
         SkillSetCommand.register(evt.getDispatcher());
+        SkillsCommand.register(evt.getDispatcher());
+        RiyaposCommand.register(evt.getDispatcher());
 
         // Register the weight system benchmark command
         BenchmarkWeightCommand.register(evt.getDispatcher());
@@ -124,11 +134,14 @@ public class RiyaposMod {
 
     }
     private void onDataPackReload(OnDatapackSyncEvent event) {
-        
+        // Fires for each joining player and for everyone after /reload
+        SyncVehicleDataPacket packet = VehicleDataManager.createSyncPacket();
+        event.getRelevantPlayers().forEach(player -> PacketDistributor.sendToPlayer(player, packet));
     }
 
     private void onAddReloadListeners(AddReloadListenerEvent event) {
         event.addListener(WEIGHT_DATA);
+        event.addListener(VEHICLE_DATA);
         LOGGER.info("Registered XpConfigLoader as a reload listener.");
     }
     
@@ -2,104 +2,75 @@ package net.furyan.riyaposmod.commands;
 
 import com.mojang.brigadier.Command;
 import com.mojang.brigadier.CommandDispatcher;
-import net.furyan.riyaposmod.weight.util.BenchmarkingHelper;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import net.furyan.riyaposmod.weight.util.BackpackScanSource;
+import net.furyan.riyaposmod.weight.util.BackpackWeightHandlerManager;
+import net.furyan.riyaposmod.weight.util.WeightBenchmarkJob;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
-import net.minecraft.core.HolderLookup;
-import net.minecraft.server.MinecraftServer;
-import net.minecraft.world.item.Item;
-import net.minecraft.world.item.ItemStack;
-import net.minecraft.core.registries.BuiltInRegistries;
-import net.minecraft.resources.ResourceLocation;
-import net.neoforged.neoforge.capabilities.Capabilities;
-import net.neoforged.neoforge.items.IItemHandler;
-import net.p3pp3rf1y.sophisticatedbackpacks.backpack.wrapper.BackpackWrapper;
-import net.p3pp3rf1y.sophisticatedcore.inventory.InventoryHandler;
-
-import java.util.ArrayList;
-import java.util.List;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.entity.player.Player;
 
 /**
  * Command to run the weight/capacity/container benchmark in-game.
- * Usage: /benchmarkweight (OPs only)
+ * The benchmark runs as a {@link WeightBenchmarkJob} spread over server ticks, so it can be used on a live server.
+ * Usage: /benchmarkweight [iterations] [warmup] [budgetMs], /benchmarkweight cancel (OPs only)
  */
 public class BenchmarkWeightCommand {
+    private static final String ITERATIONS_ARG = "iterations";
+    private static final String WARMUP_ARG = "warmup";
+    private static final String BUDGET_ARG = "budgetMs";
+
     public static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
         dispatcher.register(Commands.literal("benchmarkweight")
             .requires(source -> source.hasPermission(2)) // OPs only
-            .executes(context -> runBenchmark(context.getSource()))
+            .executes(context -> runBenchmark(context, WeightBenchmarkJob.Settings.DEFAULT))
+            .then(Commands.literal("cancel")
+                .executes(BenchmarkWeightCommand::cancelBenchmark))
+            .then(Commands.argument(ITERATIONS_ARG, IntegerArgumentType.integer(1, 1000))
+                .executes(context -> runBenchmark(context, settings(context, false, false)))
+                .then(Commands.argument(WARMUP_ARG, IntegerArgumentType.integer(0, 100))
+                    .executes(context -> runBenchmark(context, settings(context, true, false)))
+                    .then(Commands.argument(BUDGET_ARG, IntegerArgumentType.integer(1, 40))
+                        .executes(context -> runBenchmark(context, settings(context, true, true)))
+                    )
+                )
+            )
         );
     }
 
-    private static void fillContainerWithTestItems(ItemStack container, ItemStack... testItems) {
-        IItemHandler handler = container.getCapability(Capabilities.ItemHandler.ITEM);
-        if (handler != null) {
-            int slot = 0;
-            for (ItemStack testItem : testItems) {
-                for (int i = 0; i < 100 && slot < handler.getSlots(); i++, slot++) {
-                    handler.insertItem(slot, testItem.copy(), false);
-                }
-            }
-        }
+    private static WeightBenchmarkJob.Settings settings(CommandContext<CommandSourceStack> context, boolean hasWarmup, boolean hasBudget) {
+        WeightBenchmarkJob.Settings defaults = WeightBenchmarkJob.Settings.DEFAULT;
+        return new WeightBenchmarkJob.Settings(
+            IntegerArgumentType.getInteger(context, ITERATIONS_ARG),
+            hasWarmup ? IntegerArgumentType.getInteger(context, WARMUP_ARG) : defaults.warmup(),
+            hasBudget ? IntegerArgumentType.getInteger(context, BUDGET_ARG) : defaults.budgetMillis());
     }
 
-    private static void fillBackpackWithTestItems(ItemStack backpack, ItemStack... testItems) {
-        try {
-            InventoryHandler handler = BackpackWrapper.fromStack(backpack).getInventoryHandler();
-            int slot = 0;
-            for (ItemStack testItem : testItems) {
-                for (int i = 0; i < 100 && slot < handler.getSlots(); i++, slot++) {
-                    handler.setStackInSlot(slot, testItem.copy());
-                }
-            }
-        } catch (Exception e) {
-            // Ignore if not a valid backpack
+    private static int runBenchmark(CommandContext<CommandSourceStack> context, WeightBenchmarkJob.Settings settings) {
+        CommandSourceStack source = context.getSource();
+        if (!WeightBenchmarkJob.start(source, settings)) {
+            source.sendFailure(Component.literal("A weight benchmark is already running. Use /benchmarkweight cancel to stop it."));
+            return 0;
         }
-    }
+        source.sendSuccess(() -> Component.literal(String.format(
+            "Weight benchmark started: %d iterations, %d warmup, up to %d ms per tick. Results will follow when it finishes.",
+            settings.iterations(), settings.warmup(), settings.budgetMillis())), true);
 
-    private static int runBenchmark(CommandSourceStack source) {
-        MinecraftServer server = source.getServer();
-        HolderLookup.Provider provider = server.registryAccess();
-        List<ItemStack> items = new ArrayList<>();
-        List<ItemStack> containers = new ArrayList<>();
-        // Use real items from the registry
-        Item stonePickaxe = BuiltInRegistries.ITEM.get(ResourceLocation.parse("minecraft:stone_pickaxe"));
-        Item ironSword = BuiltInRegistries.ITEM.get(ResourceLocation.parse("minecraft:iron_sword"));
-        Item ironChestplate = BuiltInRegistries.ITEM.get(ResourceLocation.parse("minecraft:iron_chestplate"));
-        Item chest = BuiltInRegistries.ITEM.get(ResourceLocation.parse("minecraft:chest"));
-        Item sbBackpack = BuiltInRegistries.ITEM.get(ResourceLocation.parse("sophisticatedbackpacks:backpack"));
-        ItemStack[] testItems = new ItemStack[] {
-            new ItemStack(stonePickaxe),
-            new ItemStack(ironSword),
-            new ItemStack(ironChestplate)
-        };
-        for (int i = 0; i < 5000; i++) {
-            items.add(new ItemStack(stonePickaxe));
-            items.add(new ItemStack(ironSword));
-            items.add(new ItemStack(ironChestplate));
-        }
-        for (int i = 0; i < 1000; i++) {
-            ItemStack chestStack = new ItemStack(chest);
-            fillContainerWithTestItems(chestStack, testItems);
-            containers.add(chestStack);
+        if (source.getEntity() instanceof Player player) {
+            BackpackWeightHandlerManager.scanPlayerForBackpacks(player, BackpackScanSource.COMMAND);
+            source.sendSuccess(() -> Component.literal("Triggered SB backpack handler scan for your inventory."), false);
         }
-        for (int i = 0; i < 1000; i++) {
-            ItemStack sbStack = new ItemStack(sbBackpack);
-            fillBackpackWithTestItems(sbStack, testItems);
-            items.add(sbStack);
-            containers.add(sbStack);
-        }
-        source.sendSuccess(() -> net.minecraft.network.chat.Component.literal("--- Benchmark: Item Weight Calculation ---"), false);
-        BenchmarkingHelper.benchmarkItemWeight(items, 10);
-        source.sendSuccess(() -> net.minecraft.network.chat.Component.literal("--- Benchmark: Capacity Bonus Calculation ---"), false);
-        BenchmarkingHelper.benchmarkCapacityBonus(items, 10);
-        source.sendSuccess(() -> net.minecraft.network.chat.Component.literal("--- Benchmark: Container Weight Calculation ---"), false);
-        BenchmarkingHelper.benchmarkContainerWeight(containers, provider, 10);
-        if (source.getEntity() instanceof net.minecraft.world.entity.player.Player player) {
-            net.furyan.riyaposmod.weight.util.BackpackWeightHandlerManager.scanPlayerForBackpacks(player);
-            source.sendSuccess(() -> net.minecraft.network.chat.Component.literal("Triggered SB backpack handler scan for your inventory."), false);
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private static int cancelBenchmark(CommandContext<CommandSourceStack> context) {
+        if (!WeightBenchmarkJob.cancel()) {
+            context.getSource().sendFailure(Component.literal("No weight benchmark is running."));
+            return 0;
         }
-        source.sendSuccess(() -> net.minecraft.network.chat.Component.literal("--- Benchmark Complete ---"), false);
+        context.getSource().sendSuccess(() -> Component.literal("Weight benchmark cancelled."), true);
         return Command.SINGLE_SUCCESS;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,110 @@
+package net.furyan.riyaposmod.commands;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import net.furyan.riyaposmod.util.metrics.Metric;
+import net.furyan.riyaposmod.util.metrics.MetricsRegistry;
+import net.furyan.riyaposmod.util.profile.HandlerProfiler;
+import net.furyan.riyaposmod.weight.trace.WeightTraceRecorder;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.commands.SharedSuggestionProvider;
+import net.minecraft.network.chat.Component;
+
+import java.util.List;
+
+/**
+ * Server diagnostics under /riyapos. {@code /riyapos stats [filter]} prints the current value of
+ * every metric whose name contains the filter. {@code /riyapos profile <seconds>} times every mod
+ * handler for that long and reports the most expensive handlers, players and entities.
+ * {@code /riyapos trace start|stop} records weight events to {@code <world>/riyaposmod/traces}; traces are
+ * replayed on the GameTest server, never on a live one (see
+ * {@link net.furyan.riyaposmod.weight.trace.WeightTraceReplayer}).
+ */
+public class RiyaposCommand {
+
+    private static final String FILTER_ARG = "filter";
+    private static final String SECONDS_ARG = "seconds";
+
+    public static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal("riyapos")
+            .requires(source -> source.hasPermission(2)) // Only ops can use this
+            .then(Commands.literal("stats")
+                .executes(context -> showStats(context, null))
+                .then(Commands.argument(FILTER_ARG, StringArgumentType.word())
+                    .suggests((context, builder) -> SharedSuggestionProvider.suggest(
+                        MetricsRegistry.all().stream().map(Metric::name), builder))
+                    .executes(context -> showStats(context, StringArgumentType.getString(context, FILTER_ARG)))
+                )
+            )
+            .then(Commands.literal("profile")
+                .then(Commands.literal("stop")
+                    .executes(RiyaposCommand::stopProfile))
+                .then(Commands.argument(SECONDS_ARG, IntegerArgumentType.integer(1, 600))
+                    .executes(context -> startProfile(context, IntegerArgumentType.getInteger(context, SECONDS_ARG)))
+                )
+            )
+            .then(Commands.literal("trace")
+                .then(Commands.literal("start")
+                    .executes(RiyaposCommand::startTrace))
+                .then(Commands.literal("stop")
+                    .executes(RiyaposCommand::stopTrace))
+            )
+        );
+    }
+
+    private static int showStats(CommandContext<CommandSourceStack> context, String filter) {
+        CommandSourceStack source = context.getSource();
+        List<String> lines = MetricsRegistry.summary(filter);
+        if (lines.isEmpty()) {
+            source.sendFailure(Component.literal("No metrics match " + filter + "."));
+            return 0;
+        }
+
+        StringBuilder sb = new StringBuilder("--- RiyaposMod Stats ---\n");
+        for (String line : lines) {
+            sb.append(line).append('\n');
+        }
+        source.sendSuccess(() -> Component.literal(sb.toString()), false);
+        return lines.size();
+    }
+
+    private static int startProfile(CommandContext<CommandSourceStack> context, int seconds) {
+        CommandSourceStack source = context.getSource();
+        if (!HandlerProfiler.start(source, seconds)) {
+            source.sendFailure(Component.literal("A profile is already running. Use /riyapos profile stop to end it early."));
+            return 0;
+        }
+        source.sendSuccess(() -> Component.literal("Profiling mod handlers for " + seconds + " seconds..."), true);
+        return seconds;
+    }
+
+    private static int stopProfile(CommandContext<CommandSourceStack> context) {
+        if (!HandlerProfiler.stop()) {
+            context.getSource().sendFailure(Component.literal("No profile is running."));
+            return 0;
+        }
+        return 1;
+    }
+
+    private static int startTrace(CommandContext<CommandSourceStack> context) {
+        if (!WeightTraceRecorder.start()) {
+            context.getSource().sendFailure(Component.literal("A weight trace is already being recorded."));
+            return 0;
+        }
+        context.getSource().sendSuccess(() -> Component.literal("Recording weight trace to riyaposmod/traces."), true);
+        return 1;
+    }
+
+    private static int stopTrace(CommandContext<CommandSourceStack> context) {
+        long dropped = WeightTraceRecorder.droppedEvents();
+        if (!WeightTraceRecorder.stop()) {
+            context.getSource().sendFailure(Component.literal("No weight trace is being recorded."));
+            return 0;
+        }
+        context.getSource().sendSuccess(() -> Component.literal("Weight trace stopped (" + dropped + " events dropped)."), true);
+        return 1;
+    }
+}
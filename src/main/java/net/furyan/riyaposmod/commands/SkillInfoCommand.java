@@ -5,7 +5,8 @@ import com.mojang.brigadier.context.CommandContext;
 import net.furyan.riyaposmod.skills.api.ISkillData;
 import net.furyan.riyaposmod.skills.capability.SkillCapabilities;
 import net.furyan.riyaposmod.skills.core.Skills;
-import net.furyan.riyaposmod.skills.util.SkillConstants;
+import net.furyan.riyaposmod.skills.util.SkillCurve;
+import net.furyan.riyaposmod.skills.util.SkillCurves;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
 import net.minecraft.network.chat.Component;
@@ -36,17 +37,19 @@ public class SkillInfoCommand {
         StringBuilder sb = new StringBuilder("--- Your Skills ---\n");
         for (Skills skillEnum : Skills.values()) {
             String skillName = skillEnum.getSkillName();
-            int level = skillsData.getSkillLevel(skillName);
-            long totalAccumulatedXp = skillsData.getSkillTotalExp(skillName);
+            int level = skillsData.getSkillLevel(skillEnum);
+            long totalAccumulatedXp = skillsData.getSkillTotalExp(skillEnum);
             
-            if (level >= SkillConstants.MAX_SKILL_LEVEL) {
+            SkillCurve curve = SkillCurves.get(skillEnum);
+
+            if (level >= curve.getMaxLevel()) {
                  sb.append(String.format("%s: Level %d (%d / MAX XP)\n", 
                     skillName, 
                     level,
                     totalAccumulatedXp
                 ));
             } else {
-                int xpForNextLevelActual = SkillConstants.getXpForLevel(level + 1); // Total XP needed to ding next level
+                long xpForNextLevelActual = curve.getXpForLevel(level + 1); // Total XP needed to ding next level
 
                 sb.append(String.format("%s: Level %d (%d / %d XP)\n", 
                     skillName, 
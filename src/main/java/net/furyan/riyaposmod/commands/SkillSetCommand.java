@@ -29,7 +29,7 @@ public class SkillSetCommand {
             .requires(source -> source.hasPermission(2)) // Example permission level
             .then(Commands.argument(SKILL_ARG, StringArgumentType.string())
                 .suggests(SkillSetCommand::suggestSkills)
-                .then(Commands.argument(LEVEL_ARG, IntegerArgumentType.integer(SkillConstants.MIN_SKILL_LEVEL, SkillConstants.MAX_SKILL_LEVEL))
+                .then(Commands.argument(LEVEL_ARG, IntegerArgumentType.integer(SkillConstants.MIN_SKILL_LEVEL, SkillConstants.MAX_SUPPORTED_LEVEL))
                     .executes(SkillSetCommand::run)
                 )
             )
@@ -47,13 +47,7 @@ public class SkillSetCommand {
         String skillNameArg = StringArgumentType.getString(context, SKILL_ARG);
         int levelArg = IntegerArgumentType.getInteger(context, LEVEL_ARG);
 
-        Skills foundSkill = null;
-        for (Skills s : Skills.values()) {
-            if (s.getSkillName().equalsIgnoreCase(skillNameArg)) {
-                foundSkill = s;
-                break;
-            }
-        }
+        Skills foundSkill = Skills.fromName(skillNameArg);
 
         if (foundSkill == null) {
             source.sendFailure(Component.literal("Invalid skill name: " + skillNameArg));
@@ -61,18 +55,24 @@ public class SkillSetCommand {
         }
         final String finalSkillName = foundSkill.getSkillName(); // Effectively final for lambda
 
+        int maxLevel = SkillConstants.getMaxLevel(foundSkill);
+        if (levelArg > maxLevel) {
+            source.sendFailure(Component.literal(String.format("%s has a max level of %d.", finalSkillName, maxLevel)));
+            return 0;
+        }
+
         ISkillData skillsData = player.getCapability(SkillCapabilities.PLAYER_SKILLS);
         if (skillsData == null) {
             source.sendFailure(Component.literal("Skill data not found for player."));
             return 0;
         }
 
-        skillsData.setSkillLevel(finalSkillName, levelArg);
+        skillsData.setSkillLevel(foundSkill, levelArg);
         source.sendSuccess(() -> Component.literal(String.format("Set skill %s to level %d for player %s.", 
             finalSkillName, levelArg, player.getName().getString())), true);
         
-        int newLevel = skillsData.getSkillLevel(finalSkillName);
-        int newExp = skillsData.getSkillExp(finalSkillName);
+        int newLevel = skillsData.getSkillLevel(foundSkill);
+        int newExp = skillsData.getSkillExp(foundSkill);
         source.sendSuccess(() -> Component.literal(String.format("  -> %s is now Level %d (Total XP: %d)", finalSkillName, newLevel, newExp)), false);
 
         return 1;
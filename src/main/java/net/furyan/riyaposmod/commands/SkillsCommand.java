@@ -0,0 +1,135 @@
+package net.furyan.riyaposmod.commands;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import net.furyan.riyaposmod.skills.config.XPConfigLoader;
+import net.furyan.riyaposmod.skills.core.Skills;
+import net.furyan.riyaposmod.skills.dispatcher.SkillXPMultipliers;
+import net.furyan.riyaposmod.skills.persistence.SkillStore;
+import net.furyan.riyaposmod.skills.util.SkillCurves;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.commands.SharedSuggestionProvider;
+import net.minecraft.network.chat.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Leaderboard and offline lookup commands backed by the world-level {@link SkillStore},
+ * plus toggles for server-wide XP events. The lookup commands never load playerdata.
+ */
+public class SkillsCommand {
+
+    private static final String SKILL_ARG = "skill";
+    private static final String COUNT_ARG = "count";
+    private static final String PLAYER_ARG = "player";
+    private static final String EVENT_ARG = "event";
+    private static final int DEFAULT_TOP_COUNT = 10;
+
+    public static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal("skills")
+            .then(Commands.literal("top")
+                .requires(source -> source.hasPermission(0)) // All players can use this
+                .then(Commands.argument(SKILL_ARG, StringArgumentType.word())
+                    .suggests((context, builder) -> SharedSuggestionProvider.suggest(
+                        Arrays.stream(Skills.values()).map(skill -> skill.getSkillName().toLowerCase(Locale.ROOT)), builder))
+                    .executes(context -> showTop(context, DEFAULT_TOP_COUNT))
+                    .then(Commands.argument(COUNT_ARG, IntegerArgumentType.integer(1, 100))
+                        .executes(context -> showTop(context, IntegerArgumentType.getInteger(context, COUNT_ARG)))
+                    )
+                )
+            )
+            .then(Commands.literal("lookup")
+                .requires(source -> source.hasPermission(2)) // Only ops can use this
+                .then(Commands.argument(PLAYER_ARG, StringArgumentType.word())
+                    .executes(SkillsCommand::lookup)
+                )
+            )
+            .then(Commands.literal("xpevent")
+                .requires(source -> source.hasPermission(2)) // Only ops can use this
+                .then(Commands.literal("start")
+                    .then(Commands.argument(EVENT_ARG, StringArgumentType.word())
+                        .suggests((context, builder) -> SharedSuggestionProvider.suggest(XPConfigLoader.getMultipliers().eventNames(), builder))
+                        .executes(context -> setXpEvent(context, true))
+                    )
+                )
+                .then(Commands.literal("stop")
+                    .then(Commands.argument(EVENT_ARG, StringArgumentType.word())
+                        .suggests((context, builder) -> SharedSuggestionProvider.suggest(SkillXPMultipliers.getActiveEvents(), builder))
+                        .executes(context -> setXpEvent(context, false))
+                    )
+                )
+            )
+        );
+    }
+
+    private static int showTop(CommandContext<CommandSourceStack> context, int count) {
+        CommandSourceStack source = context.getSource();
+        String skillArg = StringArgumentType.getString(context, SKILL_ARG);
+        Skills skill = Skills.fromName(skillArg);
+        if (skill == null) {
+            source.sendFailure(Component.literal("Invalid skill name: " + skillArg));
+            return 0;
+        }
+
+        List<SkillStore.Ranking> rankings = SkillStore.top(skill, count);
+        if (rankings.isEmpty()) {
+            source.sendFailure(Component.literal("No players have been ranked in " + skill.getSkillName() + " yet."));
+            return 0;
+        }
+
+        StringBuilder sb = new StringBuilder("--- Top " + skill.getSkillName() + " ---\n");
+        for (SkillStore.Ranking ranking : rankings) {
+            sb.append(String.format("#%d %s: Level %d (%d XP)\n",
+                ranking.rank(),
+                ranking.name(),
+                SkillCurves.get(skill).getLevelForXP(ranking.totalXp()),
+                ranking.totalXp()
+            ));
+        }
+        source.sendSuccess(() -> Component.literal(sb.toString()), false);
+        return rankings.size();
+    }
+
+    private static int lookup(CommandContext<CommandSourceStack> context) {
+        CommandSourceStack source = context.getSource();
+        String name = StringArgumentType.getString(context, PLAYER_ARG);
+        SkillStore.Entry entry = SkillStore.lookup(name);
+        if (entry == null) {
+            source.sendFailure(Component.literal("No skill data recorded for " + name + "."));
+            return 0;
+        }
+
+        StringBuilder sb = new StringBuilder("--- Skills of " + entry.name() + " ---\n");
+        for (Skills skill : Skills.values()) {
+            long totalXp = entry.totalXp()[skill.ordinal()];
+            sb.append(String.format("%s: Level %d (%d XP, rank #%d)\n",
+                skill.getSkillName(),
+                SkillCurves.get(skill).getLevelForXP(totalXp),
+                totalXp,
+                SkillStore.rank(entry.id(), skill)
+            ));
+        }
+        source.sendSuccess(() -> Component.literal(sb.toString()), false);
+        return 1;
+    }
+
+    private static int setXpEvent(CommandContext<CommandSourceStack> context, boolean start) {
+        CommandSourceStack source = context.getSource();
+        String eventName = StringArgumentType.getString(context, EVENT_ARG);
+        boolean changed = start ? SkillXPMultipliers.startEvent(eventName) : SkillXPMultipliers.endEvent(eventName);
+        if (!changed) {
+            source.sendFailure(Component.literal(start
+                ? "XP event " + eventName + " is not configured or already running."
+                : "XP event " + eventName + " is not running."));
+            return 0;
+        }
+
+        source.sendSuccess(() -> Component.literal("XP event " + eventName + (start ? " started." : " stopped.")), true);
+        return 1;
+    }
+}
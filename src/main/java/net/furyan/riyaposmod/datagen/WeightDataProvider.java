@@ -59,6 +59,11 @@ public class WeightDataProvider implements DataProvider {
         generateTagData(tagData);
         writeTagFile(tagData, cache, futures);
 
+        // 5. Generate vehicle capacities and load curves
+        Map<String, VehicleEntry> vehicleData = new HashMap<>();
+        generateVehicleData(vehicleData);
+        writeVehicleFile(vehicleData, cache, futures);
+
         return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
     }
 
@@ -116,6 +121,27 @@ public class WeightDataProvider implements DataProvider {
         // Add more tag defaults as needed
     }
 
+    private void generateVehicleData(Map<String, VehicleEntry> vehicleData) {
+        // Small Ships: speed drops as the hold fills and the ship stops when overloaded
+        Map<String, Float> shipSpeed = Map.of("0.5", 0.8f, "0.9", 0.6f, "1.0", 0.0f);
+        vehicleData.put("smallships:galley", new VehicleEntry(1000, shipSpeed, null, null, null));
+        vehicleData.put("smallships:drakkar", new VehicleEntry(1500, shipSpeed, null, null, null));
+        vehicleData.put("smallships:cog", new VehicleEntry(2500, shipSpeed, null, null, null));
+        vehicleData.put("smallships:brigg", new VehicleEntry(5000, shipSpeed, null, null, null));
+
+        // Immersive Aircraft: engine power drops and fuel use rises with load
+        Map<String, Float> aircraftPower = Map.of("0.5", 0.9f, "0.75", 0.7f, "0.9", 0.4f, "1.0", 0.1f);
+        Map<String, Float> aircraftFuel = Map.of("0.5", 1.25f, "0.75", 1.5f, "0.9", 2.0f);
+        // Fuel, upgrades and cosmetics are part of the aircraft; only cargo and weapon slots count as load
+        Map<String, Float> aircraftSlots = Map.of("boiler", 0.0f, "upgrade", 0.0f, "banner", 0.0f, "dye", 0.0f, "booster", 0.0f);
+        vehicleData.put("immersive_aircraft:airship", new VehicleEntry(1200, null, aircraftPower, aircraftFuel, aircraftSlots));
+        vehicleData.put("immersive_aircraft:cargo_airship", new VehicleEntry(3500, null, aircraftPower, aircraftFuel, aircraftSlots));
+        vehicleData.put("immersive_aircraft:warship", new VehicleEntry(2000, null, aircraftPower, aircraftFuel, aircraftSlots));
+        vehicleData.put("immersive_aircraft:biplane", new VehicleEntry(300, null, aircraftPower, aircraftFuel, aircraftSlots));
+        vehicleData.put("immersive_aircraft:gyrodyne", new VehicleEntry(500, null, aircraftPower, aircraftFuel, aircraftSlots));
+        vehicleData.put("immersive_aircraft:quadrocopter", new VehicleEntry(200, null, aircraftPower, aircraftFuel, aircraftSlots));
+    }
+
     private void writeNamespaceFiles(Map<String, Map<String, DataEntry>> namespaceData, 
                                    CachedOutput cache, 
                                    List<CompletableFuture<?>> futures) {
@@ -165,6 +191,18 @@ public class WeightDataProvider implements DataProvider {
         futures.add(DataProvider.saveStable(cache, GSON.toJsonTree(tagData), path));
     }
 
+    private void writeVehicleFile(Map<String, VehicleEntry> vehicleData,
+                                CachedOutput cache,
+                                List<CompletableFuture<?>> futures) {
+        Path path = output.getOutputFolder()
+            .resolve("data")
+            .resolve("riyaposmod")
+            .resolve("weight")
+            .resolve("vehicles")
+            .resolve("vehicles.json");
+        futures.add(DataProvider.saveStable(cache, GSON.toJsonTree(vehicleData), path));
+    }
+
     private void addTagData(Map<String, DataEntry> tagData, TagKey<Item> tag, DataEntry entry) {
         tagData.put("#" + tag.location(), entry);
     }
@@ -2,6 +2,7 @@ package net.furyan.riyaposmod.faction.capability;
 
 import net.furyan.riyaposmod.network.ModNetworking;
 import net.furyan.riyaposmod.registries.FactionAttachmentRegistry;
+import net.furyan.riyaposmod.skills.dispatcher.SkillXPMultipliers;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
 
@@ -47,6 +48,8 @@ public class PlayerFactionProvider {
         // Sync to client if on server side
         if (result && player instanceof ServerPlayer serverPlayer) {
             syncToClient(serverPlayer);
+            // Faction perks can change skill XP multipliers
+            SkillXPMultipliers.recompute(serverPlayer);
         }
 
         return result;
@@ -63,6 +66,8 @@ public class PlayerFactionProvider {
         // Sync to client if on server side
         if (player instanceof ServerPlayer serverPlayer) {
             syncToClient(serverPlayer);
+            // Faction perks can change skill XP multipliers
+            SkillXPMultipliers.recompute(serverPlayer);
         }
     }
 
@@ -1,43 +1,72 @@
 package net.furyan.riyaposmod.mixin;
 
-import com.talhanation.smallships.world.entity.ship.BriggEntity;
-import com.talhanation.smallships.world.entity.ship.CogEntity;
 import com.talhanation.smallships.world.entity.ship.ContainerShip;
-import com.talhanation.smallships.world.entity.ship.DrakkarEntity;
-import com.talhanation.smallships.world.entity.ship.GalleyEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.entity.vehicle.Boat;
+import net.minecraft.world.item.ItemStack;
+import net.furyan.riyaposmod.util.log.LogCategory;
+import net.furyan.riyaposmod.util.log.LogGate;
+import net.furyan.riyaposmod.util.log.ModLog;
+import net.furyan.riyaposmod.util.profile.HandlerProfiler;
+import net.furyan.riyaposmod.util.profile.ProfiledHandler;
+import net.furyan.riyaposmod.weight.data.VehicleDataManager;
+import net.furyan.riyaposmod.weight.data.VehicleProfile;
+import net.furyan.riyaposmod.weight.data.VehicleProfileHolder;
+import net.furyan.riyaposmod.weight.data.WeightDataManager;
 import net.furyan.riyaposmod.weight.ships.ContainerShipAccessor;
 import net.furyan.riyaposmod.weight.ships.ShipWeightHandler;
 import net.furyan.riyaposmod.weight.ships.ShipWeightNotifier;
+import net.furyan.riyaposmod.weight.util.VehicleLoadHolder;
+import net.furyan.riyaposmod.weight.util.VehicleLoadSync;
 
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerPlayer;
 
+import java.util.concurrent.TimeUnit;
+
 @Mixin(ContainerShip.class)
-public abstract class ContainerShipMixin implements ContainerShipAccessor {
-    private static final Logger LOGGER = LoggerFactory.getLogger("ShipWeightMixin");
-    private static long lastLogTime = 0;
+public abstract class ContainerShipMixin implements ContainerShipAccessor, VehicleProfileHolder, VehicleLoadHolder {
+    @Unique
+    private static final ModLog riyaposmod$LOG = ModLog.get(LogCategory.SHIPS);
+    @Unique
+    private static final LogGate riyaposmod$MODIFIER_LOG_LIMIT = LogGate.rateLimit(10, TimeUnit.SECONDS);
 
     @Shadow public abstract float getContainerModifier();
     
     @Unique
     private java.util.UUID riyaposmod$uniqueId;
+    @Unique
+    private VehicleProfile riyaposmod$vehicleProfile = VehicleProfile.DEFAULT;
+    @Unique
+    private int riyaposmod$vehicleProfileGeneration = -1;
 
     @Inject(method = "<init>", at = @At("RETURN"))
     private void onConstruct(CallbackInfo ci) {
         if (this.riyaposmod$uniqueId == null) {
             this.riyaposmod$uniqueId = java.util.UUID.randomUUID();
         }
+        riyaposmod$resolveVehicleProfile();
+    }
+
+    @Unique
+    private void riyaposmod$resolveVehicleProfile() {
+        this.riyaposmod$vehicleProfileGeneration = VehicleDataManager.getGeneration();
+        this.riyaposmod$vehicleProfile = VehicleDataManager.get(((ContainerShip)(Object)this).getType());
+    }
+
+    @Override
+    public VehicleProfile riyaposmod$getVehicleProfile() {
+        if (this.riyaposmod$vehicleProfileGeneration != VehicleDataManager.getGeneration()) {
+            riyaposmod$resolveVehicleProfile();
+        }
+        return this.riyaposmod$vehicleProfile;
     }
 
     @Inject(method = "addAdditionalSaveData", at = @At("RETURN"))
@@ -58,12 +87,61 @@ public abstract class ContainerShipMixin implements ContainerShipAccessor {
         return this.riyaposmod$uniqueId;
     }
 
+    // Cargo weight is cached here and only recomputed on the server after an inventory change or a weight data
+    // reload. The resulting load is published to clients by VehicleLoadSync, so getContainerModifier, which runs
+    // every movement tick on both sides, reads a synced byte instead of scanning the inventory
+    @Unique
+    private float riyaposmod$cargoWeight;
+    @Unique
+    private boolean riyaposmod$cargoDirty = true;
+    @Unique
+    private int riyaposmod$cargoDataGeneration;
+    @Unique
+    private byte riyaposmod$syncedLoad;
+
+    @Inject(method = {"setItem", "clearContent", "setChanged"}, at = @At("HEAD"))
+    private void riyaposmod$onInventoryChanged(CallbackInfo ci) {
+        riyaposmod$markCargoDirty();
+    }
+
+    @Inject(method = {"removeItem", "removeItemNoUpdate"}, at = @At("HEAD"))
+    private void riyaposmod$onItemRemoved(CallbackInfoReturnable<ItemStack> cir) {
+        riyaposmod$markCargoDirty();
+    }
+
+    @Unique
+    private void riyaposmod$markCargoDirty() {
+        this.riyaposmod$cargoDirty = true;
+        VehicleLoadSync.markDirty((ContainerShip)(Object)this);
+    }
+
+    @Override
+    public byte riyaposmod$getSyncedLoad() {
+        return this.riyaposmod$syncedLoad;
+    }
+
+    @Override
+    public void riyaposmod$setSyncedLoad(byte load) {
+        this.riyaposmod$syncedLoad = load;
+    }
+
+    @Override
+    public float riyaposmod$getCargoWeight() {
+        int generation = WeightDataManager.getDataGeneration();
+        if (this.riyaposmod$cargoDirty || this.riyaposmod$cargoDataGeneration != generation) {
+            this.riyaposmod$cargoDirty = false;
+            this.riyaposmod$cargoDataGeneration = generation;
+            this.riyaposmod$cargoWeight = ShipWeightHandler.getCurrentInventoryWeight((ContainerShip)(Object)this);
+        }
+        return this.riyaposmod$cargoWeight;
+    }
+
     @Inject(method = "getContainerModifier", at = @At("RETURN"), cancellable = true)
     private void modifyContainerModifier(CallbackInfoReturnable<Float> cir) {
+        long profileStart = HandlerProfiler.begin();
         ContainerShip ship = (ContainerShip)(Object)this;
-        String shipType = getShipType(ship);
-        float percentUsed = ShipWeightHandler.getCapacityPercent(shipType, ship);
-        float weightModifier = ShipWeightHandler.getSpeedModifier(percentUsed);
+        float percentUsed = ShipWeightHandler.getCapacityPercent(ship);
+        float weightModifier = ShipWeightHandler.getSpeedModifier(ship, percentUsed);
         
         // Convert from multiplier (1.0 - 0.0) to percentage reduction (0 - 100)
         float additionalModifier = (1.0f - weightModifier) * 100f;
@@ -72,25 +150,15 @@ public abstract class ContainerShipMixin implements ContainerShipAccessor {
         float finalModifier = cir.getReturnValue() + additionalModifier;
         
         // Debug logging
-        long now = System.currentTimeMillis();
-        if (now - lastLogTime >= 10_000L) {
-            LOGGER.debug("[ShipWeight] Type={} Load={}%, Base modifier: {}, Weight modifier: {}%, Final: {}%",
-                    shipType, String.format("%.1f", percentUsed * 100), 
-                    cir.getReturnValue(), additionalModifier, finalModifier);
-            lastLogTime = now;
+        if (riyaposmod$LOG.isDebugEnabled()) {
+            riyaposmod$LOG.debug(riyaposmod$MODIFIER_LOG_LIMIT, "Type={} Load={}%, Base modifier: {}, Weight modifier: {}%, Final: {}%",
+                    ship.getType(), percentUsed * 100, cir.getReturnValue(), additionalModifier, finalModifier);
         }
         
         cir.setReturnValue(finalModifier);
+        HandlerProfiler.end(ProfiledHandler.SHIP_CONTAINER_MODIFIER, profileStart, ship);
     }
     
-    private String getShipType(ContainerShip containerShip) {
-        if (containerShip instanceof CogEntity) return CogEntity.ID;
-        if (containerShip instanceof BriggEntity) return BriggEntity.ID;
-        if (containerShip instanceof GalleyEntity) return GalleyEntity.ID;
-        if (containerShip instanceof DrakkarEntity) return DrakkarEntity.ID;
-        return "unknown";
-    }
-
     @Inject(method = "openCustomInventoryScreen", at = @At("RETURN"))
     private void onOpenCustomInventoryScreen(Player player, CallbackInfo ci) {
         if (!player.level().isClientSide() && player instanceof ServerPlayer serverPlayer) {
@@ -2,9 +2,12 @@ package net.furyan.riyaposmod.mixin;
 
 import immersive_aircraft.entity.EngineVehicle;
 import immersive_aircraft.entity.InventoryVehicleEntity;
-import net.furyan.riyaposmod.weight.aircraft.AircraftUuidAccessor;
+import net.furyan.riyaposmod.util.log.LogCategory;
+import net.furyan.riyaposmod.util.log.LogGate;
+import net.furyan.riyaposmod.util.log.ModLog;
+import net.furyan.riyaposmod.util.profile.HandlerProfiler;
+import net.furyan.riyaposmod.util.profile.ProfiledHandler;
 import net.furyan.riyaposmod.weight.aircraft.AircraftWeightHandler;
-import net.minecraft.core.registries.BuiltInRegistries;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.Unique;
@@ -12,9 +15,7 @@ import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Mixin(value = EngineVehicle.class, remap = false) // remap = false as Immersive Aircraft is a mod
 public abstract class EngineVehicleMixin {
@@ -22,62 +23,49 @@ public abstract class EngineVehicleMixin {
     @Shadow public abstract float getEnginePower();
 
     @Unique
-    private static final Map<UUID, Long> riyaposmod$lastEngineLogTime = new HashMap<>();
+    private static final ModLog riyaposmod$LOG = ModLog.get(LogCategory.AIRCRAFT);
     @Unique
-    private static final long RIYAPOSMOD_LOG_COOLDOWN_MS = 5000; // Log every 5 seconds per aircraft
+    private static final LogGate riyaposmod$ENGINE_LOG_LIMIT = LogGate.rateLimit(5, TimeUnit.SECONDS);
+    @Unique
+    private static final LogGate riyaposmod$FUEL_LOG_LIMIT = LogGate.rateLimit(5, TimeUnit.SECONDS);
 
     @Inject(method = "getEnginePower", at = @At("RETURN"), cancellable = true)
     private void riyaposmod$modifyEnginePower(CallbackInfoReturnable<Float> cir) {
+        long profileStart = HandlerProfiler.begin();
         EngineVehicle self = (EngineVehicle)(Object)this;
         String side = self.level().isClientSide() ? "CLIENT" : "SERVER";
 
-        if (self instanceof InventoryVehicleEntity aircraftEntity && aircraftEntity instanceof AircraftUuidAccessor uuidAccessor) {
-            String identifier = BuiltInRegistries.ENTITY_TYPE.getKey(aircraftEntity.getType()).toString();
-            float percentUsed = AircraftWeightHandler.getCapacityPercent(identifier, aircraftEntity);
-            float performanceModifier = AircraftWeightHandler.getPerformanceModifier(percentUsed);
+        if (self instanceof InventoryVehicleEntity aircraftEntity) {
+            float performanceModifier = AircraftWeightHandler.getPerformanceModifier(aircraftEntity);
             
             float originalPower = cir.getReturnValue();
             cir.setReturnValue(originalPower * performanceModifier);
 
-            UUID aircraftUUID = uuidAccessor.riyaposmod$getUniqueId();
-            if (aircraftUUID != null) {
-                long currentTime = System.currentTimeMillis();
-                long lastLogTime = riyaposmod$lastEngineLogTime.getOrDefault(aircraftUUID, 0L);
-
-                if (currentTime - lastLogTime > RIYAPOSMOD_LOG_COOLDOWN_MS) {
-                    System.out.printf("[RiyaposMixin/%s/EnginePower] Aircraft: %s (UUID: %s), %%Used: %.2f, PerfMod: %.2f, OrigP: %.2f, NewP: %.2f%n", 
-                        side, identifier, aircraftUUID.toString(), percentUsed, performanceModifier, originalPower, originalPower * performanceModifier);
-                    riyaposmod$lastEngineLogTime.put(aircraftUUID, currentTime);
-                }
+            if (riyaposmod$LOG.isDebugEnabled()) {
+                riyaposmod$LOG.debug(riyaposmod$ENGINE_LOG_LIMIT, "[{}/EnginePower] Aircraft: {} (ID: {}), Used: {}, PerfMod: {}, OrigP: {}, NewP: {}",
+                    side, aircraftEntity.getType(), aircraftEntity.getId(), AircraftWeightHandler.getCapacityPercent(aircraftEntity), performanceModifier, originalPower, originalPower * performanceModifier);
             }
         }
+        HandlerProfiler.end(ProfiledHandler.AIRCRAFT_ENGINE_POWER, profileStart, self);
     }
 
     @Inject(method = "getFuelConsumption", at = @At("RETURN"), cancellable = true)
     private void riyaposmod$modifyFuelConsumption(CallbackInfoReturnable<Float> cir) {
+        long profileStart = HandlerProfiler.begin();
         EngineVehicle self = (EngineVehicle)(Object)this;
         String side = self.level().isClientSide() ? "CLIENT" : "SERVER";
 
-        if (self instanceof InventoryVehicleEntity aircraftEntity && aircraftEntity instanceof AircraftUuidAccessor uuidAccessor) {
-            String identifier = BuiltInRegistries.ENTITY_TYPE.getKey(aircraftEntity.getType()).toString();
-            float percentUsed = AircraftWeightHandler.getCapacityPercent(identifier, aircraftEntity);
-            float fuelModifier = AircraftWeightHandler.getFuelConsumptionModifier(percentUsed);
+        if (self instanceof InventoryVehicleEntity aircraftEntity) {
+            float fuelModifier = AircraftWeightHandler.getFuelConsumptionModifier(aircraftEntity);
 
             float originalConsumption = cir.getReturnValue();
             cir.setReturnValue(originalConsumption * fuelModifier);
 
-            UUID aircraftUUID = uuidAccessor.riyaposmod$getUniqueId();
-             if (aircraftUUID != null) { 
-                long currentTime = System.currentTimeMillis();
-                long lastLogTime = riyaposmod$lastEngineLogTime.getOrDefault(aircraftUUID, 0L);
-                boolean canLogFuel = currentTime - lastLogTime > RIYAPOSMOD_LOG_COOLDOWN_MS;
-
-                if (canLogFuel) { 
-                    System.out.printf("[RiyaposMixin/%s/FuelConsumption] Aircraft: %s (UUID: %s), %%Used: %.2f, FuelMod: %.2f, OrigC: %.2f, NewC: %.2f%n", 
-                        side, identifier, aircraftUUID.toString(), percentUsed, fuelModifier, originalConsumption, originalConsumption * fuelModifier);
-                    riyaposmod$lastEngineLogTime.put(aircraftUUID, currentTime); 
-                }
+            if (riyaposmod$LOG.isDebugEnabled()) {
+                riyaposmod$LOG.debug(riyaposmod$FUEL_LOG_LIMIT, "[{}/FuelConsumption] Aircraft: {} (ID: {}), Used: {}, FuelMod: {}, OrigC: {}, NewC: {}",
+                    side, aircraftEntity.getType(), aircraftEntity.getId(), AircraftWeightHandler.getCapacityPercent(aircraftEntity), fuelModifier, originalConsumption, originalConsumption * fuelModifier);
             }
         }
+        HandlerProfiler.end(ProfiledHandler.AIRCRAFT_FUEL_CONSUMPTION, profileStart, self);
     }
 } 
\ No newline at end of file
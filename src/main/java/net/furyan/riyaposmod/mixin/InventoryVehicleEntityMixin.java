@@ -1,15 +1,23 @@
 package net.furyan.riyaposmod.mixin;
 
 import immersive_aircraft.entity.InventoryVehicleEntity;
+import net.furyan.riyaposmod.util.log.LogCategory;
+import net.furyan.riyaposmod.util.log.ModLog;
+import net.furyan.riyaposmod.util.profile.HandlerProfiler;
+import net.furyan.riyaposmod.util.profile.ProfiledHandler;
+import net.furyan.riyaposmod.weight.aircraft.AircraftLoadAccessor;
 import net.furyan.riyaposmod.weight.aircraft.AircraftWeightHandler;
 import net.furyan.riyaposmod.weight.aircraft.AircraftWeightNotifier;
 import net.furyan.riyaposmod.weight.aircraft.AircraftUuidAccessor;
+import net.furyan.riyaposmod.weight.data.VehicleDataManager;
+import net.furyan.riyaposmod.weight.data.VehicleProfile;
+import net.furyan.riyaposmod.weight.data.VehicleProfileHolder;
+import net.furyan.riyaposmod.weight.data.WeightDataManager;
+import net.furyan.riyaposmod.weight.util.VehicleLoadHolder;
+import net.furyan.riyaposmod.weight.util.VehicleLoadSync;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.nbt.CompoundTag;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 
 import org.spongepowered.asm.mixin.Mixin;
@@ -19,19 +27,51 @@ import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 @Mixin(InventoryVehicleEntity.class)
-public class InventoryVehicleEntityMixin implements AircraftUuidAccessor {
+public class InventoryVehicleEntityMixin implements AircraftUuidAccessor, AircraftLoadAccessor, VehicleProfileHolder, VehicleLoadHolder {
+    @Unique
+    private static final ModLog riyaposmod$LOG = ModLog.get(LogCategory.AIRCRAFT);
     @Unique
     private UUID riyaposmod$uniqueId;
     @Unique
-    private static final Map<UUID, Long> riyaposmod$lastAircraftOpenTimestamps = new HashMap<>();
+    private VehicleProfile riyaposmod$vehicleProfile = VehicleProfile.DEFAULT;
+    @Unique
+    private int riyaposmod$vehicleProfileGeneration = -1;
+    @Unique
+    private byte riyaposmod$syncedLoad;
+
+    // Load state lives on the entity and goes away with it. Cargo weight is only recomputed on the server after
+    // an inventory change or a weight data reload; the engine modifiers are evaluated once per synced load change
+    // and shared by getEnginePower and getFuelConsumption
+    @Unique
+    private float riyaposmod$cargoWeight;
+    @Unique
+    private boolean riyaposmod$cargoDirty = true;
+    @Unique
+    private int riyaposmod$cargoDataGeneration;
+    @Unique
+    private int riyaposmod$modifierLoad = -1;
+    @Unique
+    private VehicleProfile riyaposmod$modifierProfile;
+    @Unique
+    private float riyaposmod$powerModifier = 1.0f;
+    @Unique
+    private float riyaposmod$fuelModifier = 1.0f;
+    @Unique
+    private int riyaposmod$lastThreshold = -1;
+    @Unique
+    private long riyaposmod$lastOpenNotifyTick = -1L;
     
     @Inject(method = "<init>", at = @At("RETURN"))
     private void riyaposmod$onConstruct(CallbackInfo ci) {
         InventoryVehicleEntity self = (InventoryVehicleEntity)(Object)this;
+        riyaposmod$resolveVehicleProfile();
+        if (self.getInventory() != null) {
+            self.getInventory().addListener(container -> riyaposmod$markCargoDirty());
+        }
         if (!self.level().isClientSide()) { // SERVER-SIDE ONLY for initial assignment
             if (this.riyaposmod$uniqueId == null) {
                 this.riyaposmod$uniqueId = UUID.randomUUID();
-                System.out.println("[RiyaposMixin/SERVER] Constructor: Assigned NEW UUID: " + this.riyaposmod$uniqueId + " to entity " + self.getId());
+                riyaposmod$LOG.debug("Assigned new UUID {} to aircraft {}", this.riyaposmod$uniqueId, self.getId());
             }
         } else {
             // Client-side instance. UUID will be synced via NBT or custom packet if needed by client logic beyond basic rendering.
@@ -40,6 +80,82 @@ public class InventoryVehicleEntityMixin implements AircraftUuidAccessor {
         }
     }
 
+    @Unique
+    private void riyaposmod$resolveVehicleProfile() {
+        this.riyaposmod$vehicleProfileGeneration = VehicleDataManager.getGeneration();
+        this.riyaposmod$vehicleProfile = VehicleDataManager.get(((InventoryVehicleEntity)(Object)this).getType());
+    }
+
+    @Override
+    public VehicleProfile riyaposmod$getVehicleProfile() {
+        if (this.riyaposmod$vehicleProfileGeneration != VehicleDataManager.getGeneration()) {
+            riyaposmod$resolveVehicleProfile();
+        }
+        return this.riyaposmod$vehicleProfile;
+    }
+
+    @Unique
+    private void riyaposmod$markCargoDirty() {
+        this.riyaposmod$cargoDirty = true;
+        VehicleLoadSync.markDirty((InventoryVehicleEntity)(Object)this);
+    }
+
+    @Override
+    public float riyaposmod$getCargoWeight() {
+        int generation = WeightDataManager.getDataGeneration();
+        if (this.riyaposmod$cargoDirty || this.riyaposmod$cargoDataGeneration != generation) {
+            this.riyaposmod$cargoDirty = false;
+            this.riyaposmod$cargoDataGeneration = generation;
+            this.riyaposmod$cargoWeight = AircraftWeightHandler.getCurrentInventoryWeight((InventoryVehicleEntity)(Object)this);
+        }
+        return this.riyaposmod$cargoWeight;
+    }
+
+    @Unique
+    private void riyaposmod$updateModifiers() {
+        int load = this.riyaposmod$syncedLoad & 0xFF;
+        VehicleProfile profile = riyaposmod$getVehicleProfile();
+        if (load != this.riyaposmod$modifierLoad || profile != this.riyaposmod$modifierProfile) {
+            float percentUsed = VehicleLoadSync.dequantize(this.riyaposmod$syncedLoad);
+            this.riyaposmod$modifierLoad = load;
+            this.riyaposmod$modifierProfile = profile;
+            this.riyaposmod$powerModifier = profile.power().apply(percentUsed);
+            this.riyaposmod$fuelModifier = profile.fuel().apply(percentUsed);
+        }
+    }
+
+    @Override
+    public float riyaposmod$getPowerModifier() {
+        riyaposmod$updateModifiers();
+        return this.riyaposmod$powerModifier;
+    }
+
+    @Override
+    public float riyaposmod$getFuelModifier() {
+        riyaposmod$updateModifiers();
+        return this.riyaposmod$fuelModifier;
+    }
+
+    @Override
+    public int riyaposmod$getLastThreshold() {
+        return this.riyaposmod$lastThreshold;
+    }
+
+    @Override
+    public void riyaposmod$setLastThreshold(int threshold) {
+        this.riyaposmod$lastThreshold = threshold;
+    }
+
+    @Override
+    public byte riyaposmod$getSyncedLoad() {
+        return this.riyaposmod$syncedLoad;
+    }
+
+    @Override
+    public void riyaposmod$setSyncedLoad(byte load) {
+        this.riyaposmod$syncedLoad = load;
+    }
+
     @Inject(method = "addAdditionalSaveData", at = @At("RETURN"))
     private void riyaposmod$saveUniqueId(CompoundTag tag, CallbackInfo ci) {
         // This is called server-side when saving.
@@ -47,7 +163,7 @@ public class InventoryVehicleEntityMixin implements AircraftUuidAccessor {
             tag.putUUID("RiyaposmodUniqueId", this.riyaposmod$uniqueId);
         } else {
             // Should not happen on server if constructor logic is correct.
-            System.err.println("[RiyaposMixin/SERVER/ERROR] Attempting to save null UUID for " + ((InventoryVehicleEntity)(Object)this).getId());
+            riyaposmod$LOG.error("Attempting to save null UUID for aircraft {}", ((InventoryVehicleEntity)(Object)this).getId());
         }
     }
 
@@ -55,6 +171,8 @@ public class InventoryVehicleEntityMixin implements AircraftUuidAccessor {
     private void riyaposmod$loadUniqueId(CompoundTag tag, CallbackInfo ci) {
         // This is called server-side when loading NBT, and client-side when entity data is synced.
         InventoryVehicleEntity self = (InventoryVehicleEntity)(Object)this;
+        // The inventory may have been read without notifying its listeners
+        this.riyaposmod$cargoDirty = true;
         String side = self.level().isClientSide() ? "CLIENT" : "SERVER";
 
         if (tag.hasUUID("RiyaposmodUniqueId")) {
@@ -65,7 +183,7 @@ public class InventoryVehicleEntityMixin implements AircraftUuidAccessor {
             if (!self.level().isClientSide()) {
                 // Assign a new one ONLY if on the server and it was missing (e.g. old entity).
                 this.riyaposmod$uniqueId = UUID.randomUUID();
-                System.err.println("[RiyaposMixin/SERVER] WARN: NBT missing RiyaposmodUniqueId for " + self.getId() + ", assigning new one: " + this.riyaposmod$uniqueId);
+                riyaposmod$LOG.warn("NBT missing RiyaposmodUniqueId for aircraft {}, assigning new one: {}", self.getId(), this.riyaposmod$uniqueId);
             } else {
                 // On client, if NBT from server didn't have it, it will be null.
                 // Client should not invent its own persistent UUID here if it's meant to match server.
@@ -80,57 +198,41 @@ public class InventoryVehicleEntityMixin implements AircraftUuidAccessor {
         if (this.riyaposmod$uniqueId == null) {
             if (!self.level().isClientSide()) {
                 // Server-side: Should have been set by constructor or NBT. This is an error.
-                System.err.println("[RiyaposMixin/SERVER/ERROR] riyaposmod$uniqueId was NULL in getUniqueId for server entity " + self.getId() + ". This is unexpected. Assigning temporary.");
+                riyaposmod$LOG.error("riyaposmod$uniqueId was NULL in getUniqueId for server aircraft {}. This is unexpected. Assigning temporary.", self.getId());
                 this.riyaposmod$uniqueId = UUID.randomUUID(); // Server should always have one after init.
-            } else {
-                // Client-side: If null (e.g. NBT not synced yet or server didn't send one),
-                // generate a transient UUID for this client instance. This allows client-side
-                // caching in AircraftWeightHandler to function using this temporary ID.
-                // This UUID will NOT match the server's authoritative UUID.
-                // System.out.println("[RiyaposMixin/CLIENT/INFO] riyaposmod$uniqueId was NULL for client entity " + self.getId() + ". Generating transient UUID for client-side caching.");
-                this.riyaposmod$uniqueId = UUID.randomUUID(); 
             }
+            // Client-side: stays null. Load is synced by entity id (VehicleLoadSync), so clients need no ID.
         }
         return this.riyaposmod$uniqueId;
     }
 
     @Inject(method = "openInventory", at = @At("RETURN"))
     private void riyaposmod$onOpenInventory(ServerPlayer player, CallbackInfo ci) {
+        long profileStart = HandlerProfiler.begin();
+        riyaposmod$notifyOpenInventory(player);
+        HandlerProfiler.end(ProfiledHandler.AIRCRAFT_OPEN_INVENTORY, profileStart, (InventoryVehicleEntity)(Object)this);
+    }
+
+    @Unique
+    private void riyaposmod$notifyOpenInventory(ServerPlayer player) {
         InventoryVehicleEntity aircraft = (InventoryVehicleEntity)(Object)this;
 
         if (aircraft.level().isClientSide()) {
             return;
         }
 
-        if (!(aircraft instanceof AircraftUuidAccessor uuidAccessor)) {
-            // This should not happen if the interface is correctly applied by this mixin.
-            System.err.println("[RiyaposMixin/InventoryOpen] ERROR: Aircraft " + aircraft.getId() + " does not implement AircraftUuidAccessor.");
-            return;
-        }
-        UUID uuid = uuidAccessor.riyaposmod$getUniqueId();
-        if (uuid == null) {
-            // Server entities should always have a UUID by this point.
-            System.err.println("[RiyaposMixin/InventoryOpen] ERROR: Server aircraft " + aircraft.getId() + " has null UUID.");
-            return;
-        }
-
-        long now = System.currentTimeMillis();
-        Long lastOpenTime = riyaposmod$lastAircraftOpenTimestamps.get(uuid);
-
+        long now = aircraft.level().getGameTime();
         // Cooldown check to prevent spam from multiple internal calls or rapid re-opens
-        if (lastOpenTime != null && (now - lastOpenTime < 1000)) { // 1-second cooldown
-            // System.out.printf("[RiyaposMixin/InventoryOpen] Cooldown hit for UUID: %s. Skipping notification.%n", uuid);
+        if (this.riyaposmod$lastOpenNotifyTick >= 0 && now - this.riyaposmod$lastOpenNotifyTick < 20) { // 1-second cooldown
             return;
-        } 
+        }
 
-        String identifier = BuiltInRegistries.ENTITY_TYPE.getKey(aircraft.getType()).toString();
-        // getCapacityPercent will use cached values if available, or calculate if necessary.
-        // It also handles calling notifyThresholdCrossed internally.
-        float percent = AircraftWeightHandler.getCapacityPercent(identifier, aircraft);
+        // The load last published by VehicleLoadSync, which also sends threshold-crossed messages
+        float percent = AircraftWeightHandler.getCapacityPercent(aircraft);
         
         // Send the specific "current status on open" message
         AircraftWeightNotifier.sendCurrentThresholdMessage(aircraft, player, percent);
-        
-        riyaposmod$lastAircraftOpenTimestamps.put(uuid, now);
+
+        this.riyaposmod$lastOpenNotifyTick = now;
     }
 }
@@ -0,0 +1,16 @@
+package net.furyan.riyaposmod.mixin;
+
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.players.PlayerList;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Invoker;
+
+/**
+ * Exposes PlayerList's protected per-player save so skills can be autosaved
+ * one player at a time instead of waiting for the full world save.
+ */
+@Mixin(PlayerList.class)
+public interface PlayerListInvoker {
+    @Invoker("save")
+    void riyaposmod$save(ServerPlayer player);
+}
@@ -6,8 +6,14 @@ import net.furyan.riyaposmod.faction.capability.IPlayerFaction;
 import net.furyan.riyaposmod.faction.capability.PlayerFactionProvider;
 import net.furyan.riyaposmod.network.packet.JoinFactionPacket;
 import net.furyan.riyaposmod.network.packet.SyncFactionDataPacket;
+import net.furyan.riyaposmod.network.packet.SyncVehicleDataPacket;
+import net.furyan.riyaposmod.network.packet.SyncVehicleLoadPacket;
 import net.furyan.riyaposmod.network.packet.SyncWeightDataPacket;
 import net.furyan.riyaposmod.network.packet.ClientboundSkillUpdatePacket;
+import net.furyan.riyaposmod.util.jfr.PacketFlushEvent;
+import net.furyan.riyaposmod.util.metrics.MeteredStreamCodec;
+import net.furyan.riyaposmod.util.profile.HandlerProfiler;
+import net.furyan.riyaposmod.util.profile.ProfiledHandler;
 import net.furyan.riyaposmod.weight.capability.IPlayerWeight;
 import net.furyan.riyaposmod.weight.capability.PlayerWeightProvider;
 import net.minecraft.core.HolderLookup;
@@ -62,28 +68,42 @@ public class ModNetworking {
         // Register the faction sync packet (server to client only)
         registrar.playToClient(
             SyncFactionDataPacket.TYPE,
-            SyncFactionDataPacket.STREAM_CODEC,
+            MeteredStreamCodec.of(SyncFactionDataPacket.TYPE, SyncFactionDataPacket.STREAM_CODEC),
             SyncFactionDataPacket::handle
         );
 
         // Register the weight sync packet (server to client only)
         registrar.playToClient(
             SyncWeightDataPacket.TYPE,
-            SyncWeightDataPacket.STREAM_CODEC,
+            MeteredStreamCodec.of(SyncWeightDataPacket.TYPE, SyncWeightDataPacket.STREAM_CODEC),
             SyncWeightDataPacket::handle
         );
 
+        // Register the vehicle data sync packet (server to client only)
+        registrar.playToClient(
+            SyncVehicleDataPacket.TYPE,
+            MeteredStreamCodec.of(SyncVehicleDataPacket.TYPE, SyncVehicleDataPacket.STREAM_CODEC),
+            SyncVehicleDataPacket::handle
+        );
+
+        // Register the vehicle load packet (server to client only)
+        registrar.playToClient(
+            SyncVehicleLoadPacket.TYPE,
+            MeteredStreamCodec.of(SyncVehicleLoadPacket.TYPE, SyncVehicleLoadPacket.STREAM_CODEC),
+            SyncVehicleLoadPacket::handle
+        );
+
         // Register the skills update packet (server to client only)
         registrar.playToClient(
             ClientboundSkillUpdatePacket.TYPE,
-            ClientboundSkillUpdatePacket.STREAM_CODEC,
+            MeteredStreamCodec.of(ClientboundSkillUpdatePacket.TYPE, ClientboundSkillUpdatePacket.STREAM_CODEC),
             ClientboundSkillUpdatePacket::handle
         );
 
         // Register client to server packets
         registrar.playToServer(
                 JoinFactionPacket.TYPE,
-                JoinFactionPacket.STREAM_CODEC,
+                MeteredStreamCodec.of(JoinFactionPacket.TYPE, JoinFactionPacket.STREAM_CODEC),
                 JoinFactionPacket::handle
         );
     }
@@ -156,6 +176,10 @@ public class ModNetworking {
      * This method is called periodically by the scheduler.
      */
     private static void processPendingSyncs() {
+        long profileStart = HandlerProfiler.begin();
+        PacketFlushEvent jfrEvent = new PacketFlushEvent();
+        jfrEvent.begin();
+        int[] packets = {0};
         try {
             long currentTime = System.currentTimeMillis();
 
@@ -170,6 +194,7 @@ public class ModNetworking {
                         ServerPlayer player = server.getPlayerList().getPlayer(playerId);
                         if (player != null && player.isAlive()) {
                             syncFactionDataToClient(player, PlayerFactionProvider.getPlayerFaction(player));
+                            packets[0]++;
                         }
                     }
                     return true; // Remove from pending syncs
@@ -179,6 +204,14 @@ public class ModNetworking {
         } catch (Exception e) {
             LOGGER.error("Error processing pending faction data syncs: {}", e.getMessage());
         }
+        jfrEvent.end();
+        // The scheduler runs every BATCH_DELAY_MS; skip empty flushes
+        if (packets[0] > 0 && jfrEvent.shouldCommit()) {
+            jfrEvent.queue = "faction_sync";
+            jfrEvent.packets = packets[0];
+            jfrEvent.commit();
+        }
+        HandlerProfiler.end(ProfiledHandler.NETWORK_FACTION_FLUSH, profileStart, null);
     }
 
     /**
@@ -186,6 +219,10 @@ public class ModNetworking {
      * This method is called periodically by the scheduler.
      */
     private static void processPendingWeightSyncs() {
+        long profileStart = HandlerProfiler.begin();
+        PacketFlushEvent jfrEvent = new PacketFlushEvent();
+        jfrEvent.begin();
+        int[] packets = {0};
         try {
             long currentTime = System.currentTimeMillis();
 
@@ -200,6 +237,7 @@ public class ModNetworking {
                         ServerPlayer player = server.getPlayerList().getPlayer(playerId);
                         if (player != null && player.isAlive()) {
                             syncWeightDataToClient(player, PlayerWeightProvider.getPlayerWeight(player));
+                            packets[0]++;
                         }
                     }
                     return true; // Remove from pending syncs
@@ -209,6 +247,14 @@ public class ModNetworking {
         } catch (Exception e) {
             LOGGER.error("Error processing pending weight data syncs: {}", e.getMessage());
         }
+        jfrEvent.end();
+        // The scheduler runs every BATCH_DELAY_MS; skip empty flushes
+        if (packets[0] > 0 && jfrEvent.shouldCommit()) {
+            jfrEvent.queue = "weight_sync";
+            jfrEvent.packets = packets[0];
+            jfrEvent.commit();
+        }
+        HandlerProfiler.end(ProfiledHandler.NETWORK_WEIGHT_FLUSH, profileStart, null);
     }
 
     /**
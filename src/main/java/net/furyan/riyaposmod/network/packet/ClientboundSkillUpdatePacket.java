@@ -1,38 +1,69 @@
 package net.furyan.riyaposmod.network.packet;
 
 import net.furyan.riyaposmod.RiyaposMod;
-import net.furyan.riyaposmod.client.events.SkillDisplayTickHandler; // We will create this shortly
-import net.furyan.riyaposmod.client.gui.SkillOverlayGui; // Added import
+import net.furyan.riyaposmod.client.events.SkillDisplayTickHandler;
+import net.furyan.riyaposmod.client.gui.SkillOverlayGui;
+import net.furyan.riyaposmod.skills.core.Skills;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.player.LocalPlayer;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.chat.Component;
-import net.minecraft.ChatFormatting; // Added for colors
-import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.ChatFormatting;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.resources.ResourceLocation;
 import net.neoforged.neoforge.network.handling.IPayloadContext;
 
-public record ClientboundSkillUpdatePacket(
-    String skillId,
-    int xpGained, // XP gained in this specific event, not total XP in skill
-    int newLevel, // Current level after this XP gain (if level up, otherwise current level)
-    long totalXpForSkill, // Total XP in this skill after this gain
-    boolean isLevelUp
-) implements CustomPacketPayload {
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Batched skill XP update sent once per aggregation window (see SkillXPAggregator).
+ * Each entry carries the skill ordinal, the XP gained during the window as a varint,
+ * and a level-up flag. The new level is only written when the flag is set.
+ */
+public record ClientboundSkillUpdatePacket(List<Entry> entries) implements CustomPacketPayload {
+
+    /**
+     * XP gained in one skill during a single aggregation window.
+     *
+     * @param skillOrdinal The ordinal of the skill in {@link Skills}
+     * @param xpGained XP gained in this window, not total XP in skill
+     * @param newLevel Level after this window (only meaningful when levelled up)
+     * @param isLevelUp Whether the skill levelled up during this window
+     */
+    public record Entry(int skillOrdinal, int xpGained, int newLevel, boolean isLevelUp) {}
 
     public static final CustomPacketPayload.Type<ClientboundSkillUpdatePacket> TYPE = 
         new CustomPacketPayload.Type<>(ResourceLocation.fromNamespaceAndPath(RiyaposMod.MOD_ID, "clientbound_skill_update_packet"));
 
-    public static final StreamCodec<RegistryFriendlyByteBuf, ClientboundSkillUpdatePacket> STREAM_CODEC = StreamCodec.composite(
-        ByteBufCodecs.STRING_UTF8, ClientboundSkillUpdatePacket::skillId,
-        ByteBufCodecs.INT, ClientboundSkillUpdatePacket::xpGained,
-        ByteBufCodecs.INT, ClientboundSkillUpdatePacket::newLevel,
-        ByteBufCodecs.VAR_LONG, ClientboundSkillUpdatePacket::totalXpForSkill,
-        ByteBufCodecs.BOOL, ClientboundSkillUpdatePacket::isLevelUp,
-        ClientboundSkillUpdatePacket::new
-    );
+    public static final StreamCodec<RegistryFriendlyByteBuf, ClientboundSkillUpdatePacket> STREAM_CODEC =
+        StreamCodec.of(ClientboundSkillUpdatePacket::write, ClientboundSkillUpdatePacket::read);
+
+    private static void write(RegistryFriendlyByteBuf buf, ClientboundSkillUpdatePacket packet) {
+        buf.writeVarInt(packet.entries().size());
+        for (Entry entry : packet.entries()) {
+            buf.writeByte(entry.skillOrdinal());
+            buf.writeVarInt(entry.xpGained());
+            buf.writeBoolean(entry.isLevelUp());
+            if (entry.isLevelUp()) {
+                buf.writeVarInt(entry.newLevel());
+            }
+        }
+    }
+
+    private static ClientboundSkillUpdatePacket read(RegistryFriendlyByteBuf buf) {
+        int size = buf.readVarInt();
+        List<Entry> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int skillOrdinal = buf.readUnsignedByte();
+            int xpGained = buf.readVarInt();
+            boolean isLevelUp = buf.readBoolean();
+            int newLevel = isLevelUp ? buf.readVarInt() : 0;
+            entries.add(new Entry(skillOrdinal, xpGained, newLevel, isLevelUp));
+        }
+        return new ClientboundSkillUpdatePacket(entries);
+    }
 
     @Override
     public CustomPacketPayload.Type<ClientboundSkillUpdatePacket> type() {
@@ -48,25 +79,34 @@ public record ClientboundSkillUpdatePacket(
                 return;
             }
 
-            if (packet.isLevelUp()) {
-                RiyaposMod.LOGGER.info("Client received LEVEL UP: {} to Lvl {}! Total XP: {}", packet.skillId(), packet.newLevel(), packet.totalXpForSkill());
-                
-                Component title = Component.literal("Level Up!").withStyle(ChatFormatting.GREEN);
-                
-                Component subtitle = Component.literal("Your ")
-                    .append(Component.literal(packet.skillId().substring(0, 1).toUpperCase() + packet.skillId().substring(1)).withStyle(ChatFormatting.DARK_GRAY))
-                    .append(Component.literal(" skill is now level " + packet.newLevel() + "!"));
-                
-                // Timings: 10 ticks fade-in, 70 ticks stay, 20 ticks fade-out
-                mc.gui.setTimes(10, 70, 20); // fadein, stay, fadeout
-                mc.gui.setTitle(title);
-                mc.gui.setSubtitle(subtitle);
-
-                SkillOverlayGui.triggerLevelUpFireworks(player);
-            } else if (packet.xpGained() > 0) {
-                RiyaposMod.LOGGER.info("Client received XP GAIN: +{} {} XP. Total XP: {}", packet.xpGained(), packet.skillId(), packet.totalXpForSkill());
-                SkillDisplayTickHandler.addXpGainMessage(packet.skillId(), packet.xpGained());
+            for (Entry entry : packet.entries()) {
+                Skills skill = Skills.byOrdinal(entry.skillOrdinal());
+                if (skill == null) {
+                    RiyaposMod.LOGGER.warn("Client received skill update for unknown skill ordinal {}", entry.skillOrdinal());
+                    continue;
+                }
+
+                if (entry.xpGained() > 0) {
+                    SkillDisplayTickHandler.addXpGainMessage(skill.getSkillName(), entry.xpGained());
+                }
+
+                if (entry.isLevelUp()) {
+                    RiyaposMod.LOGGER.info("Client received LEVEL UP: {} to Lvl {}!", skill.getSkillName(), entry.newLevel());
+
+                    Component title = Component.literal("Level Up!").withStyle(ChatFormatting.GREEN);
+
+                    Component subtitle = Component.literal("Your ")
+                        .append(Component.literal(skill.getSkillName()).withStyle(ChatFormatting.DARK_GRAY))
+                        .append(Component.literal(" skill is now level " + entry.newLevel() + "!"));
+
+                    // Timings: 10 ticks fade-in, 70 ticks stay, 20 ticks fade-out
+                    mc.gui.setTimes(10, 70, 20); // fadein, stay, fadeout
+                    mc.gui.setTitle(title);
+                    mc.gui.setSubtitle(subtitle);
+
+                    SkillOverlayGui.triggerLevelUpFireworks(player);
+                }
             }
         });
     }
-} 
\ No newline at end of file
+} 
@@ -0,0 +1,39 @@
+package net.furyan.riyaposmod.network.packet;
+
+import net.furyan.riyaposmod.RiyaposMod;
+import net.furyan.riyaposmod.weight.data.VehicleDataManager;
+import net.furyan.riyaposmod.weight.data.VehicleProfile;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sends the server's vehicle profiles to clients after login and after every datapack reload, so client-side
+ * vehicle physics use the same capacities and load curves as the server.
+ */
+public record SyncVehicleDataPacket(Map<ResourceLocation, VehicleProfile> profiles) implements CustomPacketPayload {
+
+    public static final CustomPacketPayload.Type<SyncVehicleDataPacket> TYPE =
+            new CustomPacketPayload.Type<>(ResourceLocation.fromNamespaceAndPath(RiyaposMod.MOD_ID, "vehicle_data_sync"));
+
+    public static final StreamCodec<FriendlyByteBuf, SyncVehicleDataPacket> STREAM_CODEC =
+            ByteBufCodecs.<FriendlyByteBuf, ResourceLocation, VehicleProfile, Map<ResourceLocation, VehicleProfile>>map(
+                    HashMap::new, ResourceLocation.STREAM_CODEC, VehicleProfile.STREAM_CODEC)
+                .map(SyncVehicleDataPacket::new, SyncVehicleDataPacket::profiles);
+
+    public static void handle(SyncVehicleDataPacket packet, IPayloadContext context) {
+        context.enqueueWork(() -> VehicleDataManager.applySynced(packet.profiles()));
+    }
+
+    @Override
+    public @NotNull Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,45 @@
+package net.furyan.riyaposmod.network.packet;
+
+import net.furyan.riyaposmod.RiyaposMod;
+import net.furyan.riyaposmod.weight.util.VehicleLoadHolder;
+import net.minecraft.client.Minecraft;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.Entity;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Carries a vehicle's quantized load fraction to the clients tracking it, so client-side movement uses the
+ * server's load instead of scanning the vehicle's inventory.
+ */
+public record SyncVehicleLoadPacket(int entityId, byte load) implements CustomPacketPayload {
+
+    public static final CustomPacketPayload.Type<SyncVehicleLoadPacket> TYPE =
+            new CustomPacketPayload.Type<>(ResourceLocation.fromNamespaceAndPath(RiyaposMod.MOD_ID, "vehicle_load_sync"));
+
+    public static final StreamCodec<FriendlyByteBuf, SyncVehicleLoadPacket> STREAM_CODEC = StreamCodec.composite(
+            ByteBufCodecs.VAR_INT, SyncVehicleLoadPacket::entityId,
+            ByteBufCodecs.BYTE, SyncVehicleLoadPacket::load,
+            SyncVehicleLoadPacket::new);
+
+    public static void handle(SyncVehicleLoadPacket packet, IPayloadContext context) {
+        context.enqueueWork(() -> {
+            if (Minecraft.getInstance().level == null) {
+                return;
+            }
+            Entity entity = Minecraft.getInstance().level.getEntity(packet.entityId());
+            if (entity instanceof VehicleLoadHolder holder) {
+                holder.riyaposmod$setSyncedLoad(packet.load());
+            }
+        });
+    }
+
+    @Override
+    public @NotNull Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
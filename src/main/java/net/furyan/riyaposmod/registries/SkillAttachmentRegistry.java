@@ -0,0 +1,42 @@
+package net.furyan.riyaposmod.registries;
+
+import net.furyan.riyaposmod.RiyaposMod;
+import net.furyan.riyaposmod.skills.core.SkillData;
+import net.furyan.riyaposmod.skills.world.PlacedBlockData;
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.neoforge.attachment.AttachmentType;
+import net.neoforged.neoforge.registries.DeferredHolder;
+import net.neoforged.neoforge.registries.DeferredRegister;
+import net.neoforged.neoforge.registries.NeoForgeRegistries;
+
+/**
+ * Registry for skill-related attachment types.
+ */
+public class SkillAttachmentRegistry {
+    // Create a DeferredRegister for attachment types
+    public static final DeferredRegister<AttachmentType<?>> ATTACHMENT_TYPES =
+            DeferredRegister.create(NeoForgeRegistries.ATTACHMENT_TYPES, RiyaposMod.MOD_ID);
+
+    // Register the attachment type for player skill data with serialization
+    public static final DeferredHolder<AttachmentType<?>, AttachmentType<SkillData>> PLAYER_SKILLS_ATTACHMENT =
+            ATTACHMENT_TYPES.register("player_skills", () ->
+                    AttachmentType.serializable(SkillData::new)
+                            .copyOnDeath()
+                            .build());
+
+    // Per-chunk bitsets of player-placed blocks, so re-breaking them grants no XP
+    public static final DeferredHolder<AttachmentType<?>, AttachmentType<PlacedBlockData>> PLACED_BLOCKS_ATTACHMENT =
+            ATTACHMENT_TYPES.register("placed_blocks", () ->
+                    AttachmentType.builder(PlacedBlockData::new)
+                            .serialize(PlacedBlockData.SERIALIZER)
+                            .build());
+
+    /**
+     * Registers all attachment types with the event bus.
+     *
+     * @param eventBus The mod event bus
+     */
+    public static void register(IEventBus eventBus) {
+        ATTACHMENT_TYPES.register(eventBus);
+    }
+}
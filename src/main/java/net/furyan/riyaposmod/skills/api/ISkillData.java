@@ -1,58 +1,117 @@
 package net.furyan.riyaposmod.skills.api;
 
-// import net.furyan.riyaposmod.skills.core.SkillEntry; // Commented out, SkillEntry is an inner class of SkillData
+import net.furyan.riyaposmod.skills.core.Skills;
+import net.furyan.riyaposmod.skills.util.SkillConstants;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.core.HolderLookup;
 import net.neoforged.neoforge.common.util.INBTSerializable;
 
-// import java.util.Map; // Commented out
-
 /**
  * Interface for player skill data.
  * Implementations of this interface will store and manage player skill levels and experience.
  */
 public interface ISkillData extends INBTSerializable<CompoundTag> {
 
-    int getSkillLevel(String skillName);
-    
-    void setSkillLevel(String skillName, int level);
+    int getSkillLevel(Skills skill);
+
+    void setSkillLevel(Skills skill, int level);
 
     /**
      * Gets the current experience points towards the next level for the specified skill.
-     * @param skillName The name of the skill.
+     * @param skill The skill.
      * @return Experience points towards the next level.
      */
-    int getSkillExp(String skillName);
+    int getSkillExp(Skills skill);
 
     /**
      * Gets the total accumulated experience points for the specified skill.
-     * @param skillName The name of the skill.
+     * @param skill The skill.
      * @return Total accumulated experience points.
      */
-    long getSkillTotalExp(String skillName);
-
-    // Map<String, SkillEntry> getSkills(); // Commented out - SkillEntry is an inner class of SkillData
+    long getSkillTotalExp(Skills skill);
 
     /**
      * Sets the experience towards the next level for a skill.
      * This primarily recalculates total XP based on current level and this new XP within the level.
      * Prefer addSkillExp for normal XP gain, or setSkillTotalExp for direct total XP manipulation.
      */
-    void setSkillExp(String skillName, int amount);
+    void setSkillExp(Skills skill, int amount);
 
     /**
      * Sets the total accumulated experience for a skill and recalculates level and current XP towards next level.
-     * @param skillName The name of the skill.
+     * @param skill The skill.
      * @param totalExperience The total experience points.
      */
-    void setSkillTotalExp(String skillName, long totalExperience);
+    void setSkillTotalExp(Skills skill, long totalExperience);
 
     /**
      * Adds experience to the specified skill, handling level ups.
-     * @param skillName The name of the skill.
+     * @param skill The skill.
      * @param amount The amount of experience to add.
      */
-    void addSkillExp(String skillName, int amount);
+    void addSkillExp(Skills skill, int amount);
+
+    // String-keyed variants, kept for callers that only have a skill name.
+    // Unknown names read as a fresh skill and writes to them are ignored.
+
+    default int getSkillLevel(String skillName) {
+        Skills skill = Skills.fromName(skillName);
+        return skill != null ? getSkillLevel(skill) : SkillConstants.MIN_SKILL_LEVEL;
+    }
+
+    default void setSkillLevel(String skillName, int level) {
+        Skills skill = Skills.fromName(skillName);
+        if (skill != null) setSkillLevel(skill, level);
+    }
+
+    default int getSkillExp(String skillName) {
+        Skills skill = Skills.fromName(skillName);
+        return skill != null ? getSkillExp(skill) : 0;
+    }
+
+    default long getSkillTotalExp(String skillName) {
+        Skills skill = Skills.fromName(skillName);
+        return skill != null ? getSkillTotalExp(skill) : 0L;
+    }
+
+    default void setSkillExp(String skillName, int amount) {
+        Skills skill = Skills.fromName(skillName);
+        if (skill != null) setSkillExp(skill, amount);
+    }
+
+    default void setSkillTotalExp(String skillName, long totalExperience) {
+        Skills skill = Skills.fromName(skillName);
+        if (skill != null) setSkillTotalExp(skill, totalExperience);
+    }
+
+    default void addSkillExp(String skillName, int amount) {
+        Skills skill = Skills.fromName(skillName);
+        if (skill != null) addSkillExp(skill, amount);
+    }
+
+    /**
+     * Gets the player's current XP multiplier for a skill. Multipliers are derived state and
+     * are not saved; see SkillXPMultipliers.
+     * @param skill The skill.
+     * @return The multiplier, 1.0 when no sources apply.
+     */
+    float getXpMultiplier(Skills skill);
+
+    /**
+     * Replaces the XP multiplier vector.
+     * @param multipliers One multiplier per skill, indexed by ordinal. Not copied.
+     */
+    void setXpMultipliers(float[] multipliers);
+
+    /**
+     * @return Whether the data has changed since the player's data was last written to disk.
+     */
+    boolean isDirty();
+
+    /**
+     * Clears the dirty flag. Called once the player's data has been written to disk.
+     */
+    void markSaved();
 
     /**
      * Serializes the skill data to NBT.
@@ -22,7 +22,7 @@ public class SkillCapabilities {
         event.registerEntity(
             SkillCapabilities.PLAYER_SKILLS,
             EntityType.PLAYER,
-            new SkillDataProvider() // This provider handles NBT and gives the ISkillData instance
+            new SkillDataProvider() // Returns the player's own skill attachment
         );
     }
 } 
\ No newline at end of file
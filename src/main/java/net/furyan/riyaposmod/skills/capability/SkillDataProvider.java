@@ -1,20 +1,25 @@
 package net.furyan.riyaposmod.skills.capability;
 
+import net.furyan.riyaposmod.registries.SkillAttachmentRegistry;
 import net.furyan.riyaposmod.skills.api.ISkillData;
-import net.furyan.riyaposmod.skills.core.SkillData;
 import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.player.Player;
 import net.neoforged.neoforge.capabilities.ICapabilityProvider;
 import org.jetbrains.annotations.Nullable;
 
-
+/**
+ * Exposes each player's skill attachment through the PLAYER_SKILLS capability.
+ * The data itself lives on the player (see SkillAttachmentRegistry), so one provider
+ * instance can safely serve every player.
+ */
 public class SkillDataProvider implements ICapabilityProvider<Entity, Void, ISkillData> {
 
-    private final ISkillData skills = new SkillData();
-
-
     @Nullable
     @Override
     public ISkillData getCapability(Entity entity, @Nullable Void context) {
-        return skills;
+        if (entity instanceof Player player) {
+            return player.getData(SkillAttachmentRegistry.PLAYER_SKILLS_ATTACHMENT);
+        }
+        return null;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,51 @@
+package net.furyan.riyaposmod.skills.config;
+
+import net.furyan.riyaposmod.skills.util.SkillConstants;
+import net.furyan.riyaposmod.skills.util.SkillCurve;
+
+/**
+ * One curve definition from curves.json. Either a formula ("type": "formula") using the
+ * RuneScape-style parameters, or an explicit table ("type": "table") of total XP per level
+ * starting at level 1.
+ */
+public class SkillCurveConfigEntry {
+    public String type = "formula";
+    public int max_level = SkillConstants.MAX_SKILL_LEVEL;
+    public double base = 300.0;
+    public double exponent_divisor = 7.0;
+    public double scale = 4.0;
+    public long[] thresholds;
+
+    public SkillCurveConfigEntry() {
+        // Default constructor for Gson
+    }
+
+    /**
+     * Compiles this entry into a lookup table.
+     * @throws IllegalArgumentException if the entry is invalid.
+     */
+    public SkillCurve compile() {
+        if ("table".equalsIgnoreCase(type)) {
+            if (thresholds == null || thresholds.length == 0) {
+                throw new IllegalArgumentException("table curve needs a non-empty 'thresholds' array");
+            }
+            return SkillCurve.table(thresholds);
+        }
+        if (type == null || "formula".equalsIgnoreCase(type)) {
+            return SkillCurve.formula(max_level, base, exponent_divisor, scale);
+        }
+        throw new IllegalArgumentException("unknown curve type '" + type + "'");
+    }
+
+    @Override
+    public String toString() {
+        return "SkillCurveConfigEntry{" +
+                "type='" + type + '\'' +
+                ", max_level=" + max_level +
+                ", base=" + base +
+                ", exponent_divisor=" + exponent_divisor +
+                ", scale=" + scale +
+                ", thresholds=" + (thresholds == null ? "null" : thresholds.length + " levels") +
+                '}';
+    }
+}
@@ -0,0 +1,79 @@
+package net.furyan.riyaposmod.skills.config;
+
+import net.furyan.riyaposmod.skills.core.Skills;
+import net.furyan.riyaposmod.skills.dispatcher.ActionType;
+import net.furyan.riyaposmod.skills.util.SkillConstants;
+
+/**
+ * One entry from a per-skill XP file such as mining_xp.json or melee_xp.json.
+ * The skill is implied by the file name. Entries look like
+ * {"action": "entity_kill", "key": "minecraft:zombie", "xp": 10}. Block-break entries may add
+ * "required_level" to stop players below that level from breaking the block; such entries may
+ * set "xp" to 0 to gate the block without granting any XP for it.
+ * A key should appear in only one skill's file per action: each key grants a single skill.
+ * The legacy mining format {"block_id": "...", "base_xp": N} is still accepted
+ * and treated as a block_break entry.
+ */
+public class SkillXPConfigEntry {
+    public String action;
+    public String key; // An id, or a tag prefixed with '#' (e.g. "#c:ores")
+    public int xp;
+    public int required_level; // Optional, block_break only: minimum level in this skill to break the block
+
+    // Legacy mining fields
+    public String block_id;
+    public int base_xp;
+
+    // Future fields:
+    // public Map<String, Integer> tool_level_bonus; // e.g. {"diamond": 2, "netherite": 3}
+    // public double silk_touch_multiplier;
+
+    public SkillXPConfigEntry() {
+        // Default constructor for Gson
+    }
+
+    /**
+     * Converts this entry into a rule for the given skill.
+     * @throws IllegalArgumentException if the entry is invalid.
+     */
+    public SkillXPRule toRule(Skills skill) {
+        ActionType actionType;
+        String ruleKey;
+        int ruleXp;
+        if (action == null && block_id != null) {
+            actionType = ActionType.BLOCK_BREAK;
+            ruleKey = block_id;
+            ruleXp = base_xp;
+        } else {
+            actionType = ActionType.fromConfigName(action);
+            if (actionType == null) {
+                throw new IllegalArgumentException("unknown action '" + action + "'");
+            }
+            ruleKey = key;
+            ruleXp = xp;
+        }
+        if (ruleKey == null || ruleKey.isBlank()) {
+            throw new IllegalArgumentException("missing key");
+        }
+        if (required_level < 0 || required_level > SkillConstants.MAX_SUPPORTED_LEVEL) {
+            throw new IllegalArgumentException("required_level must be between 0 and " + SkillConstants.MAX_SUPPORTED_LEVEL + ", got " + required_level);
+        }
+        // A level-gated block doesn't have to grant XP as well
+        int minXp = actionType == ActionType.BLOCK_BREAK && required_level > 0 ? 0 : 1;
+        if (ruleXp < minXp || ruleXp > SkillXPTable.MAX_XP) {
+            throw new IllegalArgumentException("xp must be between " + minXp + " and " + SkillXPTable.MAX_XP + ", got " + ruleXp);
+        }
+        return new SkillXPRule(skill, actionType, ruleKey.trim(), ruleXp, required_level);
+    }
+
+    @Override
+    public String toString() {
+        return "SkillXPConfigEntry{" +
+                "action='" + action + '\'' +
+                ", key='" + key + '\'' +
+                ", xp=" + xp +
+                ", required_level=" + required_level +
+                (block_id != null ? ", block_id='" + block_id + "', base_xp=" + base_xp : "") +
+                '}';
+    }
+}
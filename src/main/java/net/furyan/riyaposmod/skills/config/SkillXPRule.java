@@ -0,0 +1,20 @@
+package net.furyan.riyaposmod.skills.config;
+
+import net.furyan.riyaposmod.skills.core.Skills;
+import net.furyan.riyaposmod.skills.dispatcher.ActionType;
+
+/**
+ * A validated (action, key) → (skill, xp) mapping, before it is resolved against registries.
+ *
+ * @param skill The skill that gains XP
+ * @param action The action that triggers the gain
+ * @param key An id, or a tag prefixed with '#'
+ * @param xp The XP granted
+ * @param requiredLevel Minimum level in the skill to break the block (block_break only), 0 for none
+ */
+public record SkillXPRule(Skills skill, ActionType action, String key, int xp, int requiredLevel) {
+
+    public boolean isTag() {
+        return key.startsWith("#");
+    }
+}
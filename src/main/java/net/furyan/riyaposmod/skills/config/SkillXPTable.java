@@ -0,0 +1,261 @@
+package net.furyan.riyaposmod.skills.config;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMaps;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.furyan.riyaposmod.RiyaposMod;
+import net.furyan.riyaposmod.skills.core.Skills;
+import net.furyan.riyaposmod.skills.dispatcher.ActionType;
+import net.minecraft.core.Holder;
+import net.minecraft.core.HolderSet;
+import net.minecraft.core.Registry;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.CropBlock;
+import net.minecraft.world.level.block.state.BlockState;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.ToIntFunction;
+
+/**
+ * All skill XP rules resolved against the registries and current tags into flat tables, so
+ * every XP-granting event costs a single array read (or one hash lookup for spells).
+ * <p>
+ * Each table slot holds a packed int: the skill ordinal in the top 8 bits and the XP in the
+ * low 24 bits, with 0 meaning "no XP". Use {@link #skillOf(int)} and {@link #xpOf(int)} to unpack.
+ * <p>
+ * Block-break rules with a required level also compile into a per-state requirement table,
+ * packed the same way with the level in place of the XP, so the break-speed check that runs
+ * every tick while mining is a single array read.
+ * <p>
+ * Precedence within an action is deterministic: a direct id always wins over tags. Among tags,
+ * the one with the fewest members (the most specific) wins, and ties go to the
+ * lexicographically smallest tag id.
+ * <p>
+ * Each key grants XP to a single skill. If direct ids in two skill files name the same key for
+ * the same action, the file loaded last wins and a warning is logged.
+ * <p>
+ * Instances are immutable once compiled.
+ */
+public final class SkillXPTable {
+
+    public static final int MAX_XP = 0xFFFFFF;
+    public static final SkillXPTable EMPTY = new SkillXPTable(new int[0], new int[0], new int[0], new int[0], new int[0], new int[0],
+            Object2IntMaps.emptyMap(), new int[0]);
+
+    private final int[] blockBreakByState;
+    private final int[] blockRequirementByState;
+    private final int[] cropHarvestByState;
+    private final int[] entityKillByType;
+    private final int[] itemCraftedById;
+    private final int[] itemFishedById;
+    private final Object2IntMap<String> spellCastById;
+    private final int[] distanceByVehicleType;
+
+    private SkillXPTable(int[] blockBreakByState, int[] blockRequirementByState, int[] cropHarvestByState, int[] entityKillByType, int[] itemCraftedById,
+                         int[] itemFishedById, Object2IntMap<String> spellCastById, int[] distanceByVehicleType) {
+        this.blockBreakByState = blockBreakByState;
+        this.blockRequirementByState = blockRequirementByState;
+        this.cropHarvestByState = cropHarvestByState;
+        this.entityKillByType = entityKillByType;
+        this.itemCraftedById = itemCraftedById;
+        this.itemFishedById = itemFishedById;
+        this.spellCastById = spellCastById;
+        this.distanceByVehicleType = distanceByVehicleType;
+    }
+
+    public static int pack(Skills skill, int xp) {
+        return (skill.ordinal() << 24) | (xp & MAX_XP);
+    }
+
+    public static Skills skillOf(int packed) {
+        return Skills.byOrdinal(packed >>> 24);
+    }
+
+    public static int xpOf(int packed) {
+        return packed & MAX_XP;
+    }
+
+    private static int read(int[] table, int id) {
+        return id >= 0 && id < table.length ? table[id] : 0;
+    }
+
+    public int blockBreak(BlockState state) {
+        return read(blockBreakByState, Block.getId(state));
+    }
+
+    /**
+     * @return The packed skill and required level (read with {@link #xpOf(int)}) to break the state, or 0 if unrestricted.
+     */
+    public int blockRequirement(BlockState state) {
+        return read(blockRequirementByState, Block.getId(state));
+    }
+
+    public int cropHarvested(BlockState state) {
+        return read(cropHarvestByState, Block.getId(state));
+    }
+
+    public int entityKill(EntityType<?> type) {
+        return read(entityKillByType, BuiltInRegistries.ENTITY_TYPE.getId(type));
+    }
+
+    public int itemCrafted(Item item) {
+        return read(itemCraftedById, BuiltInRegistries.ITEM.getId(item));
+    }
+
+    public int itemFished(Item item) {
+        return read(itemFishedById, BuiltInRegistries.ITEM.getId(item));
+    }
+
+    public int spellCast(String spellId) {
+        return spellCastById.getInt(spellId);
+    }
+
+    public int distanceTravelled(EntityType<?> vehicleType) {
+        return read(distanceByVehicleType, BuiltInRegistries.ENTITY_TYPE.getId(vehicleType));
+    }
+
+    /**
+     * Resolves rules into lookup tables. Must be called after tags are bound.
+     */
+    public static SkillXPTable compile(List<SkillXPRule> rules) {
+        int[] blockBreak = expandToStates(compileRegistry(BuiltInRegistries.BLOCK, rules, ActionType.BLOCK_BREAK, XP_VALUE, "XP"), false);
+        int[] blockRequirement = expandToStates(compileRegistry(BuiltInRegistries.BLOCK, rules, ActionType.BLOCK_BREAK, REQUIREMENT_VALUE, "required level"), false);
+        int[] cropHarvest = expandToStates(compileRegistry(BuiltInRegistries.BLOCK, rules, ActionType.CROP_HARVESTED, XP_VALUE, "XP"), true);
+        int[] entityKill = compileRegistry(BuiltInRegistries.ENTITY_TYPE, rules, ActionType.ENTITY_KILL, XP_VALUE, "XP");
+        int[] itemCrafted = compileRegistry(BuiltInRegistries.ITEM, rules, ActionType.ITEM_CRAFTED, XP_VALUE, "XP");
+        int[] itemFished = compileRegistry(BuiltInRegistries.ITEM, rules, ActionType.ITEM_FISHED, XP_VALUE, "XP");
+        int[] distance = compileRegistry(BuiltInRegistries.ENTITY_TYPE, rules, ActionType.DISTANCE_TRAVELLED, XP_VALUE, "XP");
+
+        // Spells live in Iron's Spellbooks' own registry; key them by id so we don't depend on it being loaded
+        Object2IntOpenHashMap<String> spells = new Object2IntOpenHashMap<>();
+        for (SkillXPRule rule : rules) {
+            if (rule.action() != ActionType.SPELL_CAST) {
+                continue;
+            }
+            if (rule.isTag()) {
+                RiyaposMod.LOGGER.warn("Tags are not supported for spell_cast XP ({}). Skipping.", rule.key());
+                continue;
+            }
+            int previous = spells.put(rule.key(), pack(rule.skill(), rule.xp()));
+            if (previous != 0 && skillOf(previous) != rule.skill()) {
+                warnSkillConflict(rule, skillOf(previous), "XP");
+            }
+        }
+        spells.trim();
+
+        return new SkillXPTable(blockBreak, blockRequirement, cropHarvest, entityKill, itemCrafted, itemFished, spells, distance);
+    }
+
+    // A gate-only rule (xp 0) still writes 0, so a direct id can drop a tag's (or its own skill's) XP while keeping the gate
+    private static final ToIntFunction<SkillXPRule> XP_VALUE = rule -> rule.xp() > 0 ? pack(rule.skill(), rule.xp()) : 0;
+    // A rule without a requirement still writes 0, so a direct id can lift a tag's (or its own skill's) requirement
+    private static final ToIntFunction<SkillXPRule> REQUIREMENT_VALUE = rule ->
+            rule.requiredLevel() > 0 ? pack(rule.skill(), rule.requiredLevel()) : 0;
+
+    /**
+     * Resolves the rules for one action against a registry into a table indexed by registry id.
+     * @param value Computes the table value for a rule
+     * @param valueName What the value is, for conflict warnings
+     */
+    private static <T> int[] compileRegistry(Registry<T> registry, List<SkillXPRule> rules, ActionType action, ToIntFunction<SkillXPRule> value,
+                                             String valueName) {
+        int[] table = new int[registry.size()];
+        // The skill whose direct rule last wrote each slot, or null if a tag (or nothing) did
+        Skills[] directSkill = new Skills[registry.size()];
+
+        List<TagRule<T>> tagRules = new ArrayList<>();
+        List<SkillXPRule> directRules = new ArrayList<>();
+
+        for (SkillXPRule rule : rules) {
+            if (rule.action() != action) {
+                continue;
+            }
+            if (rule.isTag()) {
+                ResourceLocation tagId = ResourceLocation.tryParse(rule.key().substring(1));
+                if (tagId == null) {
+                    RiyaposMod.LOGGER.warn("Invalid tag '{}' in {} XP config. Skipping.", rule.key(), action.getConfigName());
+                    continue;
+                }
+                Optional<HolderSet.Named<T>> tag = registry.getTag(TagKey.create(registry.key(), tagId));
+                if (tag.isEmpty()) {
+                    RiyaposMod.LOGGER.debug("{} XP tag '{}' has no members.", action.getConfigName(), rule.key());
+                    continue;
+                }
+                tagRules.add(new TagRule<>(tagId, tag.get(), rule));
+            } else {
+                directRules.add(rule);
+            }
+        }
+
+        // Apply the least specific tags first so more specific ones overwrite them
+        tagRules.sort(Comparator.comparingInt((TagRule<T> tagRule) -> tagRule.members().size()).reversed()
+                .thenComparing(TagRule<T>::id, Comparator.reverseOrder()));
+        for (TagRule<T> tagRule : tagRules) {
+            int packed = value.applyAsInt(tagRule.rule());
+            for (Holder<T> holder : tagRule.members()) {
+                table[registry.getId(holder.value())] = packed;
+            }
+        }
+
+        // Direct ids always take precedence over tags
+        for (SkillXPRule rule : directRules) {
+            ResourceLocation id = ResourceLocation.tryParse(rule.key());
+            Optional<T> resolved = id == null ? Optional.empty() : registry.getOptional(id);
+            if (resolved.isEmpty()) {
+                RiyaposMod.LOGGER.warn("Unknown id '{}' in {} XP config. Skipping.", rule.key(), action.getConfigName());
+                continue;
+            }
+            int id = registry.getId(resolved.get());
+            int packed = value.applyAsInt(rule);
+            Skills previous = directSkill[id];
+            if (previous != null && previous != rule.skill() && table[id] != 0) {
+                if (packed == 0) {
+                    // A 0 only clears a tag or the same skill, so one skill's XP-only rule can't drop another's gate
+                    continue;
+                }
+                warnSkillConflict(rule, previous, valueName);
+            }
+            table[id] = packed;
+            directSkill[id] = rule.skill();
+        }
+
+        return table;
+    }
+
+    /**
+     * Converts a table indexed by block registry id into one indexed by block-state id.
+     * @param matureOnly If true, states of a {@link CropBlock} that are not fully grown get no XP.
+     */
+    private static int[] expandToStates(int[] byBlockId, boolean matureOnly) {
+        int[] byState = new int[Block.BLOCK_STATE_REGISTRY.size()];
+        for (int blockId = 0; blockId < byBlockId.length; blockId++) {
+            int packed = byBlockId[blockId];
+            if (packed == 0) {
+                continue;
+            }
+            Block block = BuiltInRegistries.BLOCK.byId(blockId);
+            for (BlockState state : block.getStateDefinition().getPossibleStates()) {
+                if (matureOnly && block instanceof CropBlock crop && !crop.isMaxAge(state)) {
+                    continue;
+                }
+                byState[Block.getId(state)] = packed;
+            }
+        }
+        return byState;
+    }
+
+    private static void warnSkillConflict(SkillXPRule rule, Skills overwritten, String valueName) {
+        RiyaposMod.LOGGER.warn("{} {} for '{}' is configured for both {} and {}; using {}. A key can only grant one skill.",
+                rule.action().getConfigName(), valueName, rule.key(), overwritten, rule.skill(), rule.skill());
+    }
+
+    private record TagRule<T>(ResourceLocation id, HolderSet.Named<T> members, SkillXPRule rule) {}
+}
@@ -1,105 +1,260 @@
 package net.furyan.riyaposmod.skills.config;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
 import com.google.gson.reflect.TypeToken;
 import net.furyan.riyaposmod.RiyaposMod;
-import net.minecraft.resources.ResourceLocation;
-import net.minecraft.world.level.block.Block;
-import net.minecraft.tags.TagKey;
-import net.minecraft.core.registries.BuiltInRegistries;
-
-
-import java.io.FileReader;
+import net.furyan.riyaposmod.skills.core.Skills;
+import net.furyan.riyaposmod.skills.dispatcher.SkillXPMultipliers;
+import net.furyan.riyaposmod.skills.util.SkillCurve;
+import net.furyan.riyaposmod.skills.util.SkillCurves;
 
+import java.io.IOException;
 import java.io.Reader;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Loads the skill XP configs from config/riyaposmod/skills_xp.
+ * <p>
+ * Parsing only produces an immutable {@link Snapshot}; nothing that block-break handlers read
+ * is mutated in place. At startup the snapshot is installed directly, and a file that cannot
+ * be read falls back to its defaults. For hot reloads, {@link XPConfigWatcher} parses on a
+ * background thread and queues the snapshot here, and the server thread compiles and swaps it
+ * in on the next tick via {@link #applyPendingReload()}. A hot reload with an unreadable file
+ * is rejected as a whole, so a half-saved file never replaces a working config.
+ */
 public class XPConfigLoader {
 
     private static final Gson GSON = new Gson();
     private static final String CONFIG_DIR_NAME = "riyaposmod/skills_xp";
-    private static final Path CONFIG_PATH = Paths.get("config").resolve(CONFIG_DIR_NAME);
+    static final Path CONFIG_PATH = Paths.get("config").resolve(CONFIG_DIR_NAME);
+
+    /**
+     * Everything parsed and compiled from one pass over the config directory.
+     *
+     * @param curves One compiled curve per skill, indexed by ordinal
+     * @param xpRules Validated rules from every per-skill XP file. They are resolved against tags
+     *                when installed, on the server thread, so a table is never compiled from stale tags.
+     * @param multipliers XP multiplier sources
+     */
+    public record Snapshot(SkillCurve[] curves, List<SkillXPRule> xpRules, XPMultiplierConfig multipliers) {}
+
+    @FunctionalInterface
+    private interface ConfigReader<T> {
+        T read() throws IOException;
+    }
 
-    // We will store parsed configs here. 
-    // For mining: Map<Block ResourceLocation OR Tag String, MiningXPConfigEntry>
-    // Using String as key for simplicity to hold either "minecraft:stone" or "#forge:ores"
-    private static final Map<String, MiningXPConfigEntry> miningXPConfig = new HashMap<>();
+    // Rules from the installed snapshot (immutable list)
+    private static volatile List<SkillXPRule> xpRules = List.of();
+    // Resolved lookup tables; rebuilt on config load and tag reload
+    private static volatile SkillXPTable xpTable = SkillXPTable.EMPTY;
+    private static volatile XPMultiplierConfig multipliers = XPMultiplierConfig.EMPTY;
+    // Parsed off-thread by the watcher, compiled and installed on the server thread
+    private static final AtomicReference<Snapshot> pendingSnapshot = new AtomicReference<>();
 
     public static void loadAllConfigs() {
         RiyaposMod.LOGGER.info("Loading skill XP configurations...");
         try {
             Files.createDirectories(CONFIG_PATH);
-            loadMiningXPConfig();
-            // Future: Call loaders for other skills here
         } catch (Exception e) {
             RiyaposMod.LOGGER.error("Failed to create or access skill XP config directory: " + CONFIG_PATH, e);
         }
+        SkillCurve[] curves = readOrDefault("skill curve", XPConfigLoader::loadSkillCurves, SkillCurves.defaults());
+        List<SkillXPRule> rules = new ArrayList<>();
+        for (Skills skill : Skills.values()) {
+            rules.addAll(readOrDefault(skill.getSkillName() + " XP", () -> loadSkillXPConfig(skill), List.of()));
+        }
+        XPMultiplierConfig multiplierConfig = readOrDefault("XP multiplier", XPConfigLoader::loadMultipliers, XPMultiplierConfig.EMPTY);
+        install(new Snapshot(curves, List.copyOf(rules), multiplierConfig));
         RiyaposMod.LOGGER.info("Skill XP configurations loaded.");
     }
 
-    private static void loadMiningXPConfig() {
-        Path miningConfigPath = CONFIG_PATH.resolve("mining_xp.json");
-        miningXPConfig.clear();
+    private static <T> T readOrDefault(String name, ConfigReader<T> reader, T fallback) {
+        try {
+            return reader.read();
+        } catch (IOException | RuntimeException e) {
+            RiyaposMod.LOGGER.error("Failed to load {} config; using the defaults.", name, e);
+            return fallback;
+        }
+    }
+
+    /**
+     * Parses every config file. Safe to call from any thread; has no side effects other than logging.
+     * @throws IOException If a file cannot be read
+     * @throws JsonParseException If a file is malformed or empty
+     * @throws IllegalArgumentException If a curve is invalid
+     */
+    public static Snapshot buildSnapshot() throws IOException {
+        SkillCurve[] curves = loadSkillCurves();
+        List<SkillXPRule> rules = new ArrayList<>();
+        for (Skills skill : Skills.values()) {
+            rules.addAll(loadSkillXPConfig(skill));
+        }
+        return new Snapshot(curves, List.copyOf(rules), loadMultipliers());
+    }
+
+    /**
+     * Queues a snapshot to be installed on the next server tick, replacing any snapshot
+     * that has not been installed yet.
+     */
+    public static void queueReload(Snapshot snapshot) {
+        pendingSnapshot.set(snapshot);
+    }
+
+    /**
+     * Installs a queued snapshot, if any. Must be called on the server thread.
+     */
+    public static void applyPendingReload() {
+        Snapshot snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot != null) {
+            install(snapshot);
+            RiyaposMod.LOGGER.info("Hot-reloaded skill XP configurations ({} XP rules).", snapshot.xpRules().size());
+        }
+    }
+
+    private static void install(Snapshot snapshot) {
+        SkillCurves.install(snapshot.curves());
+        xpRules = snapshot.xpRules();
+        xpTable = SkillXPTable.compile(snapshot.xpRules());
+        multipliers = snapshot.multipliers();
+        // Player multiplier vectors were built from the previous sources
+        SkillXPMultipliers.recomputeAll();
+    }
+
+    /**
+     * Loads per-skill XP curves from curves.json and compiles them.
+     * The file is an object keyed by skill name, plus an optional "default" entry used
+     * for every skill that is not listed.
+     * @throws IllegalArgumentException If a curve is invalid
+     */
+    private static SkillCurve[] loadSkillCurves() throws IOException {
+        Path curvesPath = CONFIG_PATH.resolve("curves.json");
+        SkillCurve[] compiled = SkillCurves.defaults();
 
-        if (!Files.exists(miningConfigPath)) {
-            RiyaposMod.LOGGER.warn("Mining XP config not found: {}. No custom mining XP will be loaded.", miningConfigPath);
-            // Optionally, create a default one here or ensure your mod includes a default in JAR that gets copied.
-            return;
+        if (!Files.exists(curvesPath)) {
+            RiyaposMod.LOGGER.info("Skill curve config not found: {}. Using the default curve for all skills.", curvesPath);
+            return compiled;
         }
 
-        try (Reader reader = new FileReader(miningConfigPath.toFile())) {
-            Type listType = new TypeToken<ArrayList<MiningXPConfigEntry>>() {}.getType();
-            List<MiningXPConfigEntry> entries = GSON.fromJson(reader, listType);
-            if (entries != null) {
-                for (MiningXPConfigEntry entry : entries) {
-                    if (entry.block_id != null && !entry.block_id.isBlank()) {
-                        miningXPConfig.put(entry.block_id.trim(), entry);
-                    } else {
-                        RiyaposMod.LOGGER.warn("Found mining XP entry with null or blank block_id. Skipping.");
-                    }
+        try (Reader reader = Files.newBufferedReader(curvesPath, StandardCharsets.UTF_8)) {
+            Type mapType = new TypeToken<HashMap<String, SkillCurveConfigEntry>>() {}.getType();
+            Map<String, SkillCurveConfigEntry> entries = requireContent(GSON.fromJson(reader, mapType), curvesPath);
+            SkillCurveConfigEntry defaultEntry = entries.get("default");
+            if (defaultEntry != null) {
+                try {
+                    Arrays.fill(compiled, defaultEntry.compile());
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Invalid default skill curve in " + curvesPath + ": " + e.getMessage(), e);
                 }
-                RiyaposMod.LOGGER.info("Loaded {} mining XP entries from {}", miningXPConfig.size(), miningConfigPath);
-            } else {
-                RiyaposMod.LOGGER.warn("Mining XP config file {} was empty or malformed.", miningConfigPath);
             }
-        } catch (Exception e) {
-            RiyaposMod.LOGGER.error("Failed to load mining XP config: " + miningConfigPath, e);
+            for (Map.Entry<String, SkillCurveConfigEntry> entry : entries.entrySet()) {
+                if (entry.getKey().equals("default")) {
+                    continue;
+                }
+                Skills skill = Skills.fromName(entry.getKey());
+                if (skill == null) {
+                    RiyaposMod.LOGGER.warn("Unknown skill '{}' in {}. Skipping.", entry.getKey(), curvesPath);
+                    continue;
+                }
+                try {
+                    compiled[skill.ordinal()] = entry.getValue().compile();
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Invalid skill curve for " + skill.getSkillName() + " in " + curvesPath + ": " + e.getMessage(), e);
+                }
+            }
+            RiyaposMod.LOGGER.info("Loaded {} skill curve entries from {}", entries.size(), curvesPath);
         }
+        return compiled;
     }
 
     /**
-     * Gets the MiningXPConfigEntry for a given block.
-     * It first checks for a direct block ID match, then for matching tags.
-     * This needs to be more robust for tag handling.
+     * Loads XP multiplier sources from xp_multipliers.json. See {@link XPMultiplierConfig} for the format.
      */
-    public static Optional<MiningXPConfigEntry> getMiningXPConfig(Block block) {
-        ResourceLocation blockId = BuiltInRegistries.BLOCK.getKey(block);
+    private static XPMultiplierConfig loadMultipliers() throws IOException {
+        Path multipliersPath = CONFIG_PATH.resolve("xp_multipliers.json");
+        if (!Files.exists(multipliersPath)) {
+            RiyaposMod.LOGGER.debug("XP multiplier config not found: {}. No XP multipliers will apply.", multipliersPath);
+            return XPMultiplierConfig.EMPTY;
+        }
 
-        // 1. Check direct block ID
-        MiningXPConfigEntry entry = miningXPConfig.get(blockId.toString());
-        if (entry != null) {
-            return Optional.of(entry);
+        try (Reader reader = Files.newBufferedReader(multipliersPath, StandardCharsets.UTF_8)) {
+            Type mapType = new TypeToken<HashMap<String, HashMap<String, HashMap<String, Float>>>>() {}.getType();
+            Map<String, Map<String, Map<String, Float>>> raw = requireContent(GSON.fromJson(reader, mapType), multipliersPath);
+            return XPMultiplierConfig.compile(raw);
         }
+    }
 
-        // 2. Check tags (simple check, assumes tags are stored with leading '#')
-        // A more robust system would iterate over all tag entries in the config
-        // and check if the block is part of that tag.
-        for (TagKey<Block> tagKey : block.defaultBlockState().getTags().toList()) {
-            String tagName = "#" + tagKey.location().toString();
-            entry = miningXPConfig.get(tagName);
-            if (entry != null) {
-                // TODO: Add specificity logic if multiple tags match (e.g., most specific tag wins)
-                return Optional.of(entry);
+    /**
+     * Loads the XP file for one skill, e.g. mining_xp.json for Mining.
+     * Invalid entries are logged and skipped.
+     */
+    private static List<SkillXPRule> loadSkillXPConfig(Skills skill) throws IOException {
+        Path configPath = CONFIG_PATH.resolve(skill.getSkillName().toLowerCase(Locale.ROOT) + "_xp.json");
+        // Keyed by action and id/tag; later duplicates replace earlier ones
+        Map<String, SkillXPRule> byKey = new LinkedHashMap<>();
+
+        if (!Files.exists(configPath)) {
+            RiyaposMod.LOGGER.debug("{} XP config not found: {}. No {} XP will be granted.", skill.getSkillName(), configPath, skill.getSkillName());
+            return List.of();
+        }
+
+        try (Reader reader = Files.newBufferedReader(configPath, StandardCharsets.UTF_8)) {
+            Type listType = new TypeToken<ArrayList<SkillXPConfigEntry>>() {}.getType();
+            List<SkillXPConfigEntry> entries = requireContent(GSON.fromJson(reader, listType), configPath);
+            for (SkillXPConfigEntry entry : entries) {
+                try {
+                    SkillXPRule rule = entry.toRule(skill);
+                    byKey.put(rule.action().getConfigName() + "|" + rule.key(), rule);
+                } catch (IllegalArgumentException e) {
+                    RiyaposMod.LOGGER.warn("Skipping invalid entry {} in {}: {}", entry, configPath, e.getMessage());
+                }
             }
+            RiyaposMod.LOGGER.info("Loaded {} {} XP entries from {}", byKey.size(), skill.getSkillName(), configPath);
+        }
+        return new ArrayList<>(byKey.values());
+    }
+
+    /**
+     * Gson returns null for an empty file, which is also what an editor leaves behind mid-save.
+     */
+    private static <T> T requireContent(T parsed, Path path) {
+        if (parsed == null) {
+            throw new JsonParseException("Config file " + path + " is empty");
         }
-        return Optional.empty();
+        return parsed;
+    }
+
+    /**
+     * Re-resolves the installed XP rules against the current tags.
+     * Called whenever tags are reloaded.
+     */
+    public static void recompileXPTable() {
+        xpTable = SkillXPTable.compile(xpRules);
+    }
+
+    /**
+     * @return The XP multiplier sources currently in use.
+     */
+    public static XPMultiplierConfig getMultipliers() {
+        return multipliers;
+    }
+
+    /**
+     * @return The compiled XP lookup tables currently in use.
+     */
+    public static SkillXPTable getXPTable() {
+        return xpTable;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,125 @@
+package net.furyan.riyaposmod.skills.config;
+
+import net.furyan.riyaposmod.RiyaposMod;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.server.ServerStartedEvent;
+import net.neoforged.neoforge.event.server.ServerStoppingEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches the skill XP config directory and hot-reloads it while the server runs.
+ * Changed files are re-parsed on a virtual thread; the resulting snapshot is compiled against
+ * the current tags and swapped in by the server thread at the start of the next tick, so
+ * handlers never see a half-built table and the tick never waits on disk I/O.
+ */
+@EventBusSubscriber(modid = RiyaposMod.MOD_ID, bus = EventBusSubscriber.Bus.GAME)
+public class XPConfigWatcher {
+    // Editors often write a file in several steps; wait for them to settle before reloading
+    private static final long DEBOUNCE_MS = 250;
+
+    private static WatchService watchService;
+    private static Thread watcherThread;
+
+    @SubscribeEvent
+    public static void onServerStarted(ServerStartedEvent event) {
+        start();
+    }
+
+    @SubscribeEvent
+    public static void onServerStopping(ServerStoppingEvent event) {
+        stop();
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(ServerTickEvent.Pre event) {
+        XPConfigLoader.applyPendingReload();
+    }
+
+    public static synchronized void start() {
+        if (watcherThread != null) {
+            return;
+        }
+        try {
+            Files.createDirectories(XPConfigLoader.CONFIG_PATH);
+            watchService = FileSystems.getDefault().newWatchService();
+            XPConfigLoader.CONFIG_PATH.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException e) {
+            RiyaposMod.LOGGER.error("Failed to watch skill XP config directory {}. Hot reload is disabled.", XPConfigLoader.CONFIG_PATH, e);
+            watchService = null;
+            return;
+        }
+
+        WatchService service = watchService;
+        watcherThread = Thread.ofVirtual()
+                .name("riyaposmod-xp-config-watcher")
+                .start(() -> watchLoop(service));
+        RiyaposMod.LOGGER.info("Watching {} for skill XP config changes.", XPConfigLoader.CONFIG_PATH);
+    }
+
+    public static synchronized void stop() {
+        if (watchService != null) {
+            try {
+                watchService.close(); // Wakes the watcher thread with ClosedWatchServiceException
+            } catch (IOException e) {
+                RiyaposMod.LOGGER.warn("Error closing skill XP config watcher", e);
+            }
+            watchService = null;
+        }
+        watcherThread = null;
+    }
+
+    private static void watchLoop(WatchService service) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                boolean relevant = drain(key);
+
+                // Coalesce bursts of events into a single reload
+                WatchKey next;
+                while ((next = service.poll(DEBOUNCE_MS, TimeUnit.MILLISECONDS)) != null) {
+                    relevant |= drain(next);
+                }
+
+                if (relevant) {
+                    try {
+                        XPConfigLoader.queueReload(XPConfigLoader.buildSnapshot());
+                    } catch (IOException | RuntimeException e) {
+                        RiyaposMod.LOGGER.error("Failed to reload skill XP configs; keeping the current ones.", e);
+                    }
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            // Server stopping
+        }
+    }
+
+    /**
+     * Consumes the events on a key and resets it.
+     * @return Whether any of the events touched a JSON file.
+     */
+    private static boolean drain(WatchKey key) {
+        boolean relevant = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.context() instanceof Path path && path.toString().endsWith(".json")) {
+                relevant = true;
+            }
+        }
+        key.reset();
+        return relevant;
+    }
+}
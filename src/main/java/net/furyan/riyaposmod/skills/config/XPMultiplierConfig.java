@@ -0,0 +1,146 @@
+package net.furyan.riyaposmod.skills.config;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.furyan.riyaposmod.RiyaposMod;
+import net.furyan.riyaposmod.skills.core.Skills;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compiled XP multiplier sources from xp_multipliers.json. Each source maps to a vector of
+ * per-skill values indexed by {@link Skills#ordinal()}. The file looks like
+ * <pre>
+ * {
+ *   "factions":     { "faction_one": { "Mining": 1.1, "all": 1.05 } },
+ *   "items":        { "minecraft:diamond_pickaxe": { "Mining": 1.2 } },
+ *   "enchantments": { "minecraft:fortune": { "Mining": 0.1 } },
+ *   "events":       { "double_xp": { "all": 2.0 } }
+ * }
+ * </pre>
+ * Faction, item and event values are factors. Enchantment values are a bonus per enchantment
+ * level, giving a factor of (1 + bonus * level). The "all" key applies to every skill and is
+ * combined with skill-specific values.
+ * <p>
+ * Instances are immutable once compiled.
+ */
+public final class XPMultiplierConfig {
+    public static final XPMultiplierConfig EMPTY = new XPMultiplierConfig(Map.of(), new Reference2ObjectOpenHashMap<>(), Map.of(), Map.of());
+
+    private final Map<String, float[]> factions;
+    private final Reference2ObjectOpenHashMap<Item, float[]> items;
+    private final Map<ResourceLocation, float[]> enchantmentBonusPerLevel;
+    private final Map<String, float[]> events;
+
+    private XPMultiplierConfig(Map<String, float[]> factions, Reference2ObjectOpenHashMap<Item, float[]> items,
+                               Map<ResourceLocation, float[]> enchantmentBonusPerLevel, Map<String, float[]> events) {
+        this.factions = factions;
+        this.items = items;
+        this.enchantmentBonusPerLevel = enchantmentBonusPerLevel;
+        this.events = events;
+    }
+
+    /** @return Per-skill factors for a faction, or null if it has none. */
+    public float[] faction(String factionId) {
+        return factions.get(factionId);
+    }
+
+    /** @return Per-skill factors for an item, or null if it has none. */
+    public float[] item(Item item) {
+        return items.get(item);
+    }
+
+    /** @return Per-skill bonus per level for an enchantment, or null if it has none. */
+    public float[] enchantment(ResourceLocation enchantmentId) {
+        return enchantmentBonusPerLevel.get(enchantmentId);
+    }
+
+    /** @return Per-skill factors for a server XP event, or null if it is not configured. */
+    public float[] event(String eventName) {
+        return events.get(eventName);
+    }
+
+    public Set<String> eventNames() {
+        return events.keySet();
+    }
+
+    /**
+     * Compiles the raw JSON structure (section → source id → skill name or "all" → value).
+     */
+    public static XPMultiplierConfig compile(Map<String, Map<String, Map<String, Float>>> raw) {
+        if (raw == null) {
+            return EMPTY;
+        }
+
+        Map<String, float[]> factions = new HashMap<>();
+        compileSection(raw.get("factions"), 1.0f, "factions").forEach(factions::put);
+
+        Reference2ObjectOpenHashMap<Item, float[]> items = new Reference2ObjectOpenHashMap<>();
+        compileSection(raw.get("items"), 1.0f, "items").forEach((id, values) -> {
+            ResourceLocation itemId = ResourceLocation.tryParse(id);
+            if (itemId == null || !BuiltInRegistries.ITEM.containsKey(itemId)) {
+                RiyaposMod.LOGGER.warn("Unknown item '{}' in XP multipliers. Skipping.", id);
+                return;
+            }
+            items.put(BuiltInRegistries.ITEM.get(itemId), values);
+        });
+
+        Map<ResourceLocation, float[]> enchantments = new HashMap<>();
+        compileSection(raw.get("enchantments"), 0.0f, "enchantments").forEach((id, values) -> {
+            ResourceLocation enchantmentId = ResourceLocation.tryParse(id);
+            if (enchantmentId == null) {
+                RiyaposMod.LOGGER.warn("Invalid enchantment id '{}' in XP multipliers. Skipping.", id);
+                return;
+            }
+            // Enchantments are a datapack registry, so they are matched by id when a player's vector is built
+            enchantments.put(enchantmentId, values);
+        });
+
+        Map<String, float[]> events = new HashMap<>();
+        compileSection(raw.get("events"), 1.0f, "events").forEach(events::put);
+
+        return new XPMultiplierConfig(Map.copyOf(factions), items, Map.copyOf(enchantments), Map.copyOf(events));
+    }
+
+    /**
+     * Turns each source's skill map into a vector. Skill-specific values are combined with "all":
+     * multiplied for factors (identity 1) and added for bonuses (identity 0).
+     */
+    private static Map<String, float[]> compileSection(Map<String, Map<String, Float>> section, float identity, String sectionName) {
+        Map<String, float[]> result = new HashMap<>();
+        if (section == null) {
+            return result;
+        }
+        boolean additive = identity == 0.0f;
+        for (Map.Entry<String, Map<String, Float>> source : section.entrySet()) {
+            if (source.getValue() == null) {
+                continue;
+            }
+            float[] values = new float[Skills.count()];
+            Arrays.fill(values, identity);
+            Float all = source.getValue().get("all");
+            if (all != null) {
+                Arrays.fill(values, all);
+            }
+            for (Map.Entry<String, Float> entry : source.getValue().entrySet()) {
+                if (entry.getKey().equals("all") || entry.getValue() == null) {
+                    continue;
+                }
+                Skills skill = Skills.fromName(entry.getKey());
+                if (skill == null) {
+                    RiyaposMod.LOGGER.warn("Unknown skill '{}' for {} '{}' in XP multipliers. Skipping.", entry.getKey(), sectionName, source.getKey());
+                    continue;
+                }
+                float base = all != null ? all : identity;
+                values[skill.ordinal()] = additive ? base + entry.getValue() : base * entry.getValue();
+            }
+            result.put(source.getKey(), values);
+        }
+        return result;
+    }
+}
@@ -2,174 +2,229 @@ package net.furyan.riyaposmod.skills.core;
 
 import net.furyan.riyaposmod.skills.api.ISkillData;
 import net.furyan.riyaposmod.skills.util.SkillConstants;
+import net.furyan.riyaposmod.skills.util.SkillCurve;
+import net.furyan.riyaposmod.skills.util.SkillCurves;
+import net.furyan.riyaposmod.util.log.LogCategory;
+import net.furyan.riyaposmod.util.log.ModLog;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
-import java.util.HashMap;
-import java.util.Map;
+
+import java.util.Arrays;
 
 /**
  * Default implementation of ISkillData.
+ * Total experience is stored in a long[] indexed by {@link Skills#ordinal()}, and levels are
+ * cached in a byte[] that is only recomputed when experience crosses a level threshold,
+ * so XP grants are allocation-free and level reads are O(1). Cached levels are
+ * recomputed lazily when {@link SkillCurves} installs new curves.
  */
 public class SkillData implements ISkillData {
+    private static final ModLog LOG = ModLog.get(LogCategory.SKILLS);
 
     private static final String SKILLS_TAG = "PlayerSkills";
     private static final String TOTAL_EXP_TAG = "TotalExperience";
 
-    private final Map<String, SkillEntry> skills = new HashMap<>();
+    private final long[] totalExperience = new long[Skills.count()];
+    // Levels are read as unsigned (& 0xFF) so curves up to level 255 fit in a byte
+    private final byte[] levels = new byte[Skills.count()];
 
-    // Static nested class for storing individual skill data
-    private static class SkillEntry {
-        private long totalExperience;
+    private int curveGeneration;
+    // Set on every XP change; cleared once the player's data has been written to disk
+    private boolean dirty = true;
+    // Tag built by the last serializeNBT; dropped on every XP change
+    private CompoundTag lastSerialized;
+    // Derived from equipment, faction and events; rebuilt by SkillXPMultipliers and never saved
+    private float[] xpMultipliers = DEFAULT_MULTIPLIERS;
 
-        public SkillEntry(long totalExperience) {
-            this.setTotalExperience(totalExperience);
-        }
+    private static final float[] DEFAULT_MULTIPLIERS = defaultMultipliers();
 
-        public int getLevel() {
-            return SkillConstants.getLevelForXP((int)this.totalExperience);
-        }
+    private static float[] defaultMultipliers() {
+        float[] multipliers = new float[Skills.count()];
+        Arrays.fill(multipliers, 1.0f);
+        return multipliers;
+    }
 
-        public long getTotalExperience() {
-            return totalExperience;
-        }
+    public SkillData() {
+        recomputeLevels();
+    }
 
-        public void setTotalExperience(long experience) {
-            this.totalExperience = Math.max(0, experience);
-            long maxExpForMaxLevel = SkillConstants.getXpForLevel(SkillConstants.MAX_SKILL_LEVEL);
-            if (this.totalExperience > maxExpForMaxLevel && getLevel() >= SkillConstants.MAX_SKILL_LEVEL) {
-                 this.totalExperience = maxExpForMaxLevel;
-            }
-        }
+    private int levelAt(int index) {
+        return levels[index] & 0xFF;
+    }
 
-        public void addExperience(int amount) {
-            if (amount <= 0) return;
-            long currentTotalExp = this.totalExperience;
-            int currentLevel = getLevel();
-            if (currentLevel >= SkillConstants.MAX_SKILL_LEVEL && currentTotalExp >= SkillConstants.getXpForLevel(SkillConstants.MAX_SKILL_LEVEL)) {
-                return; 
-            }
-            this.totalExperience += amount;
-            int newLevel = getLevel(); 
-            if (newLevel > currentLevel) {
-                System.out.println("[SKILLS] Player leveled up a skill from " + currentLevel + " to " + newLevel + ".");
-            }
-            long maxExpForMaxLevel = SkillConstants.getXpForLevel(SkillConstants.MAX_SKILL_LEVEL);
-            if (this.totalExperience > maxExpForMaxLevel && newLevel >= SkillConstants.MAX_SKILL_LEVEL) {
-                this.totalExperience = maxExpForMaxLevel;
-            }
+    /**
+     * Recomputes cached levels if the curves have been reloaded since they were last computed.
+     * Stored XP is left untouched so that lowering and then raising a cap does not lose progress.
+     */
+    private void ensureCurrentCurves() {
+        if (curveGeneration != SkillCurves.generation()) {
+            recomputeLevels();
         }
+    }
 
-        public CompoundTag serializeNBT(HolderLookup.Provider provider) {
-            CompoundTag nbt = new CompoundTag();
-            nbt.putLong(TOTAL_EXP_TAG, this.totalExperience);
-            return nbt;
+    private void recomputeLevels() {
+        curveGeneration = SkillCurves.generation();
+        for (Skills skill : Skills.values()) {
+            int index = skill.ordinal();
+            levels[index] = (byte) SkillCurves.get(skill).getLevelForXP(totalExperience[index]);
         }
     }
 
-    public SkillData() {
-        for (Skills skillEnum : Skills.values()) {
-            this.skills.put(skillEnum.getSkillName(), new SkillEntry(SkillConstants.getXpForLevel(SkillConstants.MIN_SKILL_LEVEL)));
-        }
+    /**
+     * Clamps and stores the total experience for a skill, recomputing the cached level.
+     */
+    private void setTotalExperienceInternal(Skills skill, long experience) {
+        SkillCurve curve = SkillCurves.get(skill);
+        long clamped = Math.min(Math.max(0, experience), curve.getMaxXp());
+        totalExperience[skill.ordinal()] = clamped;
+        levels[skill.ordinal()] = (byte) curve.getLevelForXP(clamped);
+        markChanged();
     }
 
-    private SkillEntry getOrCreateSkillEntry(String skillName) {
-        return skills.computeIfAbsent(skillName, k -> {
-            return new SkillEntry(SkillConstants.getXpForLevel(SkillConstants.MIN_SKILL_LEVEL));
-        });
+    private void markChanged() {
+        dirty = true;
+        lastSerialized = null;
     }
 
     @Override
-    public int getSkillLevel(String skillName) {
-        return getOrCreateSkillEntry(skillName).getLevel();
+    public int getSkillLevel(Skills skill) {
+        ensureCurrentCurves();
+        return levelAt(skill.ordinal());
     }
 
     @Override
-    public int getSkillExp(String skillName) {
-        SkillEntry entry = getOrCreateSkillEntry(skillName);
-        long totalExp = entry.getTotalExperience();
-        int currentLevel = entry.getLevel();
-        if (currentLevel >= SkillConstants.MAX_SKILL_LEVEL) {
+    public int getSkillExp(Skills skill) {
+        ensureCurrentCurves();
+        SkillCurve curve = SkillCurves.get(skill);
+        int index = skill.ordinal();
+        int currentLevel = levelAt(index);
+        if (currentLevel >= curve.getMaxLevel()) {
             return 0; // No XP towards "next" level if at max
         }
-        long xpForCurrentLevel = SkillConstants.getXpForLevel(currentLevel);
-        return (int) (totalExp - xpForCurrentLevel);
+        long xpIntoLevel = totalExperience[index] - curve.getXpForLevel(currentLevel);
+        return (int) Math.min(xpIntoLevel, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void setSkillExp(Skills skill, int amount) {
+        ensureCurrentCurves();
+        SkillCurve curve = SkillCurves.get(skill);
+        int currentLevel = levelAt(skill.ordinal());
+        if (currentLevel >= curve.getMaxLevel()) return; // Cannot set XP for next level if at max
+
+        long newTotalExp = curve.getXpForLevel(currentLevel) + Math.max(0, amount);
+        long xpForNextLevel = curve.getXpForLevel(currentLevel + 1);
+        setTotalExperienceInternal(skill, Math.min(newTotalExp, xpForNextLevel - 1));
+    }
+
+    @Override
+    public long getSkillTotalExp(Skills skill) {
+        return totalExperience[skill.ordinal()];
     }
 
     @Override
-    public void setSkillExp(String skillName, int amount) {
-        SkillEntry entry = getOrCreateSkillEntry(skillName);
-        int currentLevel = entry.getLevel();
-        if (currentLevel >= SkillConstants.MAX_SKILL_LEVEL) return; // Cannot set XP for next level if at max
-        
-        long xpForCurrentLevel = SkillConstants.getXpForLevel(currentLevel);
-        long newTotalExp = xpForCurrentLevel + Math.max(0, amount);
-        
-        long xpForNextLevel = SkillConstants.getXpForLevel(currentLevel + 1);
-        if (newTotalExp >= xpForNextLevel) {
-            entry.setTotalExperience(Math.min(newTotalExp, xpForNextLevel -1)); 
+    public void setSkillTotalExp(Skills skill, long totalExperience) {
+        ensureCurrentCurves();
+        setTotalExperienceInternal(skill, totalExperience);
+    }
+
+    @Override
+    public void addSkillExp(Skills skill, int amount) {
+        if (amount <= 0) return;
+        ensureCurrentCurves();
+        SkillCurve curve = SkillCurves.get(skill);
+        int index = skill.ordinal();
+        int currentLevel = levelAt(index);
+        if (currentLevel >= curve.getMaxLevel()) {
+            return;
+        }
+
+        long newTotal = Math.min(totalExperience[index] + amount, curve.getMaxXp());
+        totalExperience[index] = newTotal;
+        markChanged();
+
+        // Only search the curve when the next threshold has been crossed
+        if (newTotal >= curve.getXpForLevel(currentLevel + 1)) {
+            int newLevel = curve.getLevelForXP(newTotal);
+            levels[index] = (byte) newLevel;
+            LOG.debug("{} leveled up from {} to {}", skill.getSkillName(), currentLevel, newLevel);
+        }
+    }
+
+    @Override
+    public void setSkillLevel(Skills skill, int level) {
+        ensureCurrentCurves();
+        SkillCurve curve = SkillCurves.get(skill);
+        if (level >= SkillConstants.MIN_SKILL_LEVEL && level <= curve.getMaxLevel()) {
+            setTotalExperienceInternal(skill, curve.getXpForLevel(level));
         } else {
-            entry.setTotalExperience(newTotalExp);
+            LOG.warn("Attempted to set invalid skill level {} for skill {}", level, skill.getSkillName());
         }
     }
 
     @Override
-    public long getSkillTotalExp(String skillName) {
-        return getOrCreateSkillEntry(skillName).getTotalExperience();
+    public float getXpMultiplier(Skills skill) {
+        return xpMultipliers[skill.ordinal()];
+    }
+
+    @Override
+    public void setXpMultipliers(float[] multipliers) {
+        if (multipliers.length != Skills.count()) {
+            throw new IllegalArgumentException("Expected " + Skills.count() + " multipliers, got " + multipliers.length);
+        }
+        this.xpMultipliers = multipliers;
     }
 
     @Override
-    public void setSkillTotalExp(String skillName, long totalExperience) {
-        getOrCreateSkillEntry(skillName).setTotalExperience(totalExperience);
+    public boolean isDirty() {
+        return dirty;
     }
 
     @Override
-    public void addSkillExp(String skillName, int amount) {
-        getOrCreateSkillEntry(skillName).addExperience(amount);
+    public void markSaved() {
+        dirty = false;
     }
 
+    /**
+     * Unchanged data returns a copy of the tag built by the previous call, so saving players
+     * whose skills have not moved skips rebuilding it. Serializing does not clear the dirty
+     * flag, because it also happens when the attachment is copied on death.
+     */
     @Override
     public CompoundTag serializeNBT(HolderLookup.Provider provider) {
+        if (lastSerialized != null) {
+            return lastSerialized.copy();
+        }
         CompoundTag nbt = new CompoundTag();
         CompoundTag skillsTag = new CompoundTag();
         for (Skills skillEnum : Skills.values()) {
-            SkillEntry entry = getOrCreateSkillEntry(skillEnum.getSkillName());
-            skillsTag.put(skillEnum.getSkillName(), entry.serializeNBT(provider));
+            CompoundTag skillNbt = new CompoundTag();
+            skillNbt.putLong(TOTAL_EXP_TAG, totalExperience[skillEnum.ordinal()]);
+            skillsTag.put(skillEnum.getSkillName(), skillNbt);
         }
         nbt.put(SKILLS_TAG, skillsTag);
-        return nbt;
+        lastSerialized = nbt;
+        return nbt.copy();
     }
 
     @Override
     public void deserializeNBT(HolderLookup.Provider provider, CompoundTag nbt) {
-        for (Skills skillEnum : Skills.values()) {
-            skills.computeIfAbsent(skillEnum.getSkillName(), k -> new SkillEntry(SkillConstants.getXpForLevel(SkillConstants.MIN_SKILL_LEVEL)));
-        }
+        ensureCurrentCurves();
         if (nbt.contains(SKILLS_TAG, CompoundTag.TAG_COMPOUND)) {
             CompoundTag skillsTag = nbt.getCompound(SKILLS_TAG);
             for (String skillKey : skillsTag.getAllKeys()) {
-                SkillEntry existingEntry = skills.get(skillKey);
-                if (existingEntry != null) {
+                Skills skill = Skills.fromName(skillKey);
+                if (skill != null) {
                     CompoundTag skillNbt = skillsTag.getCompound(skillKey);
                     if (skillNbt.contains(TOTAL_EXP_TAG)) {
                         if (skillNbt.getTagType(TOTAL_EXP_TAG) == CompoundTag.TAG_LONG) {
-                            existingEntry.setTotalExperience(skillNbt.getLong(TOTAL_EXP_TAG));
+                            setTotalExperienceInternal(skill, skillNbt.getLong(TOTAL_EXP_TAG));
                         } else if (skillNbt.getTagType(TOTAL_EXP_TAG) == CompoundTag.TAG_INT) {
-                            existingEntry.setTotalExperience(skillNbt.getInt(TOTAL_EXP_TAG));
+                            setTotalExperienceInternal(skill, skillNbt.getInt(TOTAL_EXP_TAG));
                         }
                     }
                 }
             }
         }
     }
-
-    @Override
-    public void setSkillLevel(String skillName, int level) {
-        SkillEntry entry = getOrCreateSkillEntry(skillName);
-        if (level >= SkillConstants.MIN_SKILL_LEVEL && level <= SkillConstants.MAX_SKILL_LEVEL) {
-            entry.setTotalExperience(SkillConstants.getXpForLevel(level));
-        } else {
-            // Optionally, throw an exception or log a warning for invalid level
-            System.err.println("Attempted to set invalid skill level " + level + " for skill " + skillName);
-        }
-    }
-} 
\ No newline at end of file
+}
@@ -1,5 +1,9 @@
 package net.furyan.riyaposmod.skills.core;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 public enum Skills {
     // Combat Skills
     MELEE("Melee"),
@@ -24,6 +28,16 @@ public enum Skills {
     CONSTRUCTION("Construction"),
     TRANSPORT("Transport"); // For vehicle/mount related activities
 
+    private static final Skills[] VALUES = values();
+    private static final Map<String, Skills> BY_NAME = new HashMap<>();
+
+    static {
+        for (Skills skill : VALUES) {
+            BY_NAME.put(skill.skillName, skill);
+            BY_NAME.put(skill.skillName.toLowerCase(Locale.ROOT), skill);
+        }
+    }
+
     private final String skillName;
 
     Skills(String skillName) {
@@ -34,6 +48,35 @@ public enum Skills {
         return skillName;
     }
 
+    /**
+     * Gets a skill by its ordinal without allocating a copy of values().
+     * @param ordinal The ordinal, e.g. as received over the network.
+     * @return The skill, or null if the ordinal is out of range.
+     */
+    public static Skills byOrdinal(int ordinal) {
+        return ordinal >= 0 && ordinal < VALUES.length ? VALUES[ordinal] : null;
+    }
+
+    /**
+     * Gets a skill by its display name, case-insensitively.
+     * @param name The skill name, e.g. "Mining" or "mining".
+     * @return The skill, or null if no skill has that name.
+     */
+    public static Skills fromName(String name) {
+        if (name == null) {
+            return null;
+        }
+        Skills skill = BY_NAME.get(name);
+        return skill != null ? skill : BY_NAME.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * @return The number of skills.
+     */
+    public static int count() {
+        return VALUES.length;
+    }
+
     @Override
     public String toString() {
         return skillName;
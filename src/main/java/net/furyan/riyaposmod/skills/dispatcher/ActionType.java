@@ -0,0 +1,47 @@
+package net.furyan.riyaposmod.skills.dispatcher;
+
+import java.util.Locale;
+
+/**
+ * The kinds of in-game actions that can grant skill XP. Each action's config key is
+ * resolved against a different id space when the XP table is compiled.
+ */
+public enum ActionType {
+    BLOCK_BREAK,        // key: block id or #block tag
+    CROP_HARVESTED,     // key: block id or #block tag; only mature crop states count
+    ENTITY_KILL,        // key: entity type id or #entity_type tag
+    ITEM_CRAFTED,       // key: item id or #item tag
+    ITEM_FISHED,        // key: item id or #item tag
+    SPELL_CAST,         // key: Iron's Spellbooks spell id, e.g. irons_spellbooks:fireball
+    DISTANCE_TRAVELLED; // key: vehicle entity type id or #entity_type tag; xp is per DISTANCE_UNIT blocks
+
+    /**
+     * Blocks a vehicle must travel for each grant of DISTANCE_TRAVELLED XP.
+     */
+    public static final double DISTANCE_UNIT = 16.0;
+
+    private final String configName = name().toLowerCase(Locale.ROOT);
+
+    /**
+     * @return The name used in config files, e.g. "block_break".
+     */
+    public String getConfigName() {
+        return configName;
+    }
+
+    /**
+     * Parses a config action name case-insensitively.
+     * @return The action, or null if the name is unknown.
+     */
+    public static ActionType fromConfigName(String name) {
+        if (name == null) {
+            return null;
+        }
+        for (ActionType type : values()) {
+            if (type.configName.equalsIgnoreCase(name.trim())) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,141 @@
+package net.furyan.riyaposmod.skills.dispatcher;
+
+import net.furyan.riyaposmod.Config;
+import net.furyan.riyaposmod.RiyaposMod;
+import net.furyan.riyaposmod.network.ModNetworking;
+import net.furyan.riyaposmod.network.packet.ClientboundSkillUpdatePacket;
+import net.furyan.riyaposmod.skills.core.Skills;
+import net.furyan.riyaposmod.util.jfr.PacketFlushEvent;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+import net.neoforged.neoforge.event.server.ServerStoppingEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Accumulates skill XP gains per player and skill on the server and flushes them
+ * to the client as a single {@link ClientboundSkillUpdatePacket} every
+ * {@link Config#skillXpFlushIntervalTicks} ticks. This keeps vein miners and tree
+ * fellers, which can break dozens of blocks in one tick, down to one packet per window.
+ * Only accessed from the server thread.
+ */
+@EventBusSubscriber(modid = RiyaposMod.MOD_ID, bus = EventBusSubscriber.Bus.GAME)
+public class SkillXPAggregator {
+    private static final Map<UUID, PendingGains> pendingGains = new HashMap<>();
+    private static int ticksSinceFlush = 0;
+
+    /**
+     * Per-player accumulator. Reused across windows so recording XP does not allocate.
+     */
+    private static final class PendingGains {
+        final int[] xp = new int[Skills.count()];
+        final int[] newLevel = new int[Skills.count()];
+        final boolean[] levelledUp = new boolean[Skills.count()];
+        final boolean[] touched = new boolean[Skills.count()];
+        int touchedCount = 0;
+
+        void clear() {
+            for (int i = 0; i < touched.length; i++) {
+                xp[i] = 0;
+                newLevel[i] = 0;
+                levelledUp[i] = false;
+                touched[i] = false;
+            }
+            touchedCount = 0;
+        }
+    }
+
+    /**
+     * Records an XP gain to be sent to the player at the end of the current window.
+     *
+     * @param player The player who gained XP
+     * @param skill The skill that gained XP
+     * @param xp The amount of XP gained
+     * @param newLevel The skill level after the gain
+     * @param levelledUp Whether this gain caused a level up
+     */
+    public static void record(ServerPlayer player, Skills skill, int xp, int newLevel, boolean levelledUp) {
+        PendingGains gains = pendingGains.computeIfAbsent(player.getUUID(), id -> new PendingGains());
+        int index = skill.ordinal();
+        if (!gains.touched[index]) {
+            gains.touched[index] = true;
+            gains.touchedCount++;
+        }
+        gains.xp[index] += xp;
+        gains.newLevel[index] = newLevel;
+        gains.levelledUp[index] |= levelledUp;
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(ServerTickEvent.Post event) {
+        if (++ticksSinceFlush < Math.max(1, Config.skillXpFlushIntervalTicks)) {
+            return;
+        }
+        ticksSinceFlush = 0;
+        flush(event.getServer());
+    }
+
+    /**
+     * Sends all pending gains to their players and resets the accumulators.
+     */
+    public static void flush(MinecraftServer server) {
+        if (pendingGains.isEmpty()) {
+            return;
+        }
+
+        PacketFlushEvent jfrEvent = new PacketFlushEvent();
+        jfrEvent.begin();
+        int packets = 0;
+        Iterator<Map.Entry<UUID, PendingGains>> iterator = pendingGains.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, PendingGains> mapEntry = iterator.next();
+            PendingGains gains = mapEntry.getValue();
+            if (gains.touchedCount == 0) {
+                continue;
+            }
+
+            ServerPlayer player = server.getPlayerList().getPlayer(mapEntry.getKey());
+            if (player == null) {
+                iterator.remove();
+                continue;
+            }
+
+            List<ClientboundSkillUpdatePacket.Entry> entries = new ArrayList<>(gains.touchedCount);
+            for (int i = 0; i < gains.touched.length; i++) {
+                if (gains.touched[i]) {
+                    entries.add(new ClientboundSkillUpdatePacket.Entry(i, gains.xp[i], gains.newLevel[i], gains.levelledUp[i]));
+                }
+            }
+            gains.clear();
+            ModNetworking.sendToPlayer(new ClientboundSkillUpdatePacket(entries), player);
+            packets++;
+        }
+
+        jfrEvent.end();
+        if (jfrEvent.shouldCommit()) {
+            jfrEvent.queue = "skill_update";
+            jfrEvent.packets = packets;
+            jfrEvent.commit();
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLogout(PlayerEvent.PlayerLoggedOutEvent event) {
+        pendingGains.remove(event.getEntity().getUUID());
+    }
+
+    @SubscribeEvent
+    public static void onServerStopping(ServerStoppingEvent event) {
+        pendingGains.clear();
+        ticksSinceFlush = 0;
+    }
+}
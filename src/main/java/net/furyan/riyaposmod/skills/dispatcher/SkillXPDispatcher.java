@@ -1,71 +1,83 @@
 package net.furyan.riyaposmod.skills.dispatcher;
 
-import net.furyan.riyaposmod.RiyaposMod;
 import net.furyan.riyaposmod.skills.api.ISkillData;
 import net.furyan.riyaposmod.skills.capability.SkillCapabilities;
-import net.furyan.riyaposmod.skills.config.MiningXPConfigEntry;
-import net.furyan.riyaposmod.skills.config.XPConfigLoader;
+import net.furyan.riyaposmod.skills.config.SkillXPTable;
 import net.furyan.riyaposmod.skills.core.Skills;
-import net.furyan.riyaposmod.skills.events.SkillCapabilityEvents; // Required for XpGainResult
+import net.furyan.riyaposmod.util.jfr.XpGrantEvent;
+import net.furyan.riyaposmod.util.log.LogCategory;
+import net.furyan.riyaposmod.util.log.LogGate;
+import net.furyan.riyaposmod.util.log.ModLog;
+import net.furyan.riyaposmod.util.metrics.ModMetrics;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.world.level.block.state.BlockState;
-import java.util.Optional;
 
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies XP looked up from the compiled {@link SkillXPTable}. Event handlers resolve their
+ * (action, key) to a packed value with one table read and hand it here, so no handler
+ * needs to know which skill it feeds.
+ */
 public class SkillXPDispatcher {
+    private static final ModLog LOG = ModLog.get(LogCategory.SKILLS);
+    private static final LogGate MISSING_CAPABILITY_LIMIT = LogGate.rateLimit(10, TimeUnit.SECONDS);
 
-    // Renamed for clarity and to avoid conflict if we add XpGainResult inside this class
-    public static SkillCapabilityEvents.XpGainResult dispatchMiningBlockBreakXP(ServerPlayer player, BlockState blockState) {
-        if (player == null || blockState == null) {
-            return null;
-        }
+    /**
+     * Grants the XP described by a packed table value once.
+     * @param packed A value from {@link SkillXPTable}; 0 means no XP and is ignored.
+     */
+    public static void dispatch(ServerPlayer player, int packed) {
+        dispatch(player, packed, 1);
+    }
 
-        Optional<MiningXPConfigEntry> configEntryOpt = XPConfigLoader.getMiningXPConfig(blockState.getBlock());
+    /**
+     * Grants the XP described by a packed table value {@code times} times over.
+     * @param packed A value from {@link SkillXPTable}; 0 means no XP and is ignored.
+     */
+    public static void dispatch(ServerPlayer player, int packed, int times) {
+        if (packed == 0 || times <= 0 || player == null) {
+            return;
+        }
 
-        if (configEntryOpt.isPresent()) {
-            MiningXPConfigEntry configEntry = configEntryOpt.get();
-            int xpToGrant = configEntry.getBaseXp();
+        ISkillData skills = player.getCapability(SkillCapabilities.PLAYER_SKILLS);
+        if (skills == null) {
+            LOG.warn(MISSING_CAPABILITY_LIMIT, "Player {} does not have PlayerSkills capability when trying to grant XP.", player.getScoreboardName());
+            return;
+        }
 
-            if (xpToGrant > 0) {
-                ISkillData skills = player.getCapability(SkillCapabilities.PLAYER_SKILLS);
-                if (skills != null) {
-                    String skillName = Skills.MINING.getSkillName();
-                    int oldLevel = skills.getSkillLevel(skillName);
-                    // int oldExp = skills.getSkillExp(skillName); // Total XP before adding
+        Skills skill = SkillXPTable.skillOf(packed);
+        // Multipliers are precomputed per player (see SkillXPMultipliers), so this is the only per-grant cost
+        double scaled = (double) SkillXPTable.xpOf(packed) * times * skills.getXpMultiplier(skill);
+        int xpToGrant = (int) Math.min(Math.round(scaled), Integer.MAX_VALUE);
+        if (xpToGrant <= 0) {
+            return;
+        }
 
-                    skills.addSkillExp(skillName, xpToGrant);
+        XpGrantEvent jfrEvent = new XpGrantEvent();
+        jfrEvent.begin();
+        int oldLevel = skills.getSkillLevel(skill);
+        skills.addSkillExp(skill, xpToGrant);
+        int newLevel = skills.getSkillLevel(skill);
+        boolean levelledUp = newLevel > oldLevel;
 
-                    int newLevel = skills.getSkillLevel(skillName);
-                    long newTotalExp = skills.getSkillTotalExp(skillName); // Get total XP for the skill
-                    boolean levelledUp = newLevel > oldLevel;
-                    
-                    // Logging can remain here or be moved if preferred
-                    RiyaposMod.LOGGER.info(
-                        String.format(
-                            "Player %s mined %s. Granted %d %s XP. %s: Lvl %d -> Lvl %d (Total XP: %d)",
-                            player.getName().getString(),
-                            blockState.getBlock().getName().getString(),
-                            xpToGrant,
-                            skillName,
-                            skillName, // Skill name for logging levels
-                            oldLevel, 
-                            newLevel, newTotalExp
-                        )
-                    );
-                    if (levelledUp) {
-                        RiyaposMod.LOGGER.info("Player {} leveled up {} to level {}!", player.getName().getString(), skillName, newLevel);
-                    }
-                    
-                    return new SkillCapabilityEvents.XpGainResult(skillName, xpToGrant, newLevel, newTotalExp, levelledUp);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Player {} granted {} {} XP. Lvl {} -> Lvl {}",
+                    player.getScoreboardName(), xpToGrant, skill.getSkillName(), oldLevel, newLevel);
+        }
+        if (levelledUp) {
+            LOG.info("Player {} leveled up {} to level {}!", player.getScoreboardName(), skill.getSkillName(), newLevel);
+        }
 
-                } else {
-                    RiyaposMod.LOGGER.warn("Player {} does not have PlayerSkills capability when trying to grant Mining XP.", player.getName().getString());
-                }
-            }
+        jfrEvent.end();
+        if (jfrEvent.shouldCommit()) {
+            jfrEvent.player = player.getScoreboardName();
+            jfrEvent.skill = skill.getSkillName();
+            jfrEvent.xp = xpToGrant;
+            jfrEvent.levelledUp = levelledUp;
+            jfrEvent.commit();
         }
-        return null; // No XP granted or no config
+        ModMetrics.XP_GRANTS.inc();
+        ModMetrics.XP_GRANTED.add(skill.getSkillName(), xpToGrant);
+        SkillXPAggregator.record(player, skill, xpToGrant, newLevel, levelledUp);
     }
-    
-    // Future methods for other action types:
-    // public static void dispatchCombatXP(ServerPlayer player, LivingEntity target, DamageSource source) {}
-    // public static void dispatchCraftingXP(ServerPlayer player, ItemStack craftedStack, List<ItemStack> ingredients) {}
-} 
\ No newline at end of file
+}
@@ -0,0 +1,157 @@
+package net.furyan.riyaposmod.skills.dispatcher;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import net.furyan.riyaposmod.RiyaposMod;
+import net.furyan.riyaposmod.faction.capability.PlayerFactionProvider;
+import net.furyan.riyaposmod.skills.api.ISkillData;
+import net.furyan.riyaposmod.skills.capability.SkillCapabilities;
+import net.furyan.riyaposmod.skills.config.XPConfigLoader;
+import net.furyan.riyaposmod.skills.config.XPMultiplierConfig;
+import net.furyan.riyaposmod.skills.core.Skills;
+import net.minecraft.core.Holder;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.enchantment.Enchantment;
+import net.minecraft.world.item.enchantment.ItemEnchantments;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.living.LivingEquipmentChangeEvent;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+import net.neoforged.neoforge.event.server.ServerStoppingEvent;
+import net.neoforged.neoforge.server.ServerLifecycleHooks;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Builds each player's per-skill XP multiplier vector from their faction, equipment,
+ * enchantments and active server XP events. Vectors are rebuilt only when one of those
+ * inputs changes, so granting XP costs a single multiply. Only accessed from the server thread.
+ */
+@EventBusSubscriber(modid = RiyaposMod.MOD_ID, bus = EventBusSubscriber.Bus.GAME)
+public class SkillXPMultipliers {
+    private static final Set<String> activeEvents = new LinkedHashSet<>();
+
+    /**
+     * Rebuilds the multiplier vector for one player.
+     */
+    public static void recompute(ServerPlayer player) {
+        ISkillData skills = player.getCapability(SkillCapabilities.PLAYER_SKILLS);
+        if (skills == null) {
+            return;
+        }
+
+        XPMultiplierConfig config = XPConfigLoader.getMultipliers();
+        float[] vector = new float[Skills.count()];
+        Arrays.fill(vector, 1.0f);
+
+        PlayerFactionProvider.getPlayerFactionId(player).ifPresent(factionId -> multiply(vector, config.faction(factionId)));
+
+        for (EquipmentSlot slot : EquipmentSlot.values()) {
+            ItemStack stack = player.getItemBySlot(slot);
+            if (stack.isEmpty()) {
+                continue;
+            }
+            multiply(vector, config.item(stack.getItem()));
+
+            ItemEnchantments enchantments = stack.getTagEnchantments();
+            for (Object2IntMap.Entry<Holder<Enchantment>> entry : enchantments.entrySet()) {
+                entry.getKey().unwrapKey().ifPresent(key -> {
+                    float[] bonus = config.enchantment(key.location());
+                    if (bonus != null) {
+                        for (int i = 0; i < vector.length; i++) {
+                            vector[i] *= 1.0f + bonus[i] * entry.getIntValue();
+                        }
+                    }
+                });
+            }
+        }
+
+        for (String eventName : activeEvents) {
+            multiply(vector, config.event(eventName));
+        }
+
+        skills.setXpMultipliers(vector);
+    }
+
+    private static void multiply(float[] vector, float[] factors) {
+        if (factors == null) {
+            return;
+        }
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= factors[i];
+        }
+    }
+
+    /**
+     * Rebuilds the vectors of every online player, e.g. after the multiplier config or active events change.
+     */
+    public static void recomputeAll() {
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server == null) {
+            return;
+        }
+        for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+            recompute(player);
+        }
+    }
+
+    /**
+     * Starts a server-wide XP event configured under "events" in xp_multipliers.json.
+     * @return False if the event is not configured or already running.
+     */
+    public static boolean startEvent(String eventName) {
+        if (XPConfigLoader.getMultipliers().event(eventName) == null || !activeEvents.add(eventName)) {
+            return false;
+        }
+        recomputeAll();
+        return true;
+    }
+
+    /**
+     * Ends a running server-wide XP event.
+     * @return False if the event was not running.
+     */
+    public static boolean endEvent(String eventName) {
+        if (!activeEvents.remove(eventName)) {
+            return false;
+        }
+        recomputeAll();
+        return true;
+    }
+
+    public static Set<String> getActiveEvents() {
+        return Collections.unmodifiableSet(activeEvents);
+    }
+
+    @SubscribeEvent
+    public static void onEquipmentChange(LivingEquipmentChangeEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            recompute(player);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLogin(PlayerEvent.PlayerLoggedInEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            recompute(player);
+        }
+    }
+
+    // The vector is not saved, so the respawned player's copy of the attachment starts without one
+    @SubscribeEvent
+    public static void onPlayerRespawn(PlayerEvent.PlayerRespawnEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            recompute(player);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopping(ServerStoppingEvent event) {
+        activeEvents.clear();
+    }
+}
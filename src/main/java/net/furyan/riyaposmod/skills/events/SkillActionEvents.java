@@ -0,0 +1,171 @@
+package net.furyan.riyaposmod.skills.events;
+
+import io.redspace.ironsspellbooks.api.events.SpellOnCastEvent;
+import net.furyan.riyaposmod.RiyaposMod;
+import net.furyan.riyaposmod.skills.config.SkillXPTable;
+import net.furyan.riyaposmod.skills.config.XPConfigLoader;
+import net.furyan.riyaposmod.skills.dispatcher.ActionType;
+import net.furyan.riyaposmod.skills.dispatcher.SkillXPDispatcher;
+import net.furyan.riyaposmod.skills.world.PlacedBlockTracker;
+import net.furyan.riyaposmod.util.profile.HandlerProfiler;
+import net.furyan.riyaposmod.util.profile.ProfiledHandler;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.bus.api.EventPriority;
+import net.neoforged.bus.api.ICancellableEvent;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.living.LivingDeathEvent;
+import net.neoforged.neoforge.event.entity.player.ItemFishedEvent;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+import net.neoforged.neoforge.event.level.BlockEvent;
+import net.neoforged.neoforge.event.tick.PlayerTickEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Turns game events into skill XP. Every handler does one lookup in the compiled
+ * {@link SkillXPTable} and passes the result to {@link SkillXPDispatcher}; which skill is
+ * affected comes entirely from the per-skill config files.
+ */
+@EventBusSubscriber(modid = RiyaposMod.MOD_ID, bus = EventBusSubscriber.Bus.GAME)
+public class SkillActionEvents {
+    private static final int DISTANCE_SAMPLE_INTERVAL = 20; // ticks
+    // Anything faster than this between samples is a teleport or dimension change, not travel
+    private static final double MAX_SAMPLE_DISTANCE = 200.0;
+
+    private static final Map<UUID, DistanceSample> distanceSamples = new HashMap<>();
+
+    private static final class DistanceSample {
+        Entity vehicle;
+        double x, y, z;
+        double accumulated;
+    }
+
+    // Runs last so a break cancelled by another handler neither grants XP nor clears the placed marker
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onBlockBreak(BlockEvent.BreakEvent event) {
+        if (event.isCanceled() || !(event.getPlayer() instanceof ServerPlayer player)) {
+            return;
+        }
+        if (player.isCreative() || player.isSpectator()) {
+            // Creative breaks are not skill use; the placed marker goes with the block either way
+            PlacedBlockTracker.testAndClear(event.getLevel(), event.getPos());
+            return;
+        }
+        long profileStart = HandlerProfiler.begin();
+
+        BlockState state = event.getState();
+        // Always clear the marker, even for blocks that grant no XP, so it doesn't outlive the block
+        boolean playerPlaced = PlacedBlockTracker.testAndClear(event.getLevel(), event.getPos());
+
+        SkillXPTable table = XPConfigLoader.getXPTable();
+        // Mature crops use the crop_harvested rules; everything else falls back to block_break.
+        // Crops are always player-planted, so only block_break XP is withheld for placed blocks.
+        int packed = table.cropHarvested(state);
+        if (packed == 0 && !playerPlaced) {
+            packed = table.blockBreak(state);
+        }
+        SkillXPDispatcher.dispatch(player, packed);
+        HandlerProfiler.end(ProfiledHandler.SKILL_BLOCK_BREAK, profileStart, player);
+    }
+
+    // Deaths, catches and casts run last too, so one cancelled by another mod grants nothing
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onEntityKilled(LivingDeathEvent event) {
+        if (event.isCanceled()) {
+            return;
+        }
+        if (event.getSource().getEntity() instanceof ServerPlayer player) {
+            SkillXPDispatcher.dispatch(player, XPConfigLoader.getXPTable().entityKill(event.getEntity().getType()));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onItemCrafted(PlayerEvent.ItemCraftedEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            SkillXPDispatcher.dispatch(player, XPConfigLoader.getXPTable().itemCrafted(event.getCrafting().getItem()));
+        }
+    }
+
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onItemFished(ItemFishedEvent event) {
+        if (event.isCanceled() || !(event.getEntity() instanceof ServerPlayer player)) {
+            return;
+        }
+        SkillXPTable table = XPConfigLoader.getXPTable();
+        for (ItemStack drop : event.getDrops()) {
+            SkillXPDispatcher.dispatch(player, table.itemFished(drop.getItem()));
+        }
+    }
+
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onSpellCast(SpellOnCastEvent event) {
+        // Casts are normally stopped through SpellPreCastEvent; this covers the cast event itself being cancellable
+        if (event instanceof ICancellableEvent cancellable && cancellable.isCanceled()) {
+            return;
+        }
+        if (event.getEntity() instanceof ServerPlayer player) {
+            SkillXPDispatcher.dispatch(player, XPConfigLoader.getXPTable().spellCast(event.getSpellId()));
+        }
+    }
+
+    /**
+     * Samples the distance travelled by players driving a configured vehicle (ship, aircraft, ...)
+     * once a second, granting XP for every {@link ActionType#DISTANCE_UNIT} blocks.
+     */
+    @SubscribeEvent
+    public static void onPlayerTick(PlayerTickEvent.Post event) {
+        if (!(event.getEntity() instanceof ServerPlayer player) || player.tickCount % DISTANCE_SAMPLE_INTERVAL != 0) {
+            return;
+        }
+
+        Entity vehicle = player.getVehicle();
+        int packed = vehicle != null && vehicle.getControllingPassenger() == player
+                ? XPConfigLoader.getXPTable().distanceTravelled(vehicle.getType())
+                : 0;
+        if (packed == 0) {
+            distanceSamples.remove(player.getUUID());
+            return;
+        }
+
+        DistanceSample sample = distanceSamples.get(player.getUUID());
+        if (sample == null || sample.vehicle != vehicle) {
+            sample = sample != null ? sample : new DistanceSample();
+            sample.vehicle = vehicle;
+            sample.x = vehicle.getX();
+            sample.y = vehicle.getY();
+            sample.z = vehicle.getZ();
+            sample.accumulated = 0;
+            distanceSamples.put(player.getUUID(), sample);
+            return;
+        }
+
+        double dx = vehicle.getX() - sample.x;
+        double dy = vehicle.getY() - sample.y;
+        double dz = vehicle.getZ() - sample.z;
+        sample.x = vehicle.getX();
+        sample.y = vehicle.getY();
+        sample.z = vehicle.getZ();
+
+        double distance = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        if (distance > MAX_SAMPLE_DISTANCE) {
+            return;
+        }
+        sample.accumulated += distance;
+        int units = (int) (sample.accumulated / ActionType.DISTANCE_UNIT);
+        if (units > 0) {
+            sample.accumulated -= units * ActionType.DISTANCE_UNIT;
+            SkillXPDispatcher.dispatch(player, packed, units);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLogout(PlayerEvent.PlayerLoggedOutEvent event) {
+        distanceSamples.remove(event.getEntity().getUUID());
+    }
+}
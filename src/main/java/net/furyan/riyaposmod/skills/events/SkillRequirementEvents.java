@@ -0,0 +1,53 @@
+package net.furyan.riyaposmod.skills.events;
+
+import net.furyan.riyaposmod.RiyaposMod;
+import net.furyan.riyaposmod.registries.SkillAttachmentRegistry;
+import net.furyan.riyaposmod.skills.config.SkillXPTable;
+import net.furyan.riyaposmod.skills.config.XPConfigLoader;
+import net.furyan.riyaposmod.util.profile.HandlerProfiler;
+import net.furyan.riyaposmod.util.profile.ProfiledHandler;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+
+/**
+ * Enforces the "required_level" of block-break rules. BreakSpeed fires every tick while a
+ * player is mining, so the check is one read from the compiled requirement table and one
+ * read of the player's cached level, with no config or tag lookups.
+ * <p>
+ * Only runs on the server, where skill data lives. The client may show cracking for a moment
+ * before the server rejects the break.
+ */
+@EventBusSubscriber(modid = RiyaposMod.MOD_ID, bus = EventBusSubscriber.Bus.GAME)
+public class SkillRequirementEvents {
+
+    @SubscribeEvent
+    public static void onBreakSpeed(PlayerEvent.BreakSpeed event) {
+        long profileStart = HandlerProfiler.begin();
+        if (!meetsRequirement(event.getEntity(), event.getState())) {
+            event.setCanceled(true);
+        }
+        HandlerProfiler.end(ProfiledHandler.SKILL_BREAK_SPEED, profileStart, event.getEntity());
+    }
+
+    @SubscribeEvent
+    public static void onHarvestCheck(PlayerEvent.HarvestCheck event) {
+        if (event.canHarvest() && !meetsRequirement(event.getEntity(), event.getTargetBlock())) {
+            event.setCanHarvest(false);
+        }
+    }
+
+    private static boolean meetsRequirement(Player player, BlockState state) {
+        if (player.level().isClientSide() || player.isCreative()) {
+            return true;
+        }
+        int requirement = XPConfigLoader.getXPTable().blockRequirement(state);
+        if (requirement == 0) {
+            return true;
+        }
+        int level = player.getData(SkillAttachmentRegistry.PLAYER_SKILLS_ATTACHMENT).getSkillLevel(SkillXPTable.skillOf(requirement));
+        return level >= SkillXPTable.xpOf(requirement);
+    }
+}
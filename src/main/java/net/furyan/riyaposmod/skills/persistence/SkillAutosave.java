@@ -0,0 +1,88 @@
+package net.furyan.riyaposmod.skills.persistence;
+
+import net.furyan.riyaposmod.Config;
+import net.furyan.riyaposmod.RiyaposMod;
+import net.furyan.riyaposmod.mixin.PlayerListInvoker;
+import net.furyan.riyaposmod.skills.api.ISkillData;
+import net.furyan.riyaposmod.skills.capability.SkillCapabilities;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+import net.neoforged.neoforge.event.server.ServerStoppingEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Saves players whose skills have changed without waiting for the world autosave, so a crash
+ * loses at most one interval of progress. Every {@link Config#skillAutosaveIntervalTicks} ticks
+ * the dirty players are queued, and at most {@link Config#skillAutosavePlayersPerTick} of them
+ * are written each tick so a full server never saves everyone in one tick.
+ */
+@EventBusSubscriber(modid = RiyaposMod.MOD_ID, bus = EventBusSubscriber.Bus.GAME)
+public class SkillAutosave {
+    private static final Deque<UUID> saveQueue = new ArrayDeque<>();
+    private static final Set<UUID> queued = new HashSet<>();
+    private static int ticksSinceSweep = 0;
+
+    @SubscribeEvent
+    public static void onServerTick(ServerTickEvent.Post event) {
+        MinecraftServer server = event.getServer();
+
+        if (++ticksSinceSweep >= Config.skillAutosaveIntervalTicks) {
+            ticksSinceSweep = 0;
+            queueDirtyPlayers(server);
+        }
+
+        int budget = Config.skillAutosavePlayersPerTick;
+        while (budget > 0 && !saveQueue.isEmpty()) {
+            UUID playerId = saveQueue.pollFirst();
+            queued.remove(playerId);
+
+            ServerPlayer player = server.getPlayerList().getPlayer(playerId);
+            if (player == null) {
+                continue; // Logged out; vanilla saved them on the way out
+            }
+            ISkillData skills = player.getCapability(SkillCapabilities.PLAYER_SKILLS);
+            if (skills == null || !skills.isDirty()) {
+                continue; // Already written by a world save since being queued
+            }
+
+            ((PlayerListInvoker) server.getPlayerList()).riyaposmod$save(player);
+            budget--;
+        }
+    }
+
+    /**
+     * Fired after a player's data file is written, whether by this autosave, a world save or logout.
+     */
+    @SubscribeEvent
+    public static void onPlayerSaved(PlayerEvent.SaveToFile event) {
+        ISkillData skills = event.getEntity().getCapability(SkillCapabilities.PLAYER_SKILLS);
+        if (skills != null) {
+            skills.markSaved();
+        }
+    }
+
+    private static void queueDirtyPlayers(MinecraftServer server) {
+        for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+            ISkillData skills = player.getCapability(SkillCapabilities.PLAYER_SKILLS);
+            if (skills != null && skills.isDirty() && queued.add(player.getUUID())) {
+                saveQueue.addLast(player.getUUID());
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopping(ServerStoppingEvent event) {
+        saveQueue.clear();
+        queued.clear();
+        ticksSinceSweep = 0;
+    }
+}
@@ -0,0 +1,112 @@
+package net.furyan.riyaposmod.skills.persistence;
+
+import java.util.Arrays;
+
+/**
+ * Ranking of store slots for one skill, kept sorted by total XP (highest first, ties by slot)
+ * and updated incrementally as individual players change. Also owns the XP column for its
+ * skill so comparisons never leave this object.
+ */
+final class SkillLeaderboard {
+    private long[] xpBySlot;
+    private int[] order;     // order[rank] = slot
+    private int[] rankOfSlot; // rankOfSlot[slot] = rank
+    private int size;
+
+    SkillLeaderboard(int capacity) {
+        xpBySlot = new long[capacity];
+        order = new int[capacity];
+        rankOfSlot = new int[capacity];
+    }
+
+    int size() {
+        return size;
+    }
+
+    long xp(int slot) {
+        return xpBySlot[slot];
+    }
+
+    int slotAtRank(int rank) {
+        return order[rank];
+    }
+
+    /**
+     * @return The 1-based rank of the slot.
+     */
+    int rank(int slot) {
+        return rankOfSlot[slot] + 1;
+    }
+
+    /**
+     * Sets the XP for a slot and moves it to its new rank. Slots must be added in order,
+     * i.e. a new slot must equal the current size.
+     */
+    void update(int slot, long xp) {
+        ensureCapacity(slot + 1);
+        if (slot == size) {
+            xpBySlot[slot] = xp;
+            insert(slot, insertionPoint(slot, size));
+            size++;
+            return;
+        }
+        if (xpBySlot[slot] == xp) {
+            return;
+        }
+
+        // Take the slot out of the ranking, then binary search for where it now belongs
+        int oldRank = rankOfSlot[slot];
+        System.arraycopy(order, oldRank + 1, order, oldRank, size - oldRank - 1);
+        xpBySlot[slot] = xp;
+        int newRank = insertionPoint(slot, size - 1);
+        System.arraycopy(order, newRank, order, newRank + 1, size - 1 - newRank);
+        order[newRank] = slot;
+
+        int from = Math.min(oldRank, newRank);
+        int to = Math.max(oldRank, newRank);
+        for (int rank = from; rank <= to; rank++) {
+            rankOfSlot[order[rank]] = rank;
+        }
+    }
+
+    private void insert(int slot, int rank) {
+        System.arraycopy(order, rank, order, rank + 1, size - rank);
+        order[rank] = slot;
+        for (int r = rank; r <= size; r++) {
+            rankOfSlot[order[r]] = r;
+        }
+    }
+
+    /**
+     * @return The first rank in order[0..length) that the slot outranks.
+     */
+    private int insertionPoint(int slot, int length) {
+        int low = 0;
+        int high = length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (outranks(slot, order[mid])) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private boolean outranks(int a, int b) {
+        long xpA = xpBySlot[a];
+        long xpB = xpBySlot[b];
+        return xpA > xpB || (xpA == xpB && a < b);
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed <= xpBySlot.length) {
+            return;
+        }
+        int newCapacity = Math.max(needed, xpBySlot.length * 2);
+        xpBySlot = Arrays.copyOf(xpBySlot, newCapacity);
+        order = Arrays.copyOf(order, newCapacity);
+        rankOfSlot = Arrays.copyOf(rankOfSlot, newCapacity);
+    }
+}
@@ -0,0 +1,320 @@
+package net.furyan.riyaposmod.skills.persistence;
+
+import net.furyan.riyaposmod.RiyaposMod;
+import net.furyan.riyaposmod.skills.api.ISkillData;
+import net.furyan.riyaposmod.skills.capability.SkillCapabilities;
+import net.furyan.riyaposmod.skills.core.Skills;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.storage.LevelResource;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+import net.neoforged.neoforge.event.server.ServerStartedEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * World-level copy of every player's total skill XP, so rankings and offline lookups never
+ * touch playerdata. Backed by a memory-mapped file of fixed-size records:
+ * <pre>
+ *   header: magic, version, skill count, record count (4 ints)
+ *   record: UUID (2 longs), name (16 bytes UTF-8, zero padded), total XP per skill (longs)
+ * </pre>
+ * Records are rewritten in place whenever a player's data is saved, and each skill's
+ * {@link SkillLeaderboard} is updated incrementally. Only accessed from the server thread.
+ */
+@EventBusSubscriber(modid = RiyaposMod.MOD_ID, bus = EventBusSubscriber.Bus.GAME)
+public class SkillStore {
+    private static final int MAGIC = 0x52534B53; // "RSKS"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+    private static final int NAME_BYTES = 16;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final int SKILL_COUNT = Skills.count();
+    private static final int RECORD_BYTES = 16 + NAME_BYTES + SKILL_COUNT * Long.BYTES;
+
+    private static SkillStore instance;
+
+    private final FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int capacity;
+
+    private final Map<UUID, Integer> slotsById = new HashMap<>();
+    private final Map<String, Integer> slotsByName = new HashMap<>();
+    private final List<UUID> ids = new ArrayList<>();
+    private final List<String> names = new ArrayList<>();
+    private final SkillLeaderboard[] leaderboards = new SkillLeaderboard[SKILL_COUNT];
+
+    /**
+     * A player's entry in the store.
+     *
+     * @param id The player's UUID
+     * @param name The player's name when last saved
+     * @param totalXp Total XP per skill, indexed by ordinal
+     */
+    public record Entry(UUID id, String name, long[] totalXp) {}
+
+    /**
+     * One row of a leaderboard.
+     */
+    public record Ranking(int rank, String name, long totalXp) {}
+
+    private SkillStore(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        for (int i = 0; i < SKILL_COUNT; i++) {
+            leaderboards[i] = new SkillLeaderboard(INITIAL_CAPACITY);
+        }
+
+        if (channel.size() >= HEADER_BYTES) {
+            load();
+        } else {
+            map(INITIAL_CAPACITY);
+            writeHeader();
+        }
+    }
+
+    private void map(int newCapacity) throws IOException {
+        if (buffer != null) {
+            buffer.force();
+        }
+        capacity = newCapacity;
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + (long) capacity * RECORD_BYTES);
+    }
+
+    private void writeHeader() {
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, SKILL_COUNT);
+        buffer.putInt(12, ids.size());
+    }
+
+    private void load() throws IOException {
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+        int magic = header.getInt(0);
+        int version = header.getInt(4);
+        int storedSkills = header.getInt(8);
+        int records = header.getInt(12);
+        if (magic != MAGIC || version != VERSION || storedSkills <= 0) {
+            RiyaposMod.LOGGER.warn("Skill store has an unknown format (magic {}, version {}). Starting a new one.", magic, version);
+            channel.truncate(0);
+            map(INITIAL_CAPACITY);
+            writeHeader();
+            return;
+        }
+
+        int storedRecordBytes = 16 + NAME_BYTES + storedSkills * Long.BYTES;
+        long available = (channel.size() - HEADER_BYTES) / storedRecordBytes;
+        records = (int) Math.min(records, available);
+        MappedByteBuffer old = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES + (long) records * storedRecordBytes);
+
+        List<Entry> entries = new ArrayList<>(records);
+        byte[] nameBytes = new byte[NAME_BYTES];
+        for (int slot = 0; slot < records; slot++) {
+            int base = HEADER_BYTES + slot * storedRecordBytes;
+            UUID id = new UUID(old.getLong(base), old.getLong(base + 8));
+            old.get(base + 16, nameBytes);
+            long[] xp = new long[SKILL_COUNT];
+            int skillsToRead = Math.min(storedSkills, SKILL_COUNT);
+            for (int skill = 0; skill < skillsToRead; skill++) {
+                xp[skill] = old.getLong(base + 16 + NAME_BYTES + skill * Long.BYTES);
+            }
+            entries.add(new Entry(id, decodeName(nameBytes), xp));
+        }
+
+        // Records are rewritten in the current layout, which also migrates files written with a different skill count
+        map(Math.max(INITIAL_CAPACITY, Integer.highestOneBit(Math.max(1, records)) * 2));
+        for (Entry entry : entries) {
+            put(entry.id(), entry.name(), entry.totalXp());
+        }
+        writeHeader();
+        RiyaposMod.LOGGER.info("Loaded {} players from the skill store.", records);
+    }
+
+    /**
+     * Adds or updates a player's record and leaderboard positions.
+     */
+    private void put(UUID id, String name, long[] totalXp) throws IOException {
+        Integer existing = slotsById.get(id);
+        int slot;
+        if (existing == null) {
+            slot = ids.size();
+            if (slot >= capacity) {
+                map(capacity * 2);
+            }
+            ids.add(id);
+            names.add(name);
+            slotsById.put(id, slot);
+            slotsByName.put(name.toLowerCase(Locale.ROOT), slot);
+            int base = recordOffset(slot);
+            buffer.putLong(base, id.getMostSignificantBits());
+            buffer.putLong(base + 8, id.getLeastSignificantBits());
+            writeName(slot, name);
+            buffer.putInt(12, ids.size());
+        } else {
+            slot = existing;
+            if (!names.get(slot).equals(name)) {
+                // Only drop the old name if it still points here; another player may have taken it since
+                slotsByName.remove(names.get(slot).toLowerCase(Locale.ROOT), slot);
+                names.set(slot, name);
+                slotsByName.put(name.toLowerCase(Locale.ROOT), slot);
+                writeName(slot, name);
+            }
+        }
+
+        int xpBase = recordOffset(slot) + 16 + NAME_BYTES;
+        for (int skill = 0; skill < SKILL_COUNT; skill++) {
+            SkillLeaderboard board = leaderboards[skill];
+            if (existing == null || board.xp(slot) != totalXp[skill]) {
+                buffer.putLong(xpBase + skill * Long.BYTES, totalXp[skill]);
+                board.update(slot, totalXp[skill]);
+            }
+        }
+    }
+
+    private int recordOffset(int slot) {
+        return HEADER_BYTES + slot * RECORD_BYTES;
+    }
+
+    private void writeName(int slot, String name) {
+        byte[] encoded = Arrays.copyOf(name.getBytes(StandardCharsets.UTF_8), NAME_BYTES);
+        buffer.put(recordOffset(slot) + 16, encoded);
+    }
+
+    private static String decodeName(byte[] bytes) {
+        int length = 0;
+        while (length < bytes.length && bytes[length] != 0) {
+            length++;
+        }
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private void close() {
+        try {
+            buffer.force();
+            channel.close();
+        } catch (IOException e) {
+            RiyaposMod.LOGGER.error("Failed to close the skill store", e);
+        }
+    }
+
+    // ---- Public API ----
+
+    /**
+     * Copies a player's current skills into the store.
+     */
+    public static void update(Player player) {
+        if (instance == null) {
+            return;
+        }
+        ISkillData skills = player.getCapability(SkillCapabilities.PLAYER_SKILLS);
+        if (skills == null) {
+            return;
+        }
+        long[] totalXp = new long[SKILL_COUNT];
+        for (Skills skill : Skills.values()) {
+            totalXp[skill.ordinal()] = skills.getSkillTotalExp(skill);
+        }
+        try {
+            instance.put(player.getUUID(), player.getGameProfile().getName(), totalXp);
+        } catch (IOException e) {
+            RiyaposMod.LOGGER.error("Failed to update skill store for {}", player.getGameProfile().getName(), e);
+        }
+    }
+
+    /**
+     * @return The highest-ranked players for a skill, best first.
+     */
+    public static List<Ranking> top(Skills skill, int count) {
+        if (instance == null) {
+            return List.of();
+        }
+        SkillLeaderboard board = instance.leaderboards[skill.ordinal()];
+        int n = Math.min(count, board.size());
+        List<Ranking> result = new ArrayList<>(n);
+        for (int rank = 0; rank < n; rank++) {
+            int slot = board.slotAtRank(rank);
+            result.add(new Ranking(rank + 1, instance.names.get(slot), board.xp(slot)));
+        }
+        return result;
+    }
+
+    /**
+     * Looks up a player, online or offline, by their last known name.
+     * @return The entry, or null if the player is not in the store.
+     */
+    public static Entry lookup(String name) {
+        if (instance == null) {
+            return null;
+        }
+        Integer slot = instance.slotsByName.get(name.toLowerCase(Locale.ROOT));
+        if (slot == null) {
+            return null;
+        }
+        long[] totalXp = new long[SKILL_COUNT];
+        for (int skill = 0; skill < SKILL_COUNT; skill++) {
+            totalXp[skill] = instance.leaderboards[skill].xp(slot);
+        }
+        return new Entry(instance.ids.get(slot), instance.names.get(slot), totalXp);
+    }
+
+    /**
+     * @return The player's 1-based rank in a skill, or 0 if they are not in the store.
+     */
+    public static int rank(UUID playerId, Skills skill) {
+        if (instance == null) {
+            return 0;
+        }
+        Integer slot = instance.slotsById.get(playerId);
+        return slot == null ? 0 : instance.leaderboards[skill.ordinal()].rank(slot);
+    }
+
+    // ---- Lifecycle ----
+
+    @SubscribeEvent
+    public static void onServerStarted(ServerStartedEvent event) {
+        MinecraftServer server = event.getServer();
+        Path file = server.getWorldPath(LevelResource.ROOT).resolve(RiyaposMod.MOD_ID).resolve("skill_store.bin");
+        try {
+            instance = new SkillStore(file);
+        } catch (IOException e) {
+            RiyaposMod.LOGGER.error("Failed to open the skill store at {}. Leaderboards are disabled.", file, e);
+            instance = null;
+        }
+    }
+
+    // Closed after the server has stopped so the final player saves still reach the store
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        if (instance != null) {
+            instance.close();
+            instance = null;
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLogin(PlayerEvent.PlayerLoggedInEvent event) {
+        update(event.getEntity());
+    }
+
+    @SubscribeEvent
+    public static void onPlayerSaved(PlayerEvent.SaveToFile event) {
+        update(event.getEntity());
+    }
+}
@@ -1,73 +1,55 @@
 package net.furyan.riyaposmod.skills.util;
 
 import net.furyan.riyaposmod.RiyaposMod;
+import net.furyan.riyaposmod.skills.core.Skills;
 
 public class SkillConstants {
 
-    public static final int MAX_SKILL_LEVEL = 100; // Max level is 99 in OSRS, 120 in RS3 for some. We'll use 100 for now.
+    public static final int MAX_SKILL_LEVEL = 100; // Default max level. Max level is 99 in OSRS, 120 in RS3 for some. Per-skill caps come from curves.json.
+    public static final int MAX_SUPPORTED_LEVEL = 255; // Levels are cached as unsigned bytes
     public static final int MIN_SKILL_LEVEL = 1;
-    public static final String PLAYER_SKILLS_NBT_KEY = RiyaposMod.MOD_ID + "_player_skills_data";
+    public static final String PLAYER_SKILLS_NBT_KEY = RiyaposMod.MOD_ID + "_player_skills_data"; // Legacy persistent-data key, only read for migration
 
-    private static final int[] XP_FOR_LEVEL = new int[MAX_SKILL_LEVEL + 1];
-
-    static {
-        generateXpThresholds();
-    }
-
-    private static void generateXpThresholds() {
-        double totalPoints = 0;
-        XP_FOR_LEVEL[0] = 0; // Level 0 doesn't exist, but helps index
-        XP_FOR_LEVEL[1] = 0; // Total XP to reach level 1 is 0
+    /**
+     * The curve used for any skill not configured in curves.json.
+     */
+    public static final SkillCurve DEFAULT_CURVE = SkillCurve.formula(MAX_SKILL_LEVEL, 300.0, 7.0, 4.0);
 
-        for (int level = 2; level <= MAX_SKILL_LEVEL; level++) {
-            // Points needed to advance from (level-1) to level
-            double pointsForThisLevel = Math.floor((level - 1) + 300.0 * Math.pow(2.0, (level - 1) / 7.0));
-            totalPoints += pointsForThisLevel;
-            XP_FOR_LEVEL[level] = (int) Math.floor(totalPoints / 4.0); // Total XP to reach this level
-        }
+    /**
+     * Gets the total experience points required to reach the given level of a skill.
+     * @param skill The skill whose curve to use.
+     * @param level The skill level.
+     * @return The total XP needed to attain that level. Returns 0 for level 1 or below,
+     *         and the XP for the skill's max level if the requested level is higher.
+     */
+    public static long getXpForLevel(Skills skill, int level) {
+        return SkillCurves.get(skill).getXpForLevel(level);
     }
 
     /**
-     * Gets the total experience points required to reach the given skill level.
-     * @param level The skill level (1 to MAX_SKILL_LEVEL).
-     * @return The total XP needed to attain that level. Returns 0 for level 1.
-     *         Returns experience for MAX_SKILL_LEVEL if requested level is higher.
-     *         Returns 0 if level is less than 1.
+     * Gets the level of a skill for the given total experience points.
+     * @param skill The skill whose curve to use.
+     * @param totalExperience The total accumulated experience.
+     * @return The current skill level (1 to the skill's max level).
      */
-    public static int getXpForLevel(int level) {
-        if (level < MIN_SKILL_LEVEL) {
-            return 0;
-        }
-        if (level > MAX_SKILL_LEVEL) {
-            return XP_FOR_LEVEL[MAX_SKILL_LEVEL];
-        }
-        return XP_FOR_LEVEL[level];
+    public static int getLevelForXP(Skills skill, long totalExperience) {
+        return SkillCurves.get(skill).getLevelForXP(totalExperience);
     }
 
     /**
-     * Gets the skill level for the given total experience points.
-     * @param totalExperience The total accumulated experience.
-     * @return The current skill level (1 to MAX_SKILL_LEVEL).
+     * @return The configured max level for the skill.
      */
-    public static int getLevelForXP(int totalExperience) {
-        if (totalExperience <= 0) {
-            return MIN_SKILL_LEVEL;
-        }
-        // Iterate downwards to find the highest level achieved
-        for (int level = MAX_SKILL_LEVEL; level >= MIN_SKILL_LEVEL; level--) {
-            if (totalExperience >= XP_FOR_LEVEL[level]) {
-                return level;
-            }
-        }
-        return MIN_SKILL_LEVEL; // Should not be reached if totalExperience > 0 due to XP_FOR_LEVEL[1] = 0
+    public static int getMaxLevel(Skills skill) {
+        return SkillCurves.get(skill).getMaxLevel();
     }
 
     // For debugging or displaying XP table
-    public static void printXpTable() {
+    public static void printXpTable(Skills skill) {
+        SkillCurve curve = SkillCurves.get(skill);
         System.out.println("Level | Total XP Needed");
         System.out.println("------|----------------");
-        for (int i = 1; i <= MAX_SKILL_LEVEL; i++) {
-            System.out.printf("%-6d| %d%n", i, getXpForLevel(i));
+        for (int i = 1; i <= curve.getMaxLevel(); i++) {
+            System.out.printf("%-6d| %d%n", i, curve.getXpForLevel(i));
         }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,124 @@
+package net.furyan.riyaposmod.skills.util;
+
+import java.util.Arrays;
+
+/**
+ * A compiled experience curve for a single skill.
+ * Thresholds are stored as total XP indexed by level, so both directions of lookup
+ * avoid overflow and level lookup is a binary search over at most 255 entries.
+ */
+public final class SkillCurve {
+
+    private final long[] thresholds; // thresholds[level] = total XP needed to reach level; index 0 is unused
+    private final int maxLevel;
+
+    private SkillCurve(long[] thresholds) {
+        this.thresholds = thresholds;
+        this.maxLevel = thresholds.length - 1;
+    }
+
+    /**
+     * Builds a RuneScape-style curve where advancing from level L-1 to L costs
+     * floor((L-1) + base * 2^((L-1) / exponentDivisor)) points, and total XP is the
+     * running sum divided by scale.
+     */
+    public static SkillCurve formula(int maxLevel, double base, double exponentDivisor, double scale) {
+        validateMaxLevel(maxLevel);
+        if (exponentDivisor <= 0 || scale <= 0) {
+            throw new IllegalArgumentException("exponent_divisor and scale must be positive");
+        }
+        long[] thresholds = new long[maxLevel + 1];
+        double totalPoints = 0;
+        for (int level = 2; level <= maxLevel; level++) {
+            // Points needed to advance from (level-1) to level
+            totalPoints += Math.floor((level - 1) + base * Math.pow(2.0, (level - 1) / exponentDivisor));
+            thresholds[level] = (long) Math.floor(totalPoints / scale);
+        }
+        return new SkillCurve(thresholds);
+    }
+
+    /**
+     * Builds a curve from an explicit table of total XP per level, starting at level 1.
+     * The table must start at 0 and never decrease.
+     */
+    public static SkillCurve table(long[] totalXpFromLevelOne) {
+        validateMaxLevel(totalXpFromLevelOne.length);
+        if (totalXpFromLevelOne[0] != 0) {
+            throw new IllegalArgumentException("XP table must start at 0 for level 1");
+        }
+        long[] thresholds = new long[totalXpFromLevelOne.length + 1];
+        for (int i = 0; i < totalXpFromLevelOne.length; i++) {
+            if (i > 0 && totalXpFromLevelOne[i] < totalXpFromLevelOne[i - 1]) {
+                throw new IllegalArgumentException("XP table decreases at level " + (i + 1));
+            }
+            thresholds[i + 1] = totalXpFromLevelOne[i];
+        }
+        return new SkillCurve(thresholds);
+    }
+
+    private static void validateMaxLevel(int maxLevel) {
+        if (maxLevel < SkillConstants.MIN_SKILL_LEVEL || maxLevel > SkillConstants.MAX_SUPPORTED_LEVEL) {
+            throw new IllegalArgumentException("max_level must be between " + SkillConstants.MIN_SKILL_LEVEL
+                    + " and " + SkillConstants.MAX_SUPPORTED_LEVEL + ", got " + maxLevel);
+        }
+    }
+
+    public int getMaxLevel() {
+        return maxLevel;
+    }
+
+    /**
+     * @return The total XP needed to reach the max level.
+     */
+    public long getMaxXp() {
+        return thresholds[maxLevel];
+    }
+
+    /**
+     * Gets the total experience points required to reach the given level.
+     * Levels below 1 return 0 and levels above the max return the max level's XP.
+     */
+    public long getXpForLevel(int level) {
+        if (level < SkillConstants.MIN_SKILL_LEVEL) {
+            return 0;
+        }
+        return thresholds[Math.min(level, maxLevel)];
+    }
+
+    /**
+     * Gets the level for the given total experience points.
+     * @return The level, between 1 and the max level.
+     */
+    public int getLevelForXP(long totalExperience) {
+        if (totalExperience <= 0) {
+            return SkillConstants.MIN_SKILL_LEVEL;
+        }
+        // Binary search for the highest level whose threshold has been reached
+        int low = SkillConstants.MIN_SKILL_LEVEL;
+        int high = maxLevel;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (totalExperience >= thresholds[mid]) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public String toString() {
+        return "SkillCurve{maxLevel=" + maxLevel + ", maxXp=" + getMaxXp() + '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof SkillCurve other && Arrays.equals(thresholds, other.thresholds);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(thresholds);
+    }
+}
@@ -0,0 +1,49 @@
+package net.furyan.riyaposmod.skills.util;
+
+import net.furyan.riyaposmod.skills.core.Skills;
+
+import java.util.Arrays;
+
+/**
+ * Holds the compiled XP curve for each skill, indexed by {@link Skills#ordinal()}.
+ * Curves are replaced as a whole when configs are (re)loaded; the generation counter
+ * lets holders of cached levels notice that they need to recompute.
+ */
+public final class SkillCurves {
+
+    private static volatile SkillCurve[] curves = defaults();
+    private static volatile int generation = 0;
+
+    private SkillCurves() {}
+
+    /**
+     * @return A fresh array with the default curve for every skill.
+     */
+    public static SkillCurve[] defaults() {
+        SkillCurve[] result = new SkillCurve[Skills.count()];
+        Arrays.fill(result, SkillConstants.DEFAULT_CURVE);
+        return result;
+    }
+
+    public static SkillCurve get(Skills skill) {
+        return curves[skill.ordinal()];
+    }
+
+    /**
+     * @return A counter that changes every time new curves are installed.
+     */
+    public static int generation() {
+        return generation;
+    }
+
+    /**
+     * Replaces all curves. The array must have one entry per skill and is not copied.
+     */
+    public static void install(SkillCurve[] compiled) {
+        if (compiled.length != Skills.count()) {
+            throw new IllegalArgumentException("Expected " + Skills.count() + " curves, got " + compiled.length);
+        }
+        curves = compiled;
+        generation++;
+    }
+}
@@ -0,0 +1,112 @@
+package net.furyan.riyaposmod.skills.world;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.core.SectionPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.neoforged.neoforge.attachment.IAttachmentHolder;
+import net.neoforged.neoforge.attachment.IAttachmentSerializer;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Per-chunk record of which blocks were placed by a player, used to stop XP farming by
+ * placing and re-breaking blocks. Each 16x16x16 section that has ever had a block placed
+ * gets a 4096-bit set (64 longs, 512 bytes); untouched sections cost nothing.
+ */
+public class PlacedBlockData {
+    private static final int WORDS_PER_SECTION = 4096 / 64;
+    private static final String SECTIONS_TAG = "Sections";
+    private static final String Y_TAG = "Y";
+    private static final String BITS_TAG = "Bits";
+
+    public static final IAttachmentSerializer<CompoundTag, PlacedBlockData> SERIALIZER = new IAttachmentSerializer<>() {
+        @Override
+        public PlacedBlockData read(IAttachmentHolder holder, CompoundTag tag, HolderLookup.Provider provider) {
+            PlacedBlockData data = new PlacedBlockData();
+            ListTag sections = tag.getList(SECTIONS_TAG, Tag.TAG_COMPOUND);
+            for (int i = 0; i < sections.size(); i++) {
+                CompoundTag section = sections.getCompound(i);
+                long[] bits = section.getLongArray(BITS_TAG);
+                if (bits.length == WORDS_PER_SECTION) {
+                    data.sections.put(section.getInt(Y_TAG), bits);
+                }
+            }
+            return data;
+        }
+
+        @Override
+        public @Nullable CompoundTag write(PlacedBlockData data, HolderLookup.Provider provider) {
+            if (data.sections.isEmpty()) {
+                return null; // Nothing worth saving
+            }
+            ListTag sections = new ListTag();
+            for (Int2ObjectMap.Entry<long[]> entry : data.sections.int2ObjectEntrySet()) {
+                CompoundTag section = new CompoundTag();
+                section.putInt(Y_TAG, entry.getIntKey());
+                section.putLongArray(BITS_TAG, entry.getValue());
+                sections.add(section);
+            }
+            CompoundTag tag = new CompoundTag();
+            tag.put(SECTIONS_TAG, sections);
+            return tag;
+        }
+    };
+
+    // Keyed by section Y; only sections with at least one placed block are present
+    private final Int2ObjectOpenHashMap<long[]> sections = new Int2ObjectOpenHashMap<>();
+
+    private static int indexInSection(BlockPos pos) {
+        return ((pos.getY() & 15) << 8) | ((pos.getZ() & 15) << 4) | (pos.getX() & 15);
+    }
+
+    public void mark(BlockPos pos) {
+        long[] bits = sections.computeIfAbsent(SectionPos.blockToSectionCoord(pos.getY()), y -> new long[WORDS_PER_SECTION]);
+        int index = indexInSection(pos);
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    public boolean isMarked(BlockPos pos) {
+        long[] bits = sections.get(SectionPos.blockToSectionCoord(pos.getY()));
+        if (bits == null) {
+            return false;
+        }
+        int index = indexInSection(pos);
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Clears the marker for a position.
+     * @return Whether the position was marked as player-placed.
+     */
+    public boolean testAndClear(BlockPos pos) {
+        int sectionY = SectionPos.blockToSectionCoord(pos.getY());
+        long[] bits = sections.get(sectionY);
+        if (bits == null) {
+            return false;
+        }
+        int index = indexInSection(pos);
+        long mask = 1L << index;
+        int word = index >>> 6;
+        if ((bits[word] & mask) == 0) {
+            return false;
+        }
+        bits[word] &= ~mask;
+        if (isEmpty(bits)) {
+            sections.remove(sectionY);
+        }
+        return true;
+    }
+
+    private static boolean isEmpty(long[] bits) {
+        for (long word : bits) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
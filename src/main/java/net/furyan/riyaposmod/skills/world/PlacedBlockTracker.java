@@ -0,0 +1,162 @@
+package net.furyan.riyaposmod.skills.world;
+
+import net.furyan.riyaposmod.RiyaposMod;
+import net.furyan.riyaposmod.registries.SkillAttachmentRegistry;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.piston.PistonStructureResolver;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.material.PushReaction;
+import net.neoforged.bus.api.EventPriority;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.common.util.BlockSnapshot;
+import net.neoforged.neoforge.event.level.BlockEvent;
+import net.neoforged.neoforge.event.level.ExplosionEvent;
+import net.neoforged.neoforge.event.level.PistonEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Marks blocks placed by entities in their chunk's {@link PlacedBlockData}, so breaking them
+ * again does not grant block-break XP. Markers follow blocks moved by pistons and are cleared
+ * when pistons or explosions destroy the block.
+ */
+@EventBusSubscriber(modid = RiyaposMod.MOD_ID, bus = EventBusSubscriber.Bus.GAME)
+public class PlacedBlockTracker {
+    /**
+     * Marked blocks a piston is about to move or destroy, resolved before the move and applied after it.
+     */
+    private record PendingMove(Level level, List<BlockPos> moved, List<BlockPos> destroyed, Direction pushDirection) {}
+
+    // Keyed by piston position; Pre and Post fire within the same block event. Server thread only.
+    private static final Map<BlockPos, PendingMove> pendingMoves = new HashMap<>();
+
+    // Runs last so placements cancelled by other mods are not marked
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onBlockPlaced(BlockEvent.EntityPlaceEvent event) {
+        if (event.isCanceled() || !(event.getLevel() instanceof Level level) || level.isClientSide()) {
+            return;
+        }
+        if (event instanceof BlockEvent.EntityMultiPlaceEvent multiPlace) {
+            for (BlockSnapshot snapshot : multiPlace.getReplacedBlockSnapshots()) {
+                mark(level, snapshot.getPos());
+            }
+        } else {
+            mark(level, event.getPos());
+        }
+    }
+
+    // Runs last so moves cancelled by other mods are ignored
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onPistonPre(PistonEvent.Pre event) {
+        if (event.isCanceled() || !(event.getLevel() instanceof Level level) || level.isClientSide()) {
+            return;
+        }
+        if (!event.getPistonMoveType().isExtend && !pullsBlock(level, event.getPos(), event.getDirection())) {
+            return;
+        }
+        PistonStructureResolver resolver = event.getStructureHelper();
+        if (resolver == null || !resolver.resolve()) {
+            return;
+        }
+        List<BlockPos> moved = marked(level, resolver.getToPush());
+        List<BlockPos> destroyed = marked(level, resolver.getToDestroy());
+        if (!moved.isEmpty() || !destroyed.isEmpty()) {
+            pendingMoves.put(event.getPos().immutable(), new PendingMove(level, moved, destroyed, resolver.getPushDirection()));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPistonPost(PistonEvent.Post event) {
+        PendingMove move = pendingMoves.remove(event.getPos());
+        if (move == null || move.level() != event.getLevel()) {
+            return;
+        }
+        // Clear every source first, since a moved block can land where another one started
+        for (BlockPos pos : move.destroyed()) {
+            testAndClear(move.level(), pos);
+        }
+        for (BlockPos pos : move.moved()) {
+            testAndClear(move.level(), pos);
+        }
+        for (BlockPos pos : move.moved()) {
+            mark(move.level(), pos.relative(move.pushDirection()));
+        }
+    }
+
+    /**
+     * Mirrors the check in {@code PistonBaseBlock.triggerEvent}: only sticky pistons pull, and only blocks
+     * that move normally (or other pistons).
+     */
+    private static boolean pullsBlock(Level level, BlockPos pistonPos, Direction facing) {
+        if (!level.getBlockState(pistonPos).is(Blocks.STICKY_PISTON)) {
+            return false;
+        }
+        BlockState pulled = level.getBlockState(pistonPos.relative(facing, 2));
+        return !pulled.isAir() && (pulled.getPistonPushReaction() == PushReaction.NORMAL
+            || pulled.is(Blocks.PISTON) || pulled.is(Blocks.STICKY_PISTON));
+    }
+
+    private static List<BlockPos> marked(Level level, List<BlockPos> positions) {
+        List<BlockPos> marked = new ArrayList<>();
+        for (BlockPos pos : positions) {
+            LevelChunk chunk = level.getChunkAt(pos);
+            if (chunk.hasData(SkillAttachmentRegistry.PLACED_BLOCKS_ATTACHMENT)
+                    && chunk.getData(SkillAttachmentRegistry.PLACED_BLOCKS_ATTACHMENT).isMarked(pos)) {
+                marked.add(pos.immutable());
+            }
+        }
+        return marked;
+    }
+
+    // Runs last so the affected list reflects every other mod's changes
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onExplosion(ExplosionEvent.Detonate event) {
+        Level level = event.getLevel();
+        if (level.isClientSide()) {
+            return;
+        }
+        for (BlockPos pos : event.getAffectedBlocks()) {
+            testAndClear(level, pos);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        pendingMoves.clear();
+    }
+
+    private static void mark(Level level, BlockPos pos) {
+        LevelChunk chunk = level.getChunkAt(pos);
+        chunk.getData(SkillAttachmentRegistry.PLACED_BLOCKS_ATTACHMENT).mark(pos);
+        chunk.setUnsaved(true);
+    }
+
+    /**
+     * Clears the player-placed marker at a position. Intended to be called when the block is broken.
+     * @return Whether the block had been placed by a player.
+     */
+    public static boolean testAndClear(LevelAccessor levelAccessor, BlockPos pos) {
+        if (!(levelAccessor instanceof Level level)) {
+            return false;
+        }
+        LevelChunk chunk = level.getChunkAt(pos);
+        if (!chunk.hasData(SkillAttachmentRegistry.PLACED_BLOCKS_ATTACHMENT)) {
+            return false;
+        }
+        if (chunk.getData(SkillAttachmentRegistry.PLACED_BLOCKS_ATTACHMENT).testAndClear(pos)) {
+            chunk.setUnsaved(true);
+            return true;
+        }
+        return false;
+    }
+}
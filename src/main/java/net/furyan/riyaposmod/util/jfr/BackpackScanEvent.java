@@ -0,0 +1,27 @@
+package net.furyan.riyaposmod.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One scan of a player's inventory and curios for backpack listeners.
+ */
+@Name("riyaposmod.BackpackScan")
+@Label("Backpack Scan")
+@Category({"RiyaposMod", "Weight"})
+@Description("Scan of a player's inventory for Sophisticated Backpacks")
+@StackTrace(false)
+public class BackpackScanEvent extends Event {
+    @Label("Player")
+    public String player;
+
+    @Label("Trigger")
+    public String source;
+
+    @Label("Handlers Changed")
+    public boolean changed;
+}
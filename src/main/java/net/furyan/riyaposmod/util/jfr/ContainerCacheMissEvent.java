@@ -0,0 +1,28 @@
+package net.furyan.riyaposmod.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A container weight lookup that had to recalculate its contents. The duration covers the recalculation.
+ */
+@Name("riyaposmod.ContainerCacheMiss")
+@Label("Container Cache Miss")
+@Category({"RiyaposMod", "Weight"})
+@Description("Container weight recalculated because it was missing from the cache or dirty")
+@StackTrace(false)
+public class ContainerCacheMissEvent extends Event {
+    @Label("Container Item")
+    public String item;
+
+    @Label("Dirty")
+    @Description("True if the entry existed but it or a nested container was invalidated")
+    public boolean dirty;
+
+    @Label("Nested Containers")
+    public int children;
+}
@@ -0,0 +1,25 @@
+package net.furyan.riyaposmod.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One flush of a batched sync queue, covering every packet it sent.
+ */
+@Name("riyaposmod.PacketFlush")
+@Label("Packet Flush")
+@Category({"RiyaposMod", "Network"})
+@Description("Flush of a batched client sync queue")
+@StackTrace(false)
+public class PacketFlushEvent extends Event {
+    @Label("Queue")
+    @Description("Which batch was flushed, e.g. skill_update or weight_sync")
+    public String queue;
+
+    @Label("Packets Sent")
+    public int packets;
+}
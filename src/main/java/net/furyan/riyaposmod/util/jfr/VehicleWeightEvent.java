@@ -0,0 +1,30 @@
+package net.furyan.riyaposmod.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One recalculation of a vehicle's cargo weight.
+ */
+@Name("riyaposmod.VehicleWeight")
+@Label("Vehicle Weight Recompute")
+@Category({"RiyaposMod", "Weight"})
+@Description("Recalculation of a ship or aircraft cargo weight")
+@StackTrace(false)
+public class VehicleWeightEvent extends Event {
+    @Label("Vehicle Kind")
+    public String kind;
+
+    @Label("Entity Id")
+    public int entityId;
+
+    @Label("Slots")
+    public int slots;
+
+    @Label("Weight")
+    public float weight;
+}
@@ -0,0 +1,35 @@
+package net.furyan.riyaposmod.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One full recalculation of a player's carried weight.
+ * <p>
+ * Like the other events in this package, call sites create the event, call {@code begin()}, and
+ * only fill in fields inside {@code if (event.shouldCommit())}. With JFR off the allocation is
+ * removed by escape analysis and the calls compile to nothing. Record with e.g.
+ * {@code jcmd <pid> JFR.start settings=profile} and look under the "RiyaposMod" category.
+ */
+@Name("riyaposmod.WeightRecalculation")
+@Label("Player Weight Recalculation")
+@Category({"RiyaposMod", "Weight"})
+@Description("Recalculation of a player's inventory and curio weight")
+@StackTrace(false)
+public class WeightRecalculationEvent extends Event {
+    @Label("Player")
+    public String player;
+
+    @Label("Slots Checked")
+    public int slots;
+
+    @Label("Containers Visited")
+    public int containers;
+
+    @Label("Weight")
+    public float weight;
+}
@@ -0,0 +1,30 @@
+package net.furyan.riyaposmod.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One skill XP grant through the dispatcher.
+ */
+@Name("riyaposmod.XpGrant")
+@Label("Skill XP Grant")
+@Category({"RiyaposMod", "Skills"})
+@Description("Skill XP granted to a player by the XP dispatcher")
+@StackTrace(false)
+public class XpGrantEvent extends Event {
+    @Label("Player")
+    public String player;
+
+    @Label("Skill")
+    public String skill;
+
+    @Label("XP")
+    public int xp;
+
+    @Label("Levelled Up")
+    public boolean levelledUp;
+}
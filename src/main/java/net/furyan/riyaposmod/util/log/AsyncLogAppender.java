@@ -0,0 +1,86 @@
+package net.furyan.riyaposmod.util.log;
+
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands log records to a single background thread that formats and writes them.
+ * Callers never block: when the queue is full the record is dropped and counted,
+ * and the count is reported once the writer catches up.
+ */
+final class AsyncLogAppender {
+    private static final int CAPACITY = 8192;
+    private static final long SHUTDOWN_FLUSH_MS = 2000;
+
+    private static final BlockingQueue<LogRecord> queue = new ArrayBlockingQueue<>(CAPACITY);
+    private static final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * @param args Message arguments; formatted on the writer thread, so they must not be mutated after the call.
+     *             A trailing Throwable is logged as the cause.
+     */
+    record LogRecord(LogCategory category, Level level, String message, Object[] args) {}
+
+    static {
+        Thread writer = new Thread(AsyncLogAppender::run, "RiyaposMod Log Writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(SHUTDOWN_FLUSH_MS), "RiyaposMod Log Flush"));
+    }
+
+    private AsyncLogAppender() {}
+
+    static void append(LogRecord record) {
+        if (!queue.offer(record)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Waits until every queued record has been written, or the timeout expires.
+     */
+    static void flush(long timeoutMs) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        while (!queue.isEmpty() && System.nanoTime() - deadline < 0) {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static void run() {
+        while (true) {
+            try {
+                write(queue.take());
+                long lost = dropped.getAndSet(0);
+                if (lost > 0) {
+                    LogCategory.GENERAL.logger().warn("Log queue was full; {} messages were dropped", lost);
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (Throwable t) {
+                // A bad toString() in an argument must not kill the writer
+                LogCategory.GENERAL.logger().error("Failed to write log record", t);
+            }
+        }
+    }
+
+    private static void write(LogRecord record) {
+        Logger logger = record.category().logger();
+        switch (record.level()) {
+            case ERROR -> logger.error(record.message(), record.args());
+            case WARN -> logger.warn(record.message(), record.args());
+            case INFO -> logger.info(record.message(), record.args());
+            case DEBUG -> logger.debug(record.message(), record.args());
+            case TRACE -> logger.trace(record.message(), record.args());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package net.furyan.riyaposmod.util.log;
+
+import net.furyan.riyaposmod.RiyaposMod;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Subsystems with independently configurable log levels. Each category writes to its own
+ * logger named {@code riyaposmod/<category>}, so the backend configuration can route them too.
+ */
+public enum LogCategory {
+    GENERAL,
+    SKILLS,
+    WEIGHT,
+    CONTAINERS,
+    SHIPS,
+    AIRCRAFT;
+
+    private static final Level DEFAULT_LEVEL = Level.INFO;
+
+    private final String configName = name().toLowerCase(Locale.ROOT);
+    private final Logger logger = LoggerFactory.getLogger(RiyaposMod.MOD_ID + "/" + configName);
+    // Lowest Level.toInt() that is logged; read on every log call, written on config load
+    private volatile int threshold = DEFAULT_LEVEL.toInt();
+
+    public String getConfigName() {
+        return configName;
+    }
+
+    Logger logger() {
+        return logger;
+    }
+
+    boolean isEnabled(Level level) {
+        return level.toInt() >= threshold;
+    }
+
+    public void setLevel(Level level) {
+        this.threshold = level.toInt();
+    }
+
+    public static LogCategory fromConfigName(String name) {
+        for (LogCategory category : values()) {
+            if (category.configName.equalsIgnoreCase(name)) {
+                return category;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks a "category=level" config entry, e.g. "skills=debug".
+     */
+    public static boolean isValidLevelEntry(Object entry) {
+        if (!(entry instanceof String s)) {
+            return false;
+        }
+        int split = s.indexOf('=');
+        return split > 0 && fromConfigName(s.substring(0, split).trim()) != null
+                && parseLevel(s.substring(split + 1).trim()) != null;
+    }
+
+    /**
+     * Resets every category to the default level, then applies "category=level" entries.
+     */
+    public static void applyLevels(List<? extends String> entries) {
+        for (LogCategory category : values()) {
+            category.setLevel(DEFAULT_LEVEL);
+        }
+        for (String entry : entries) {
+            if (!isValidLevelEntry(entry)) {
+                continue;
+            }
+            int split = entry.indexOf('=');
+            fromConfigName(entry.substring(0, split).trim()).setLevel(parseLevel(entry.substring(split + 1).trim()));
+        }
+    }
+
+    private static Level parseLevel(String name) {
+        for (Level level : Level.values()) {
+            if (level.name().equalsIgnoreCase(name)) {
+                return level;
+            }
+        }
+        return null;
+    }
+}
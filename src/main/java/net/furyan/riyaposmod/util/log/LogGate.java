@@ -0,0 +1,88 @@
+package net.furyan.riyaposmod.util.log;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides whether a message from one call site gets through. Hold gates in static fields
+ * next to the call site they guard; a gate is only consulted once the level check has passed.
+ */
+public interface LogGate {
+
+    /**
+     * @return True if this message should be logged.
+     */
+    boolean tryPass();
+
+    /**
+     * @return How many messages were held back since the last one that passed, resetting the count.
+     */
+    long takeSuppressed();
+
+    /**
+     * Lets through the first message and then every {@code n}th one.
+     */
+    static LogGate sample(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("Sample rate must be at least 1, got " + n);
+        }
+        return new Sampler(n);
+    }
+
+    /**
+     * Lets through at most one message per interval.
+     */
+    static LogGate rateLimit(long interval, TimeUnit unit) {
+        return new RateLimiter(unit.toNanos(interval));
+    }
+
+    final class Sampler implements LogGate {
+        private final int n;
+        private final AtomicLong counter = new AtomicLong();
+        private final AtomicLong suppressed = new AtomicLong();
+
+        private Sampler(int n) {
+            this.n = n;
+        }
+
+        @Override
+        public boolean tryPass() {
+            if (counter.getAndIncrement() % n == 0) {
+                return true;
+            }
+            suppressed.incrementAndGet();
+            return false;
+        }
+
+        @Override
+        public long takeSuppressed() {
+            return suppressed.getAndSet(0);
+        }
+    }
+
+    final class RateLimiter implements LogGate {
+        private final long intervalNanos;
+        private final AtomicLong nextAllowed = new AtomicLong(Long.MIN_VALUE);
+        private final AtomicLong suppressed = new AtomicLong();
+
+        private RateLimiter(long intervalNanos) {
+            this.intervalNanos = intervalNanos;
+        }
+
+        @Override
+        public boolean tryPass() {
+            long now = System.nanoTime();
+            long next = nextAllowed.get();
+            if ((next == Long.MIN_VALUE || now - next >= 0) && nextAllowed.compareAndSet(next, now + intervalNanos)) {
+                return true;
+            }
+            suppressed.incrementAndGet();
+            return false;
+        }
+
+        @Override
+        public long takeSuppressed() {
+            return suppressed.getAndSet(0);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package net.furyan.riyaposmod.util.log;
+
+import org.slf4j.event.Level;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Logging facade for code that runs on the tick thread.
+ * <ul>
+ *     <li>The category level is checked first, so a disabled call costs one volatile read.</li>
+ *     <li>Messages use SLF4J {@code {}} placeholders and are formatted on a background thread,
+ *     so arguments must be immutable values (strings, numbers, ids), not live game objects.</li>
+ *     <li>{@link Supplier} arguments are only evaluated once the message is known to be logged.</li>
+ *     <li>An optional {@link LogGate} samples or rate-limits a call site; held-back messages are
+ *     counted and reported with the next one that passes.</li>
+ * </ul>
+ * With more than two arguments at TRACE/DEBUG, guard hot call sites with {@link #isDebugEnabled()}.
+ * Usage: {@code private static final ModLog LOG = ModLog.get(LogCategory.WEIGHT);}
+ */
+public final class ModLog {
+    private static final Map<LogCategory, ModLog> INSTANCES = new EnumMap<>(LogCategory.class);
+
+    static {
+        for (LogCategory category : LogCategory.values()) {
+            INSTANCES.put(category, new ModLog(category));
+        }
+    }
+
+    private final LogCategory category;
+
+    private ModLog(LogCategory category) {
+        this.category = category;
+    }
+
+    public static ModLog get(LogCategory category) {
+        return INSTANCES.get(category);
+    }
+
+    public boolean isEnabled(Level level) {
+        return category.isEnabled(level);
+    }
+
+    public boolean isDebugEnabled() {
+        return category.isEnabled(Level.DEBUG);
+    }
+
+    public boolean isTraceEnabled() {
+        return category.isEnabled(Level.TRACE);
+    }
+
+    // Fixed-arity overloads for the hot levels avoid allocating a varargs array when the level is off
+
+    public void trace(String message, Object arg) {
+        if (category.isEnabled(Level.TRACE)) {
+            log(Level.TRACE, null, message, new Object[]{arg});
+        }
+    }
+
+    public void trace(String message, Object arg1, Object arg2) {
+        if (category.isEnabled(Level.TRACE)) {
+            log(Level.TRACE, null, message, new Object[]{arg1, arg2});
+        }
+    }
+
+    public void debug(String message, Object arg) {
+        if (category.isEnabled(Level.DEBUG)) {
+            log(Level.DEBUG, null, message, new Object[]{arg});
+        }
+    }
+
+    public void debug(String message, Object arg1, Object arg2) {
+        if (category.isEnabled(Level.DEBUG)) {
+            log(Level.DEBUG, null, message, new Object[]{arg1, arg2});
+        }
+    }
+
+    public void trace(String message, Object... args) {
+        log(Level.TRACE, null, message, args);
+    }
+
+    public void debug(String message, Object... args) {
+        log(Level.DEBUG, null, message, args);
+    }
+
+    public void info(String message, Object... args) {
+        log(Level.INFO, null, message, args);
+    }
+
+    public void warn(String message, Object... args) {
+        log(Level.WARN, null, message, args);
+    }
+
+    public void error(String message, Object... args) {
+        log(Level.ERROR, null, message, args);
+    }
+
+    public void trace(LogGate gate, String message, Object... args) {
+        log(Level.TRACE, gate, message, args);
+    }
+
+    public void debug(LogGate gate, String message, Object... args) {
+        log(Level.DEBUG, gate, message, args);
+    }
+
+    public void info(LogGate gate, String message, Object... args) {
+        log(Level.INFO, gate, message, args);
+    }
+
+    public void warn(LogGate gate, String message, Object... args) {
+        log(Level.WARN, gate, message, args);
+    }
+
+    public void error(LogGate gate, String message, Object... args) {
+        log(Level.ERROR, gate, message, args);
+    }
+
+    /**
+     * Blocks until queued messages have been written, e.g. before the server shuts down.
+     */
+    public static void flush(long timeoutMs) {
+        AsyncLogAppender.flush(timeoutMs);
+    }
+
+    public void log(Level level, LogGate gate, String message, Object... args) {
+        if (!category.isEnabled(level) || (gate != null && !gate.tryPass())) {
+            return;
+        }
+
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof Supplier<?> supplier) {
+                args[i] = supplier.get();
+            }
+        }
+
+        long suppressed = gate == null ? 0 : gate.takeSuppressed();
+        if (suppressed > 0) {
+            message = message + " ({} similar suppressed)";
+            args = withSuppressedCount(args, suppressed);
+        }
+
+        AsyncLogAppender.append(new AsyncLogAppender.LogRecord(category, level, message, args));
+    }
+
+    // Inserts the count before a trailing Throwable so SLF4J still treats that as the cause
+    private static Object[] withSuppressedCount(Object[] args, long suppressed) {
+        Object[] extended = new Object[args.length + 1];
+        boolean hasCause = args.length > 0 && args[args.length - 1] instanceof Throwable;
+        int countIndex = hasCause ? args.length - 1 : args.length;
+        System.arraycopy(args, 0, extended, 0, countIndex);
+        extended[countIndex] = suppressed;
+        if (hasCause) {
+            extended[args.length] = args[args.length - 1];
+        }
+        return extended;
+    }
+}
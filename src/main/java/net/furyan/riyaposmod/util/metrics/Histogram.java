@@ -0,0 +1,122 @@
+package net.furyan.riyaposmod.util.metrics;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A latency histogram with fixed bucket bounds. Recording is a short linear scan over the
+ * bounds plus two adder updates, with no allocation. Durations are recorded in nanoseconds
+ * and exported in seconds, as Prometheus expects.
+ */
+public final class Histogram implements Metric {
+    /**
+     * Default bounds from 1 µs to 50 ms, suited to work done inside one tick.
+     */
+    public static final long[] TICK_SCALE_NANOS = {
+            1_000, 5_000, 10_000, 50_000, 100_000, 250_000, 500_000,
+            1_000_000, 2_500_000, 5_000_000, 10_000_000, 50_000_000
+    };
+
+    private final String name;
+    private final String help;
+    private final long[] boundsNanos;
+    // One more than the bounds; the last bucket is +Inf
+    private final LongAdder[] buckets;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumNanos = new LongAdder();
+
+    Histogram(String name, String help, long[] boundsNanos) {
+        this.name = name;
+        this.help = help;
+        this.boundsNanos = boundsNanos.clone();
+        this.buckets = new LongAdder[boundsNanos.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        int bucket = 0;
+        while (bucket < boundsNanos.length && nanos > boundsNanos[bucket]) {
+            bucket++;
+        }
+        buckets[bucket].increment();
+        count.increment();
+        sumNanos.add(nanos);
+    }
+
+    /**
+     * Records the time elapsed since a {@link System#nanoTime()} reading.
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * @return The upper bound of the bucket holding the given quantile, or -1 if nothing was recorded.
+     * Long.MAX_VALUE means the quantile fell in the +Inf bucket.
+     */
+    public long quantileUpperBoundNanos(double quantile) {
+        long total = count.sum();
+        if (total == 0) {
+            return -1;
+        }
+        long target = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i].sum();
+            if (seen >= target) {
+                return i < boundsNanos.length ? boundsNanos[i] : Long.MAX_VALUE;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public String help() {
+        return help;
+    }
+
+    @Override
+    public void writePrometheus(StringBuilder out) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(" histogram\n");
+        long cumulative = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            cumulative += buckets[i].sum();
+            String le = i < boundsNanos.length ? Double.toString(boundsNanos[i] / 1e9) : "+Inf";
+            out.append(name).append("_bucket{le=\"").append(le).append("\"} ").append(cumulative).append('\n');
+        }
+        out.append(name).append("_sum ").append(sumNanos.sum() / 1e9).append('\n');
+        out.append(name).append("_count ").append(cumulative).append('\n');
+    }
+
+    @Override
+    public void writeSummary(List<String> lines) {
+        long total = count.sum();
+        if (total == 0) {
+            lines.add(name + ": no samples");
+            return;
+        }
+        lines.add(String.format(Locale.ROOT, "%s: n=%d mean=%.1fµs p50<=%s p99<=%s",
+                name, total, sumNanos.sum() / 1e3 / total,
+                formatBound(quantileUpperBoundNanos(0.5)), formatBound(quantileUpperBoundNanos(0.99))));
+    }
+
+    private static String formatBound(long nanos) {
+        if (nanos == Long.MAX_VALUE) {
+            return "inf";
+        }
+        return nanos >= 1_000_000 ? (nanos / 1_000_000) + "ms" : (nanos / 1_000) + "µs";
+    }
+}
@@ -0,0 +1,83 @@
+package net.furyan.riyaposmod.util.metrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A family of counters split by one label, e.g. packets sent per payload type.
+ * Label values should come from a small fixed set; each new value allocates one adder.
+ */
+public final class LabeledCounter implements Metric {
+    private final String name;
+    private final String help;
+    private final String labelName;
+    private final Map<String, LongAdder> values = new ConcurrentHashMap<>();
+
+    LabeledCounter(String name, String help, String labelName) {
+        this.name = name;
+        this.help = help;
+        this.labelName = labelName;
+    }
+
+    public void inc(String label) {
+        add(label, 1);
+    }
+
+    public void add(String label, long amount) {
+        LongAdder adder = values.get(label);
+        if (adder == null) {
+            adder = values.computeIfAbsent(label, k -> new LongAdder());
+        }
+        adder.add(amount);
+    }
+
+    public long get(String label) {
+        LongAdder adder = values.get(label);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * @return Current totals per label, sorted by label.
+     */
+    public Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        values.forEach((label, adder) -> snapshot.put(label, adder.sum()));
+        return snapshot;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public String help() {
+        return help;
+    }
+
+    @Override
+    public void writePrometheus(StringBuilder out) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(" counter\n");
+        snapshot().forEach((label, value) -> out.append(name)
+                .append('{').append(labelName).append("=\"").append(escape(label)).append("\"} ")
+                .append(value).append('\n'));
+    }
+
+    @Override
+    public void writeSummary(List<String> lines) {
+        Map<String, Long> snapshot = snapshot();
+        if (snapshot.isEmpty()) {
+            lines.add(name + ": 0");
+            return;
+        }
+        snapshot.forEach((label, value) -> lines.add(name + "{" + label + "}: " + value));
+    }
+
+    private static String escape(String label) {
+        return label.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,41 @@
+package net.furyan.riyaposmod.util.metrics;
+
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+
+/**
+ * Wraps a payload codec to count packets and bytes per payload type as they are encoded and
+ * decoded. Payloads sent over an in-memory connection (singleplayer) are never encoded and so
+ * are not counted.
+ */
+public final class MeteredStreamCodec<B extends ByteBuf, T extends CustomPacketPayload> implements StreamCodec<B, T> {
+    private final String label;
+    private final StreamCodec<B, T> delegate;
+
+    private MeteredStreamCodec(CustomPacketPayload.Type<T> type, StreamCodec<B, T> delegate) {
+        this.label = type.id().getPath();
+        this.delegate = delegate;
+    }
+
+    public static <B extends ByteBuf, T extends CustomPacketPayload> StreamCodec<B, T> of(CustomPacketPayload.Type<T> type, StreamCodec<B, T> codec) {
+        return new MeteredStreamCodec<>(type, codec);
+    }
+
+    @Override
+    public void encode(B buffer, T value) {
+        int start = buffer.writerIndex();
+        delegate.encode(buffer, value);
+        ModMetrics.PACKETS_SENT.inc(label);
+        ModMetrics.PACKET_BYTES_SENT.add(label, buffer.writerIndex() - start);
+    }
+
+    @Override
+    public T decode(B buffer) {
+        int start = buffer.readerIndex();
+        T value = delegate.decode(buffer);
+        ModMetrics.PACKETS_RECEIVED.inc(label);
+        ModMetrics.PACKET_BYTES_RECEIVED.add(label, buffer.readerIndex() - start);
+        return value;
+    }
+}
@@ -0,0 +1,23 @@
+package net.furyan.riyaposmod.util.metrics;
+
+import java.util.List;
+
+/**
+ * A metric that can render itself for the Prometheus text file and for /riyapos stats.
+ */
+public interface Metric {
+
+    String name();
+
+    String help();
+
+    /**
+     * Appends the metric in Prometheus text exposition format, including HELP and TYPE lines.
+     */
+    void writePrometheus(StringBuilder out);
+
+    /**
+     * Adds one or more human-readable lines for chat output.
+     */
+    void writeSummary(List<String> lines);
+}
@@ -0,0 +1,85 @@
+package net.furyan.riyaposmod.util.metrics;
+
+import net.furyan.riyaposmod.Config;
+import net.furyan.riyaposmod.RiyaposMod;
+import net.minecraft.world.level.storage.LevelResource;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.server.ServerStartedEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Counts server ticks and periodically writes every metric as Prometheus text to
+ * {@code <world>/riyaposmod/metrics.prom}, where a node_exporter textfile collector or a
+ * script can pick it up. Rendering and writing happen on a virtual thread; the file is
+ * replaced atomically so readers never see a partial write.
+ */
+@EventBusSubscriber(modid = RiyaposMod.MOD_ID, bus = EventBusSubscriber.Bus.GAME)
+public class MetricsExporter {
+    private static final String FILE_NAME = "metrics.prom";
+
+    private static Path exportFile;
+    private static int ticksSinceExport;
+    // Skips an export if the previous write is still running (e.g. slow disk)
+    private static final AtomicBoolean writing = new AtomicBoolean();
+
+    @SubscribeEvent
+    public static void onServerStarted(ServerStartedEvent event) {
+        exportFile = event.getServer().getWorldPath(LevelResource.ROOT).resolve(RiyaposMod.MOD_ID).resolve(FILE_NAME);
+        ticksSinceExport = 0;
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        if (exportFile != null) {
+            write(exportFile);
+        }
+        exportFile = null;
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(ServerTickEvent.Post event) {
+        ModMetrics.SERVER_TICKS.inc();
+
+        int intervalSeconds = Config.metricsExportIntervalSeconds;
+        if (intervalSeconds <= 0 || exportFile == null || ++ticksSinceExport < intervalSeconds * 20) {
+            return;
+        }
+        ticksSinceExport = 0;
+
+        Path target = exportFile;
+        if (writing.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("riyaposmod-metrics-export").start(() -> {
+                try {
+                    write(target);
+                } finally {
+                    writing.set(false);
+                }
+            });
+        }
+    }
+
+    private static void write(Path target) {
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = target.resolveSibling(FILE_NAME + ".tmp");
+            Files.writeString(temp, MetricsRegistry.toPrometheus(), StandardCharsets.UTF_8);
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            RiyaposMod.LOGGER.warn("Failed to write metrics to {}", target, e);
+        }
+    }
+}
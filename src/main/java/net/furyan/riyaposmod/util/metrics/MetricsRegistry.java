@@ -0,0 +1,65 @@
+package net.furyan.riyaposmod.util.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds every metric in registration order. Metrics are created once, normally as static
+ * fields of {@link ModMetrics}, and never removed, so lookups on hot paths are plain field reads.
+ */
+public final class MetricsRegistry {
+    private static final Map<String, Metric> metrics = new LinkedHashMap<>();
+
+    private MetricsRegistry() {}
+
+    public static synchronized Counter counter(String name, String help) {
+        return register(new Counter(name, help));
+    }
+
+    public static synchronized LabeledCounter labeledCounter(String name, String help, String labelName) {
+        return register(new LabeledCounter(name, help, labelName));
+    }
+
+    public static synchronized Histogram histogram(String name, String help, long[] boundsNanos) {
+        return register(new Histogram(name, help, boundsNanos));
+    }
+
+    private static <T extends Metric> T register(T metric) {
+        if (metrics.putIfAbsent(metric.name(), metric) != null) {
+            throw new IllegalStateException("Metric already registered: " + metric.name());
+        }
+        return metric;
+    }
+
+    public static synchronized List<Metric> all() {
+        return Collections.unmodifiableList(new ArrayList<>(metrics.values()));
+    }
+
+    /**
+     * Renders every metric in Prometheus text exposition format.
+     */
+    public static String toPrometheus() {
+        StringBuilder out = new StringBuilder(4096);
+        for (Metric metric : all()) {
+            metric.writePrometheus(out);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Renders metrics whose name contains the filter (case-sensitive) as chat lines.
+     * @param filter A name fragment, or null/empty for all metrics.
+     */
+    public static List<String> summary(String filter) {
+        List<String> lines = new ArrayList<>();
+        for (Metric metric : all()) {
+            if (filter == null || filter.isEmpty() || metric.name().contains(filter)) {
+                metric.writeSummary(lines);
+            }
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,52 @@
+package net.furyan.riyaposmod.util.metrics;
+
+/**
+ * Every metric the mod records. Names follow Prometheus conventions: a riyaposmod_ prefix,
+ * _total for counters and _seconds for latency histograms.
+ */
+public final class ModMetrics {
+    private ModMetrics() {}
+
+    public static final Counter SERVER_TICKS = MetricsRegistry.counter(
+            "riyaposmod_server_ticks_total", "Server ticks observed; divide other counters by this for per-tick rates");
+
+    // Weight
+    public static final Counter WEIGHT_RECOMPUTES = MetricsRegistry.counter(
+            "riyaposmod_weight_recomputes_total", "Full player inventory weight recalculations");
+    public static final Histogram WEIGHT_RECOMPUTE_TIME = MetricsRegistry.histogram(
+            "riyaposmod_weight_recompute_seconds", "Time spent in one player weight recalculation", Histogram.TICK_SCALE_NANOS);
+    public static final Counter CONTAINER_CACHE_HITS = MetricsRegistry.counter(
+            "riyaposmod_container_cache_hits_total", "Container weight lookups served from the cache");
+    public static final Counter CONTAINER_CACHE_MISSES = MetricsRegistry.counter(
+            "riyaposmod_container_cache_misses_total", "Container weight lookups that had to recalculate (missing or dirty)");
+    public static final LabeledCounter BACKPACK_SCANS = MetricsRegistry.labeledCounter(
+            "riyaposmod_backpack_scans_total", "Player backpack listener scans by trigger", "source");
+    public static final Histogram BACKPACK_SCAN_TIME = MetricsRegistry.histogram(
+            "riyaposmod_backpack_scan_seconds", "Time spent in one backpack scan", Histogram.TICK_SCALE_NANOS);
+    public static final Counter WEIGHT_SHADOW_CHECKS = MetricsRegistry.counter(
+            "riyaposmod_weight_shadow_checks_total", "Sampled recalculations re-checked without caches");
+    public static final Counter WEIGHT_SHADOW_SKIPPED = MetricsRegistry.counter(
+            "riyaposmod_weight_shadow_skipped_total", "Sampled shadow checks dropped because too many were running or data reloaded");
+    public static final LabeledCounter WEIGHT_SHADOW_DIVERGENCES = MetricsRegistry.labeledCounter(
+            "riyaposmod_weight_shadow_divergences_total", "Shadow checks where the cached result differed from the uncached one", "kind");
+
+    // Vehicles
+    public static final LabeledCounter VEHICLE_WEIGHT_RECOMPUTES = MetricsRegistry.labeledCounter(
+            "riyaposmod_vehicle_weight_recomputes_total", "Vehicle cargo weight recalculations by vehicle kind", "vehicle");
+
+    // Skills
+    public static final Counter XP_GRANTS = MetricsRegistry.counter(
+            "riyaposmod_xp_grants_total", "Skill XP grants dispatched");
+    public static final LabeledCounter XP_GRANTED = MetricsRegistry.labeledCounter(
+            "riyaposmod_xp_granted_total", "Skill XP granted after multipliers, by skill", "skill");
+
+    // Network
+    public static final LabeledCounter PACKETS_SENT = MetricsRegistry.labeledCounter(
+            "riyaposmod_packets_sent_total", "Mod payloads encoded for sending, by payload type", "payload");
+    public static final LabeledCounter PACKET_BYTES_SENT = MetricsRegistry.labeledCounter(
+            "riyaposmod_packet_bytes_sent_total", "Encoded payload bytes sent, by payload type", "payload");
+    public static final LabeledCounter PACKETS_RECEIVED = MetricsRegistry.labeledCounter(
+            "riyaposmod_packets_received_total", "Mod payloads decoded, by payload type", "payload");
+    public static final LabeledCounter PACKET_BYTES_RECEIVED = MetricsRegistry.labeledCounter(
+            "riyaposmod_packet_bytes_received_total", "Decoded payload bytes received, by payload type", "payload");
+}
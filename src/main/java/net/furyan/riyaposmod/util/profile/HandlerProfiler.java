@@ -0,0 +1,235 @@
+package net.furyan.riyaposmod.util.profile;
+
+import net.furyan.riyaposmod.RiyaposMod;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.player.Player;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.server.ServerStoppingEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Times mod event handlers and mixin hooks for a fixed window, started with
+ * {@code /riyapos profile <seconds>}. When the window ends it reports total and per-call time
+ * for every {@link ProfiledHandler} and the players and entities that cost the most.
+ * <p>
+ * Handlers wrap their body like this:
+ * <pre>{@code
+ * long profileStart = HandlerProfiler.begin();
+ * ...
+ * HandlerProfiler.end(ProfiledHandler.WEIGHT_PLAYER_TICK, profileStart, player);
+ * }</pre>
+ * While no window is open, {@link #begin()} is a single volatile read and {@link #end} returns
+ * immediately. Only server-side work is recorded; calls for client-side entities are ignored.
+ * The network flushes run on the scheduler thread, so all counters are thread-safe.
+ */
+@EventBusSubscriber(modid = RiyaposMod.MOD_ID, bus = EventBusSubscriber.Bus.GAME)
+public final class HandlerProfiler {
+    private static final int TOP_ENTITIES = 5;
+
+    private static volatile boolean active;
+    private static Session session;
+
+    private HandlerProfiler() {}
+
+    private static final class HandlerStats {
+        final LongAdder calls = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+        final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    }
+
+    private static final class EntityCost {
+        final String name;
+        final String type;
+        final LongAdder calls = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+
+        EntityCost(Entity entity) {
+            this.name = entity instanceof Player player ? player.getScoreboardName() : entity.getName().getString();
+            this.type = BuiltInRegistries.ENTITY_TYPE.getKey(entity.getType()).toString();
+        }
+    }
+
+    private static final class Session {
+        @Nullable final CommandSourceStack source;
+        final int durationTicks;
+        final long startNanos = System.nanoTime();
+        int ticks;
+        final HandlerStats[] handlers = new HandlerStats[ProfiledHandler.values().length];
+        final Map<UUID, EntityCost> entities = new ConcurrentHashMap<>();
+
+        Session(@Nullable CommandSourceStack source, int durationTicks) {
+            this.source = source;
+            this.durationTicks = durationTicks;
+            for (int i = 0; i < handlers.length; i++) {
+                handlers[i] = new HandlerStats();
+            }
+        }
+    }
+
+    /**
+     * @return A start timestamp for {@link #end}, or 0 when no profiling window is open.
+     */
+    public static long begin() {
+        return active ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records one handler call that started at {@code start}.
+     * @param entity The player or entity the work was done for, or null if it was not tied to one.
+     */
+    public static void end(ProfiledHandler handler, long start, @Nullable Entity entity) {
+        if (start == 0L) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        Session current = session;
+        if (current == null || (entity != null && entity.level().isClientSide())) {
+            return;
+        }
+
+        HandlerStats stats = current.handlers[handler.ordinal()];
+        stats.calls.increment();
+        stats.nanos.add(elapsed);
+        stats.maxNanos.accumulate(elapsed);
+
+        if (entity != null) {
+            EntityCost cost = current.entities.computeIfAbsent(entity.getUUID(), id -> new EntityCost(entity));
+            cost.calls.increment();
+            cost.nanos.add(elapsed);
+        }
+    }
+
+    /**
+     * Opens a profiling window. The report is logged and, if {@code source} is not null, sent to it when it closes.
+     * @return Whether a new window was opened; false if one is already running.
+     */
+    public static synchronized boolean start(@Nullable CommandSourceStack source, int seconds) {
+        if (session != null) {
+            return false;
+        }
+        session = new Session(source, seconds * 20);
+        active = true;
+        RiyaposMod.LOGGER.info("Handler profiling started for {} seconds", seconds);
+        return true;
+    }
+
+    /**
+     * Closes the current window early and reports what was collected so far.
+     * @return Whether a window was open.
+     */
+    public static synchronized boolean stop() {
+        Session finished = session;
+        if (finished == null) {
+            return false;
+        }
+        active = false;
+        session = null;
+        report(finished);
+        return true;
+    }
+
+    public static boolean isActive() {
+        return active;
+    }
+
+    /**
+     * @return Nanoseconds recorded across all handlers in the current window, or 0 if none is open.
+     */
+    public static long recordedNanos() {
+        Session current = session;
+        if (current == null) {
+            return 0L;
+        }
+        long total = 0L;
+        for (HandlerStats stats : current.handlers) {
+            total += stats.nanos.sum();
+        }
+        return total;
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(ServerTickEvent.Post event) {
+        Session current = session;
+        if (current != null && ++current.ticks >= current.durationTicks) {
+            stop();
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopping(ServerStoppingEvent event) {
+        synchronized (HandlerProfiler.class) {
+            active = false;
+            session = null;
+        }
+    }
+
+    private static void report(Session finished) {
+        double seconds = (System.nanoTime() - finished.startNanos) / 1_000_000_000.0;
+        int ticks = Math.max(1, finished.ticks);
+
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(Locale.ROOT, "--- Handler Profile (%.1f s, %d ticks) ---", seconds, finished.ticks));
+
+        ProfiledHandler[] handlers = ProfiledHandler.values();
+        List<ProfiledHandler> called = new ArrayList<>();
+        long totalNanos = 0;
+        for (ProfiledHandler handler : handlers) {
+            HandlerStats stats = finished.handlers[handler.ordinal()];
+            if (stats.calls.sum() > 0) {
+                called.add(handler);
+                totalNanos += stats.nanos.sum();
+            }
+        }
+        called.sort(Comparator.comparingLong((ProfiledHandler handler) -> finished.handlers[handler.ordinal()].nanos.sum()).reversed());
+
+        if (called.isEmpty()) {
+            lines.add("No profiled handlers were called.");
+        }
+        for (ProfiledHandler handler : called) {
+            HandlerStats stats = finished.handlers[handler.ordinal()];
+            long calls = stats.calls.sum();
+            long nanos = stats.nanos.sum();
+            lines.add(String.format(Locale.ROOT, "%s: %.2f ms total, %.3f ms/tick, %d calls, %.1f us/call, max %.1f us",
+                handler.getDisplayName(), nanos / 1_000_000.0, nanos / 1_000_000.0 / ticks, calls,
+                nanos / 1000.0 / calls, stats.maxNanos.get() / 1000.0));
+        }
+        if (!called.isEmpty()) {
+            lines.add(String.format(Locale.ROOT, "All handlers: %.2f ms total, %.3f ms/tick",
+                totalNanos / 1_000_000.0, totalNanos / 1_000_000.0 / ticks));
+        }
+
+        List<EntityCost> costs = new ArrayList<>(finished.entities.values());
+        costs.sort(Comparator.comparingLong((EntityCost cost) -> cost.nanos.sum()).reversed());
+        if (!costs.isEmpty()) {
+            lines.add("Top players and entities:");
+        }
+        for (EntityCost cost : costs.subList(0, Math.min(TOP_ENTITIES, costs.size()))) {
+            long nanos = cost.nanos.sum();
+            lines.add(String.format(Locale.ROOT, "  %s (%s): %.2f ms total, %.3f ms/tick, %d calls",
+                cost.name, cost.type, nanos / 1_000_000.0, nanos / 1_000_000.0 / ticks, cost.calls.sum()));
+        }
+
+        for (String line : lines) {
+            RiyaposMod.LOGGER.info("[Profile] {}", line);
+        }
+        if (finished.source != null) {
+            String message = String.join("\n", lines);
+            finished.source.sendSuccess(() -> Component.literal(message), false);
+        }
+    }
+}
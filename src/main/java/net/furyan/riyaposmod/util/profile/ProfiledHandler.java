@@ -0,0 +1,33 @@
+package net.furyan.riyaposmod.util.profile;
+
+/**
+ * Every mod hook that {@link HandlerProfiler} can time. Add a constant here and wrap the
+ * handler body with {@link HandlerProfiler#begin()} / {@link HandlerProfiler#end} to profile a new hook.
+ */
+public enum ProfiledHandler {
+    WEIGHT_PLAYER_TICK("WeightEventHandler.onLivingUpdate"),
+    WEIGHT_ITEM_PICKUP("WeightEventHandler.onItemPickup"),
+    WEIGHT_TICK_UPDATE("WeightTickHandler.onPlayerTick"),
+    CONTAINER_SLOT_CHANGED("ContainerEventHandler.slotChanged"),
+    CONTAINER_OPEN("ContainerEventHandler.onContainerOpen"),
+    CONTAINER_CLOSE("ContainerEventHandler.onContainerClose"),
+    SKILL_BLOCK_BREAK("SkillActionEvents.onBlockBreak"),
+    SKILL_BREAK_SPEED("SkillRequirementEvents.onBreakSpeed"),
+    SHIP_CONTAINER_MODIFIER("ContainerShipMixin.getContainerModifier"),
+    AIRCRAFT_ENGINE_POWER("EngineVehicleMixin.getEnginePower"),
+    AIRCRAFT_FUEL_CONSUMPTION("EngineVehicleMixin.getFuelConsumption"),
+    AIRCRAFT_OPEN_INVENTORY("InventoryVehicleEntityMixin.openInventory"),
+    VEHICLE_LOAD_REFRESH("VehicleLoadSync.refresh"),
+    NETWORK_FACTION_FLUSH("ModNetworking.processPendingSyncs"),
+    NETWORK_WEIGHT_FLUSH("ModNetworking.processPendingWeightSyncs");
+
+    private final String displayName;
+
+    ProfiledHandler(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
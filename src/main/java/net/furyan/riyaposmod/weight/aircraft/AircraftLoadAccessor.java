@@ -0,0 +1,28 @@
+package net.furyan.riyaposmod.weight.aircraft;
+
+/**
+ * Per-aircraft load state, held in fields on the entity so nothing outlives it.
+ */
+public interface AircraftLoadAccessor {
+    /**
+     * @return Cargo weight, recomputed only after the inventory changed or weight data was reloaded. Server side only.
+     */
+    float riyaposmod$getCargoWeight();
+
+    /**
+     * @return Engine power multiplier for the current synced load, evaluated once per load change.
+     */
+    float riyaposmod$getPowerModifier();
+
+    /**
+     * @return Fuel consumption multiplier for the current synced load, evaluated once per load change.
+     */
+    float riyaposmod$getFuelModifier();
+
+    /**
+     * @return The threshold level last announced to the pilot, or -1 if none has been yet.
+     */
+    int riyaposmod$getLastThreshold();
+
+    void riyaposmod$setLastThreshold(int threshold);
+}
@@ -0,0 +1,65 @@
+package net.furyan.riyaposmod.weight.aircraft;
+
+import immersive_aircraft.entity.inventory.VehicleInventoryDescription;
+import immersive_aircraft.entity.inventory.slots.SlotDescription;
+import net.furyan.riyaposmod.weight.data.VehicleProfile;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * The inventory slots of one aircraft inventory layout that carry weight, with the multiplier for each, packed into
+ * primitive arrays so a weight pass is a single loop. Slots whose type has a multiplier of 0 (boiler, upgrades,
+ * cosmetics and so on, as configured per vehicle in {@code weight/vehicles}) are left out entirely.
+ * <p>
+ * Immersive Aircraft shares one {@link VehicleInventoryDescription} between all aircraft of a type, so layouts are
+ * cached per description instance and rebuilt only when vehicle data is reloaded. Server thread only.
+ */
+public final class AircraftSlotWeights {
+    private static final Map<VehicleInventoryDescription, AircraftSlotWeights> CACHE = new WeakHashMap<>();
+
+    private final VehicleProfile profile;
+    final int[] slots;
+    final float[] multipliers;
+
+    private AircraftSlotWeights(VehicleProfile profile, int[] slots, float[] multipliers) {
+        this.profile = profile;
+        this.slots = slots;
+        this.multipliers = multipliers;
+    }
+
+    /**
+     * @return The weighted slots of {@code description} under {@code profile}'s slot multipliers.
+     */
+    public static AircraftSlotWeights of(VehicleInventoryDescription description, VehicleProfile profile) {
+        AircraftSlotWeights cached = CACHE.get(description);
+        // Profiles are replaced on every vehicle data reload, so identity tells us the multipliers are current
+        if (cached == null || cached.profile != profile) {
+            cached = build(description, profile);
+            CACHE.put(description, cached);
+        }
+        return cached;
+    }
+
+    private static AircraftSlotWeights build(VehicleInventoryDescription description, VehicleProfile profile) {
+        List<SlotDescription> all = description.getSlots();
+        int[] slots = new int[all.size()];
+        float[] multipliers = new float[all.size()];
+        int count = 0;
+        for (SlotDescription slot : all) {
+            float multiplier = profile.slotMultiplier(slot.type());
+            if (multiplier > 0.0f) {
+                slots[count] = slot.index();
+                multipliers[count] = multiplier;
+                count++;
+            }
+        }
+        return new AircraftSlotWeights(profile, Arrays.copyOf(slots, count), Arrays.copyOf(multipliers, count));
+    }
+
+    public int size() {
+        return slots.length;
+    }
+}
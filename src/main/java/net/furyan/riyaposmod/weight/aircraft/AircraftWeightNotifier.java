@@ -7,14 +7,8 @@ import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.Entity;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
 
 public class AircraftWeightNotifier {
-
-    private static final Map<UUID, Integer> riyaposmod$lastAircraftThresholds = new HashMap<>();
-
     private static int getThresholdLevel(float percentUsed) {
         if (percentUsed > 1.0f) return 3; // Overloaded
         if (percentUsed > 0.9f) return 2; // Very Heavy / Almost Overloaded
@@ -51,25 +45,20 @@ public class AircraftWeightNotifier {
     public static void notifyThresholdCrossed(InventoryVehicleEntity aircraft, float percentUsed) {
         if (aircraft.level().isClientSide()) return; 
 
-        if (!(aircraft instanceof AircraftUuidAccessor uuidAccessor)) {
-            return;
-        }
-        UUID aircraftUUID = uuidAccessor.riyaposmod$getUniqueId();
-        if (aircraftUUID == null) {
-            System.err.println("[AircraftWeightNotifier] ERROR: Server aircraft has null UUID in notifyThresholdCrossed: " + aircraft.getId());
+        if (!(aircraft instanceof AircraftLoadAccessor loadAccessor)) {
             return;
         }
 
         int newThreshold = getThresholdLevel(percentUsed);
-        Integer lastThreshold = riyaposmod$lastAircraftThresholds.get(aircraftUUID);
+        int lastThreshold = loadAccessor.riyaposmod$getLastThreshold(); // -1 until the first load is seen
 
-        if (lastThreshold == null || lastThreshold != newThreshold) {
-            riyaposmod$lastAircraftThresholds.put(aircraftUUID, newThreshold);
+        if (lastThreshold != newThreshold) {
+            loadAccessor.riyaposmod$setLastThreshold(newThreshold);
 
-            if (lastThreshold == null && newThreshold == 0) { 
+            if (lastThreshold < 0 && newThreshold == 0) { 
                 return;
             }
-             if (lastThreshold != null) { 
+             if (lastThreshold >= 0) { 
                 MutableComponent messageComponent = null;
                 ChatFormatting chatColor = ChatFormatting.WHITE;
 
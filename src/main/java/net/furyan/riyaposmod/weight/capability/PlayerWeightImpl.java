@@ -1,22 +1,28 @@
 package net.furyan.riyaposmod.weight.capability;
 
-import com.mojang.logging.LogUtils;
+import net.furyan.riyaposmod.util.jfr.WeightRecalculationEvent;
+import net.furyan.riyaposmod.util.log.LogCategory;
+import net.furyan.riyaposmod.util.log.ModLog;
+import net.furyan.riyaposmod.util.metrics.ModMetrics;
 import net.furyan.riyaposmod.weight.EncumbranceLevel;
 import net.furyan.riyaposmod.weight.WeightCalculator;
 import net.furyan.riyaposmod.weight.data.WeightDataManager;
+import net.furyan.riyaposmod.weight.trace.TraceEventType;
+import net.furyan.riyaposmod.weight.trace.WeightTraceRecorder;
 import net.furyan.riyaposmod.weight.events.WeightEventHandler;
 import net.furyan.riyaposmod.weight.util.ContainerWeightHelper;
+import net.furyan.riyaposmod.weight.util.WeightShadowVerifier;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.Container;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.entity.EquipmentSlot;
 import net.neoforged.fml.ModList;
-import org.slf4j.Logger;
 import top.theillusivec4.curios.api.CuriosApi;
 import top.theillusivec4.curios.api.type.inventory.ICurioStacksHandler;
 
+import javax.annotation.Nullable;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -25,7 +31,7 @@ import java.util.Map;
  * This class stores and manages a player's weight data.
  */
 public class PlayerWeightImpl implements IPlayerWeight {
-    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final ModLog LOG = ModLog.get(LogCategory.WEIGHT);
     private static final String NBT_MAX_CAPACITY = "MaxCapacity";
     private static final String NBT_BONUSES = "CapacityBonuses";
     private EncumbranceLevel previousLevel = EncumbranceLevel.NORMAL; // Add this field if not present
@@ -79,6 +85,13 @@ public class PlayerWeightImpl implements IPlayerWeight {
         return total;
     }
 
+    /**
+     * @return Capacity before any bonuses
+     */
+    public float getBaseCapacity() {
+        return baseCapacity;
+    }
+
     @Override
     public void setMaxCapacity(float capacity) {
         this.baseCapacity = capacity;
@@ -112,14 +125,14 @@ public class PlayerWeightImpl implements IPlayerWeight {
             if (!stack.isEmpty()) {
                 float bonus = WeightDataManager.getContainerEntry(stack, "containers").getCapacityBonus();
                 if (bonus > 0) {
-                    LOGGER.debug("Adding capacity bonus {} from armor item {}", bonus, stack.getItem());
+                    LOG.debug("Adding capacity bonus {} from armor item {}", bonus, stack.getItem());
                     addCapacityBonus(bonus, "equipped_armor_" + stack.getItem());
                 }
             }
         }
         // Check Curios slots if Curios is loaded
         if (ModList.get().isLoaded("curios")) {
-            LOGGER.debug("Checking Curios slots for player {}", player.getName().getString());
+            LOG.debug("Checking Curios slots for player {}", player.getScoreboardName());
             CuriosApi.getCuriosInventory(player).ifPresent(handler -> {
                 for (String slotType : WeightEventHandler.SLOTS_TO_CHECK) {
                     ICurioStacksHandler slotHandler = handler.getCurios().get(slotType);
@@ -129,7 +142,7 @@ public class PlayerWeightImpl implements IPlayerWeight {
                             if (!stack.isEmpty()) {
                                 float bonus = WeightDataManager.getContainerEntry(stack, "containers").getCapacityBonus();
                                 if (bonus > 0) {
-                                    LOGGER.debug("Adding capacity bonus {} from curio item in {} slot: {}", 
+                                    LOG.debug("Adding capacity bonus {} from curio item in {} slot: {}", 
                                         bonus, slotType, stack.getItem());
                                     addCapacityBonus(bonus, "equipped_curio_" + slotType + "_" + stack.getItem());
                                 }
@@ -140,11 +153,10 @@ public class PlayerWeightImpl implements IPlayerWeight {
             });
         }
         // Log final capacity after refresh
-        LOGGER.debug("Final capacity after refresh for player {}: {} (Base: {}, Bonuses: {})", 
-            player.getName().getString(), getMaxCapacity(), baseCapacity, 
-            capacityBonuses.entrySet().stream()
-                .map(e -> String.format("%s: %.1f", e.getKey(), e.getValue()))
-                .collect(java.util.stream.Collectors.joining(", ")));
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Final capacity after refresh for player {}: {} (Base: {}, Bonuses: {})",
+                player.getScoreboardName(), getMaxCapacity(), baseCapacity, Map.copyOf(capacityBonuses));
+        }
     }
     
     /**
@@ -165,14 +177,14 @@ public class PlayerWeightImpl implements IPlayerWeight {
         // Remove old bonus for this slot if it existed
         String slotKey = "equipped_armor_" + (previousStack.isEmpty() ? "slot_" + slot.getName() : previousStack.getItem().toString());
         if (removeCapacityBonus(slotKey) > 0) {
-            LOGGER.debug("Removed capacity bonus from slot {}", slot);
+            LOG.debug("Removed capacity bonus from slot {}", slot);
         }
         
         // Add new bonus if applicable
         if (!newStack.isEmpty()) {
             float bonus = WeightCalculator.getCapacityBonus(newStack);
             if (bonus > 0) {
-                LOGGER.debug("Adding capacity bonus {} from equipment item in slot {}: {}", 
+                LOG.debug("Adding capacity bonus {} from equipment item in slot {}: {}", 
                     bonus, slot, newStack.getItem());
                 addCapacityBonus(bonus, "equipped_armor_" + newStack.getItem());
             }
@@ -199,14 +211,14 @@ public class PlayerWeightImpl implements IPlayerWeight {
         String slotKey = "equipped_curio_" + slotType + "_" + 
             (previousStack.isEmpty() ? "idx_" + index : previousStack.getItem().toString());
         if (removeCapacityBonus(slotKey) > 0) {
-            LOGGER.debug("Removed capacity bonus from curio slot {} at index {}", slotType, index);
+            LOG.debug("Removed capacity bonus from curio slot {} at index {}", slotType, index);
         }
         
         // Add new bonus if applicable
         if (!newStack.isEmpty()) {
             float bonus = WeightCalculator.getCapacityBonus(newStack);
             if (bonus > 0) {
-                LOGGER.debug("Adding capacity bonus {} from curio item in {} slot: {}", 
+                LOG.debug("Adding capacity bonus {} from curio item in {} slot: {}", 
                     bonus, slotType, newStack.getItem());
                 addCapacityBonus(bonus, "equipped_curio_" + slotType + "_" + newStack.getItem());
             }
@@ -215,61 +227,52 @@ public class PlayerWeightImpl implements IPlayerWeight {
 
     @Override
     public float calculateWeight(Player player) {
+        long start = System.nanoTime();
+        WeightRecalculationEvent jfrEvent = new WeightRecalculationEvent();
+        jfrEvent.begin();
         // Use array to allow modification in lambda
         final float[] weightTotal = {0.0f};
+        // Slots checked and containers visited, for the JFR event
+        final int[] visited = {0, 0};
+        // Decided once so a trace never holds half a snapshot
+        final Player tracePlayer = WeightTraceRecorder.beginSnapshot(player) ? player : null;
 
-        //LOGGER.debug("Calculating weight for player: {}", player.getName().getString());
+        //LOG.debug("Calculating weight for player: {}", player.getName().getString());
 
         // Calculate weight from main inventory
-        Inventory inventory = player.getInventory();
-        for (int i = 0; i < inventory.getContainerSize(); i++) {
-            ItemStack stack = inventory.getItem(i);
-            if (!stack.isEmpty()) {
-                float itemWeight = WeightCalculator.getWeight(stack) * stack.getCount();
-                weightTotal[0] += itemWeight;
-                
-                // If this is a container, add its contents' weight
-                if (WeightCalculator.isContainer(stack)) {
-                    float containerWeight = ContainerWeightHelper.getContainerWeight(stack, player.level().registryAccess());
-                    weightTotal[0] += containerWeight;
-                    
-                    // Log detailed information for containers
-                    if (containerWeight > 0) {
-                        LOGGER.info("Container in slot {}: {} - Item weight: {}, Contents weight: {}", 
-                            i, stack.getItem(), 
-                            String.format("%.2f", itemWeight),
-                            String.format("%.2f", containerWeight));
-                    }
-                }
-            }
-        }
+        weightTotal[0] += sumInventoryWeight(player.getInventory(), player.level().registryAccess(), visited, tracePlayer);
 
         // Calculate weight from Curios slots if the mod is loaded
         if (ModList.get().isLoaded("curios")) {
             CuriosApi.getCuriosInventory(player).ifPresent(handler -> {
                 // Only check slots we care about (from WeightEventHandler.SLOTS_TO_CHECK)
+                int traceSlot = TraceEventType.CURIO_SLOT_OFFSET;
                 for (String slotType : WeightEventHandler.SLOTS_TO_CHECK) {
                     ICurioStacksHandler slotHandler = handler.getCurios().get(slotType);
                     if (slotHandler != null) {
-                        for (int i = 0; i < slotHandler.getSlots(); i++) {
+                        for (int i = 0; i < slotHandler.getSlots(); i++, traceSlot++) {
                             ItemStack stack = slotHandler.getStacks().getStackInSlot(i);
+                            visited[0]++;
                             if (!stack.isEmpty()) {
                                 float itemWeight = WeightCalculator.getWeight(stack) * stack.getCount();
                                 weightTotal[0] += itemWeight;
+                                float containerWeight = 0.0f;
                                 
                                 // If this is a container, add its contents' weight
                                 if (WeightCalculator.isContainer(stack)) {
-                                    float containerWeight = ContainerWeightHelper.getContainerWeight(stack, player.level().registryAccess());
+                                    visited[1]++;
+                                    containerWeight = ContainerWeightHelper.getContainerWeight(stack, player.level().registryAccess());
                                     weightTotal[0] += containerWeight;
                                     
                                     // Log detailed information for containers
-                                    if (containerWeight > 0) {
-                                        LOGGER.info("Container in curio slot {}: {} - Item weight: {}, Contents weight: {}", 
-                                            slotType, stack.getItem(), 
-                                            String.format("%.2f", itemWeight),
-                                            String.format("%.2f", containerWeight));
+                                    if (containerWeight > 0 && LOG.isTraceEnabled()) {
+                                        LOG.trace("Container in curio slot {}: {} - Item weight: {}, Contents weight: {}",
+                                            slotType, stack.getItem(), itemWeight, containerWeight);
                                     }
                                 }
+                                if (tracePlayer != null) {
+                                    WeightTraceRecorder.recordRecalcSlot(tracePlayer, traceSlot, stack);
+                                }
                             }
                         }
                     }
@@ -279,7 +282,19 @@ public class PlayerWeightImpl implements IPlayerWeight {
 
         // Store and log the calculated weight
         this.currentWeight = weightTotal[0];
-        //LOGGER.info("Total weight calculated for player {}: {} / {} ({}%)", 
+        WeightTraceRecorder.recordRecalc(player, this.currentWeight);
+        WeightShadowVerifier.maybeVerify(player, this);
+        ModMetrics.WEIGHT_RECOMPUTES.inc();
+        ModMetrics.WEIGHT_RECOMPUTE_TIME.recordSince(start);
+        jfrEvent.end();
+        if (jfrEvent.shouldCommit()) {
+            jfrEvent.player = player.getScoreboardName();
+            jfrEvent.slots = visited[0];
+            jfrEvent.containers = visited[1];
+            jfrEvent.weight = this.currentWeight;
+            jfrEvent.commit();
+        }
+        //LOG.info("Total weight calculated for player {}: {} / {} ({}%)", 
         //    player.getName().getString(),
         //    String.format("%.2f", this.currentWeight),
         //    String.format("%.2f", getMaxCapacity()),
@@ -288,6 +303,78 @@ public class PlayerWeightImpl implements IPlayerWeight {
         return weightTotal[0];
     }
 
+    /**
+     * Sums the weight of every stack in an inventory, including the contents of containers.
+     * Split out of {@link #calculateWeight} so it can be benchmarked on synthetic inventories.
+     *
+     * @param inventory The inventory to sum, normally the player's main inventory
+     * @param provider Registry access for reading container contents
+     * @param visited Incremented in place: [0] slots checked, [1] containers visited
+     * @return The total weight
+     */
+    public static float sumInventoryWeight(Container inventory, HolderLookup.Provider provider, int[] visited) {
+        return sumInventoryWeight(inventory, provider, visited, null);
+    }
+
+    /**
+     * @param tracePlayer When not null, each non-empty stack is recorded to the weight trace as a
+     *                    {@link TraceEventType#RECALC_SLOT} of this player's inventory snapshot
+     */
+    private static float sumInventoryWeight(Container inventory, HolderLookup.Provider provider, int[] visited,
+                                            @Nullable Player tracePlayer) {
+        float total = 0.0f;
+        for (int i = 0; i < inventory.getContainerSize(); i++) {
+            ItemStack stack = inventory.getItem(i);
+            visited[0]++;
+            if (!stack.isEmpty()) {
+                float itemWeight = WeightCalculator.getWeight(stack) * stack.getCount();
+                total += itemWeight;
+                float containerWeight = 0.0f;
+
+                // If this is a container, add its contents' weight
+                if (WeightCalculator.isContainer(stack)) {
+                    visited[1]++;
+                    containerWeight = ContainerWeightHelper.getContainerWeight(stack, provider);
+                    total += containerWeight;
+
+                    // Log detailed information for containers
+                    if (containerWeight > 0 && LOG.isTraceEnabled()) {
+                        LOG.trace("Container in slot {}: {} - Item weight: {}, Contents weight: {}",
+                            i, stack.getItem(), itemWeight, containerWeight);
+                    }
+                }
+                if (tracePlayer != null) {
+                    WeightTraceRecorder.recordRecalcSlot(tracePlayer, i, stack);
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * The slot number a curio has in weight traces: its position in the curio loop of {@link #calculateWeight},
+     * counted from {@link TraceEventType#CURIO_SLOT_OFFSET}.
+     * @return The trace slot, or -1 if that loop does not sum the slot type
+     */
+    public static int curioTraceSlot(Player player, String slotType, int index) {
+        if (!WeightEventHandler.SLOTS_TO_CHECK.contains(slotType)) {
+            return -1;
+        }
+        final int[] offset = {TraceEventType.CURIO_SLOT_OFFSET};
+        CuriosApi.getCuriosInventory(player).ifPresent(handler -> {
+            for (String type : WeightEventHandler.SLOTS_TO_CHECK) {
+                if (type.equals(slotType)) {
+                    break;
+                }
+                ICurioStacksHandler slotHandler = handler.getCurios().get(type);
+                if (slotHandler != null) {
+                    offset[0] += slotHandler.getSlots();
+                }
+            }
+        });
+        return offset[0] + index;
+    }
+
     @Override
     public boolean isOverencumbered() {
         return currentWeight > getMaxCapacity();
@@ -357,7 +444,7 @@ public class PlayerWeightImpl implements IPlayerWeight {
                 if (bonusesTag.contains(key, CompoundTag.TAG_FLOAT)) { // Check type
                     capacityBonuses.put(key, bonusesTag.getFloat(key));
                 } else {
-                    LOGGER.warn("Non-float value found in capacity bonuses NBT for key: {}", key);
+                    LOG.warn("Non-float value found in capacity bonuses NBT for key: {}", key);
                 }
             }
         } // else: No bonuses saved, map remains empty (cleared above)
@@ -382,7 +469,7 @@ public class PlayerWeightImpl implements IPlayerWeight {
             try {
                 this.previousLevel = EncumbranceLevel.valueOf(levelName);
             } catch (IllegalArgumentException e) {
-                LOGGER.warn("Failed to parse saved PreviousLevel '{}', defaulting to NORMAL.", levelName);
+                LOG.warn("Failed to parse saved PreviousLevel '{}', defaulting to NORMAL.", levelName);
                 this.previousLevel = EncumbranceLevel.NORMAL; // Default on error
             }
         } else {
@@ -0,0 +1,115 @@
+package net.furyan.riyaposmod.weight.data;
+
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.VarInt;
+import net.minecraft.network.codec.StreamCodec;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A step function from a vehicle's load fraction to a modifier. Steps are written in data as
+ * {@code {"0.5": 0.8, "0.9": 0.6}}: the modifier of the highest threshold the load is strictly above applies,
+ * and 1.0 applies below every threshold.
+ */
+public final class LoadCurve {
+    public static final LoadCurve NONE = new LoadCurve(new float[0], new float[0]);
+
+    public static final StreamCodec<ByteBuf, LoadCurve> STREAM_CODEC = StreamCodec.of(
+        (buf, curve) -> {
+            VarInt.write(buf, curve.thresholds.length);
+            for (int i = 0; i < curve.thresholds.length; i++) {
+                buf.writeFloat(curve.thresholds[i]);
+                buf.writeFloat(curve.modifiers[i]);
+            }
+        },
+        buf -> {
+            int steps = VarInt.read(buf);
+            float[] thresholds = new float[steps];
+            float[] modifiers = new float[steps];
+            for (int i = 0; i < steps; i++) {
+                thresholds[i] = buf.readFloat();
+                modifiers[i] = buf.readFloat();
+            }
+            return steps == 0 ? NONE : new LoadCurve(thresholds, modifiers);
+        });
+
+    // Sorted by descending threshold
+    private final float[] thresholds;
+    private final float[] modifiers;
+
+    private LoadCurve(float[] thresholds, float[] modifiers) {
+        this.thresholds = thresholds;
+        this.modifiers = modifiers;
+    }
+
+    /**
+     * Builds a curve from threshold/modifier pairs as they appear in data.
+     * @throws IllegalArgumentException If a threshold is not a number or a modifier is negative
+     */
+    public static LoadCurve of(Map<String, Float> steps) {
+        if (steps == null || steps.isEmpty()) {
+            return NONE;
+        }
+        List<float[]> sorted = new ArrayList<>(steps.size());
+        steps.forEach((threshold, modifier) -> {
+            float parsed;
+            try {
+                parsed = Float.parseFloat(threshold);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid load threshold: " + threshold);
+            }
+            if (modifier == null || modifier < 0f) {
+                throw new IllegalArgumentException("Invalid modifier for load threshold " + threshold + ": " + modifier);
+            }
+            sorted.add(new float[] {parsed, modifier});
+        });
+        sorted.sort((a, b) -> Float.compare(b[0], a[0]));
+
+        float[] thresholds = new float[sorted.size()];
+        float[] modifiers = new float[sorted.size()];
+        for (int i = 0; i < sorted.size(); i++) {
+            thresholds[i] = sorted.get(i)[0];
+            modifiers[i] = sorted.get(i)[1];
+        }
+        return new LoadCurve(thresholds, modifiers);
+    }
+
+    /**
+     * @param loadFraction Cargo weight divided by capacity (0.0-1.0+)
+     * @return The modifier for that load, 1.0 below the lowest threshold
+     */
+    public float apply(float loadFraction) {
+        for (int i = 0; i < thresholds.length; i++) {
+            if (loadFraction > thresholds[i]) {
+                return modifiers[i];
+            }
+        }
+        return 1.0f;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof LoadCurve other
+            && Arrays.equals(thresholds, other.thresholds) && Arrays.equals(modifiers, other.modifiers));
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(thresholds) + Arrays.hashCode(modifiers);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        for (int i = thresholds.length - 1; i >= 0; i--) {
+            builder.append('>').append(thresholds[i]).append('=').append(modifiers[i]);
+            if (i > 0) {
+                builder.append(", ");
+            }
+        }
+        return builder.append('}').toString();
+    }
+}
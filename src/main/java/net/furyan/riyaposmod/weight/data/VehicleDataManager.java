@@ -0,0 +1,111 @@
+package net.furyan.riyaposmod.weight.data;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.mojang.logging.LogUtils;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.JsonOps;
+import net.furyan.riyaposmod.network.packet.SyncVehicleDataPacket;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.SimpleJsonResourceReloadListener;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.minecraft.world.entity.EntityType;
+import org.slf4j.Logger;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Loads vehicle capacities and load curves from {@code data/<namespace>/weight/vehicles/*.json}. Each file maps
+ * entity type ids to a {@link VehicleEntry}; entries for entity types that are not registered (their mod is not
+ * installed) are skipped. Clients receive the resolved profiles through {@link SyncVehicleDataPacket}.
+ */
+public class VehicleDataManager extends SimpleJsonResourceReloadListener {
+    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    public static final String DIRECTORY = "weight/vehicles";
+
+    private static volatile Map<EntityType<?>, VehicleProfile> profiles = Map.of();
+    private static volatile int generation;
+
+    public VehicleDataManager() {
+        super(GSON, DIRECTORY);
+    }
+
+    @Override
+    protected void apply(Map<ResourceLocation, JsonElement> jsons, ResourceManager manager, ProfilerFiller profiler) {
+        Map<EntityType<?>, VehicleProfile> loaded = new HashMap<>();
+        jsons.forEach((location, json) -> {
+            if (!(json instanceof JsonObject entries)) {
+                LOGGER.error("Error loading vehicle data from {}: expected an object of entity type ids", location);
+                return;
+            }
+            entries.entrySet().forEach(element -> {
+                String key = element.getKey();
+                DataResult<VehicleEntry> parsed = VehicleEntry.CODEC.parse(JsonOps.INSTANCE, element.getValue());
+                if (parsed.error().isPresent()) {
+                    LOGGER.error("Invalid vehicle data for {} in {}: {}", key, location, parsed.error().get().message());
+                    return;
+                }
+                VehicleEntry entry = parsed.getOrThrow();
+                ResourceLocation typeId = ResourceLocation.tryParse(key);
+                if (typeId == null) {
+                    LOGGER.error("Invalid entity type ID format in {}: {}", location, key);
+                    return;
+                }
+                Optional<EntityType<?>> type = BuiltInRegistries.ENTITY_TYPE.getOptional(typeId);
+                if (type.isEmpty()) {
+                    LOGGER.debug("Skipping vehicle data for unregistered entity type {}", typeId);
+                    return;
+                }
+                try {
+                    loaded.put(type.get(), entry.toProfile());
+                } catch (IllegalArgumentException e) {
+                    LOGGER.error("Invalid vehicle data for {} in {}: {}", typeId, location, e.getMessage());
+                }
+            });
+        });
+        setProfiles(loaded);
+        LOGGER.info("Loaded vehicle data for {} entity types", loaded.size());
+    }
+
+    private static void setProfiles(Map<EntityType<?>, VehicleProfile> loaded) {
+        profiles = Map.copyOf(loaded);
+        generation++;
+    }
+
+    /**
+     * @return The profile for this entity type, or {@link VehicleProfile#DEFAULT} if no data names it.
+     */
+    public static VehicleProfile get(EntityType<?> type) {
+        return profiles.getOrDefault(type, VehicleProfile.DEFAULT);
+    }
+
+    /**
+     * Incremented every time profiles are replaced, so entities can tell that their resolved profile is stale.
+     */
+    public static int getGeneration() {
+        return generation;
+    }
+
+    public static SyncVehicleDataPacket createSyncPacket() {
+        Map<ResourceLocation, VehicleProfile> byId = new HashMap<>();
+        profiles.forEach((type, profile) -> byId.put(BuiltInRegistries.ENTITY_TYPE.getKey(type), profile));
+        return new SyncVehicleDataPacket(byId);
+    }
+
+    /**
+     * Replaces the client's profiles with those sent by the server.
+     */
+    public static void applySynced(Map<ResourceLocation, VehicleProfile> synced) {
+        Map<EntityType<?>, VehicleProfile> resolved = new HashMap<>();
+        synced.forEach((typeId, profile) -> BuiltInRegistries.ENTITY_TYPE.getOptional(typeId)
+            .ifPresent(type -> resolved.put(type, profile)));
+        setProfiles(resolved);
+    }
+}
@@ -0,0 +1,41 @@
+package net.furyan.riyaposmod.weight.data;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * One vehicle as written in {@code weight/vehicles/*.json}. Each curve maps a load threshold to the modifier that
+ * applies above it (see {@link LoadCurve}); curves that do not apply to a vehicle are left out. {@code slots} maps
+ * aircraft inventory slot types to the fraction of their items' weight that counts as cargo (1.0 if not listed).
+ */
+public record VehicleEntry(int capacity, Map<String, Float> speed, Map<String, Float> power, Map<String, Float> fuel,
+                           Map<String, Float> slots) {
+    private static final Codec<Map<String, Float>> FLOAT_MAP_CODEC = Codec.unboundedMap(Codec.STRING, Codec.FLOAT);
+
+    public static final Codec<VehicleEntry> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+        Codec.INT.fieldOf("capacity").forGetter(VehicleEntry::capacity),
+        FLOAT_MAP_CODEC.optionalFieldOf("speed", Map.of()).forGetter(VehicleEntry::speed),
+        FLOAT_MAP_CODEC.optionalFieldOf("power", Map.of()).forGetter(VehicleEntry::power),
+        FLOAT_MAP_CODEC.optionalFieldOf("fuel", Map.of()).forGetter(VehicleEntry::fuel),
+        FLOAT_MAP_CODEC.optionalFieldOf("slots", Map.of()).forGetter(VehicleEntry::slots)
+    ).apply(instance, VehicleEntry::new));
+
+    /**
+     * @throws IllegalArgumentException If a curve or slot multiplier is invalid
+     */
+    public VehicleProfile toProfile() {
+        Map<String, Float> slotMultipliers = new HashMap<>();
+        if (slots != null) {
+            slots.forEach((type, multiplier) -> {
+                if (multiplier == null || multiplier < 0f) {
+                    throw new IllegalArgumentException("Invalid multiplier for slot type " + type + ": " + multiplier);
+                }
+                slotMultipliers.put(type, multiplier);
+            });
+        }
+        return new VehicleProfile(capacity, LoadCurve.of(speed), LoadCurve.of(power), LoadCurve.of(fuel), Map.copyOf(slotMultipliers));
+    }
+}
@@ -0,0 +1,45 @@
+package net.furyan.riyaposmod.weight.data;
+
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A vehicle's cargo capacity and load curves, resolved from {@link VehicleEntry} once per datapack load and
+ * held by each vehicle entity through {@link VehicleProfileHolder}.
+ *
+ * @param capacity Cargo weight at a load fraction of 1.0; 0 if the vehicle carries no weight limit
+ * @param speed Ship speed multiplier
+ * @param power Aircraft engine power multiplier
+ * @param fuel Aircraft fuel consumption multiplier
+ * @param slotMultipliers Share of item weight counted per aircraft inventory slot type; unlisted types count fully
+ */
+public record VehicleProfile(int capacity, LoadCurve speed, LoadCurve power, LoadCurve fuel, Map<String, Float> slotMultipliers) {
+    public static final VehicleProfile DEFAULT = new VehicleProfile(0, LoadCurve.NONE, LoadCurve.NONE, LoadCurve.NONE, Map.of());
+
+    public static final StreamCodec<ByteBuf, VehicleProfile> STREAM_CODEC = StreamCodec.composite(
+        ByteBufCodecs.VAR_INT, VehicleProfile::capacity,
+        LoadCurve.STREAM_CODEC, VehicleProfile::speed,
+        LoadCurve.STREAM_CODEC, VehicleProfile::power,
+        LoadCurve.STREAM_CODEC, VehicleProfile::fuel,
+        ByteBufCodecs.<ByteBuf, String, Float, Map<String, Float>>map(HashMap::new, ByteBufCodecs.STRING_UTF8, ByteBufCodecs.FLOAT),
+        VehicleProfile::slotMultipliers,
+        VehicleProfile::new);
+
+    /**
+     * @return {@code weight} as a fraction of capacity, or 0 if the vehicle has no capacity
+     */
+    public float loadFraction(float weight) {
+        return capacity <= 0 ? 0.0f : weight / capacity;
+    }
+
+    /**
+     * @return The share of an item's weight that counts as cargo in a slot of this type
+     */
+    public float slotMultiplier(String slotType) {
+        return slotMultipliers.getOrDefault(slotType, 1.0f);
+    }
+}
@@ -0,0 +1,9 @@
+package net.furyan.riyaposmod.weight.data;
+
+/**
+ * Implemented by vehicle entities through mixins. The profile is looked up by entity type when the entity is
+ * created and again only after vehicle data is reloaded.
+ */
+public interface VehicleProfileHolder {
+    VehicleProfile riyaposmod$getVehicleProfile();
+}
@@ -5,6 +5,7 @@ import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.reflect.TypeToken;
 import com.mojang.logging.LogUtils;
+import net.furyan.riyaposmod.weight.trace.WeightTraceRecorder;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.packs.resources.ResourceManager;
@@ -43,6 +44,7 @@ public class WeightDataManager extends SimpleJsonResourceReloadListener {
     static final ThreadLocal<Map<Item, Float>> perTickWeightCache = ThreadLocal.withInitial(HashMap::new);
     // --- Optimization: Static cache for per-item capacity bonuses ---
     private static final Map<Item, Float> staticCapacityBonusCache = new HashMap<>();
+    private static volatile int dataGeneration;
     
     public WeightDataManager() {
         super(GSON, "weight");
@@ -50,6 +52,16 @@ public class WeightDataManager extends SimpleJsonResourceReloadListener {
     
     @Override
     protected void apply(Map<ResourceLocation, JsonElement> jsons, ResourceManager manager, ProfilerFiller profiler) {
+        dataGeneration++;
+        try {
+            load(jsons, manager);
+        } finally {
+            dataGeneration++;
+        }
+        WeightTraceRecorder.recordDatapackReload(perItem.size());
+    }
+
+    private static void load(Map<ResourceLocation, JsonElement> jsons, ResourceManager manager) {
         perItem.clear();
         perNamespace.clear();
         perTag.clear();
@@ -61,6 +73,9 @@ public class WeightDataManager extends SimpleJsonResourceReloadListener {
         
         // Load per-namespace item data
         jsons.forEach((location, json) -> {
+            if (location.getPath().startsWith("vehicles/")) {
+                return; // Loaded by VehicleDataManager
+            }
             try {
                 String namespace = location.getNamespace();
                 Map<String, DataEntry> entries = GSON.fromJson(json, 
@@ -243,38 +258,47 @@ public class WeightDataManager extends SimpleJsonResourceReloadListener {
         Item item = stack.getItem();
         Float cached = cache.get(item);
         if (cached != null) return cached;
+        float weight = resolveWeight(item);
+        cache.put(item, weight);
+        return weight;
+    }
+
+    /**
+     * Resolves an item's weight straight from the loaded data, in the same priority order as {@link #getWeight},
+     * without reading or filling any cache. May be called off the server thread; compare {@link #getDataGeneration()}
+     * before and after to detect a datapack reload that ran concurrently.
+     */
+    public static float resolveWeight(Item item) {
         ResourceLocation id = BuiltInRegistries.ITEM.getKey(item);
-        
+
         // 1. Check specific item override
         DataEntry itemEntry = perItem.get(id);
-        if (itemEntry != null) { cache.put(item, itemEntry.weight()); return itemEntry.weight(); }
-        
+        if (itemEntry != null) return itemEntry.weight();
+
         // 2. Check container items
         for (Map<ResourceLocation, ContainerItemEntry> category : containerItems.values()) {
             ContainerItemEntry containerEntry = category.get(id);
-            if (containerEntry != null) { cache.put(item, containerEntry.weight()); return containerEntry.weight(); }
+            if (containerEntry != null) return containerEntry.weight();
         }
-        
+
         // 3. Check custom tags
         for (Map<ResourceLocation, CustomTagEntry> category : customTags.values()) {
             CustomTagEntry tagEntry = category.get(id);
-            if (tagEntry != null) { cache.put(item, tagEntry.weight()); return tagEntry.weight(); }
+            if (tagEntry != null) return tagEntry.weight();
         }
-        
+
         // 4. Check normal tags
         for (Map.Entry<TagKey<Item>, DataEntry> entry : perTag.entrySet()) {
-            if (stack.is(entry.getKey())) {
-                cache.put(item, entry.getValue().weight());
+            if (item.builtInRegistryHolder().is(entry.getKey())) {
                 return entry.getValue().weight();
             }
         }
-        
+
         // 5. Check namespace default
         DataEntry nsEntry = perNamespace.get(id.getNamespace());
-        if (nsEntry != null) { cache.put(item, nsEntry.weight()); return nsEntry.weight(); }
-        
+        if (nsEntry != null) return nsEntry.weight();
+
         // 6. Fall back to default
-        cache.put(item, DataEntry.DEFAULT.weight());
         return DataEntry.DEFAULT.weight();
     }
 
@@ -299,17 +323,37 @@ public class WeightDataManager extends SimpleJsonResourceReloadListener {
         return entry;
     }
     
+    /**
+     * Resolves an item's capacity bonus in a category without the capacity bonus cache.
+     * Same threading rules as {@link #resolveWeight}.
+     */
+    public static float resolveCapacityBonus(Item item, String category) {
+        Map<ResourceLocation, ContainerItemEntry> categoryMap = containerItems.get(category);
+        if (categoryMap == null) return ContainerItemEntry.DEFAULT.getCapacityBonus();
+        return categoryMap.getOrDefault(BuiltInRegistries.ITEM.getKey(item), ContainerItemEntry.DEFAULT).getCapacityBonus();
+    }
+
     /**
      * Checks if an item is registered as a container in any category
      */
     public static boolean isContainer(ItemStack stack) {
-        if (stack.isEmpty()) return false;
-        
-        ResourceLocation id = BuiltInRegistries.ITEM.getKey(stack.getItem());
+        return !stack.isEmpty() && isContainer(stack.getItem());
+    }
+
+    public static boolean isContainer(Item item) {
+        ResourceLocation id = BuiltInRegistries.ITEM.getKey(item);
         return containerItems.values().stream()
             .anyMatch(category -> category.containsKey(id));
     }
 
+    /**
+     * Incremented when a datapack reload starts and again when it finishes, so an odd value means a reload is
+     * in progress. Off-thread readers compare it before and after to know their reads saw one consistent data set.
+     */
+    public static int getDataGeneration() {
+        return dataGeneration;
+    }
+
     /**
      * Clears all static and per-tick caches. Call on data pack reload or in tests.
      */
@@ -1,9 +1,14 @@
 package net.furyan.riyaposmod.weight.events;
 
-import com.mojang.logging.LogUtils;
+import net.furyan.riyaposmod.util.log.LogCategory;
+import net.furyan.riyaposmod.util.log.ModLog;
+import net.furyan.riyaposmod.util.profile.HandlerProfiler;
+import net.furyan.riyaposmod.util.profile.ProfiledHandler;
 import net.furyan.riyaposmod.weight.WeightCalculator;
 import net.furyan.riyaposmod.weight.capability.IPlayerWeight;
 import net.furyan.riyaposmod.weight.capability.PlayerWeightProvider;
+import net.furyan.riyaposmod.weight.trace.WeightTraceRecorder;
+import net.furyan.riyaposmod.weight.util.BackpackScanSource;
 import net.furyan.riyaposmod.weight.util.BackpackWeightHandlerManager;
 import net.furyan.riyaposmod.weight.util.ContainerWeightHelper;
 import net.minecraft.world.entity.player.Player;
@@ -16,7 +21,6 @@ import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.event.entity.player.PlayerContainerEvent;
 import net.neoforged.neoforge.items.IItemHandler;
 import net.neoforged.neoforge.capabilities.Capabilities;
-import org.slf4j.Logger;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -29,7 +33,7 @@ import javax.annotation.Nonnull;
  */
 @EventBusSubscriber(modid = "riyaposmod")
 public class ContainerEventHandler {
-    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final ModLog LOG = ModLog.get(LogCategory.CONTAINERS);
     
     /**
      * Tracks currently open containers to prevent duplicate processing
@@ -51,19 +55,29 @@ public class ContainerEventHandler {
         @Override
         public void slotChanged(@Nonnull AbstractContainerMenu container, int slotId, @Nonnull ItemStack stack) {
             if (player.level().isClientSide() || container.containerId != menu.containerId) return;
+            long profileStart = HandlerProfiler.begin();
+            handleSlotChanged(container, slotId, stack);
+            HandlerProfiler.end(ProfiledHandler.CONTAINER_SLOT_CHANGED, profileStart, player);
+        }
+
+        private void handleSlotChanged(AbstractContainerMenu container, int slotId, ItemStack stack) {
 
             Slot slot = container.getSlot(slotId);
             if (slot == null) {
-                LOGGER.warn("slotChanged event triggered for invalid slotId {} in container {}", slotId, container.containerId);
+                LOG.warn("slotChanged event triggered for invalid slotId {} in container {}", slotId, container.containerId);
                 return;
             }
             ItemStack oldStack = slot.getItem();
 
             boolean changed = !ItemStack.matches(oldStack, stack);
             if (!changed) return;
+            WeightTraceRecorder.recordSlotChange(player,
+                slot.container == player.getInventory() ? slot.getContainerSlot() : -1, stack);
 
-            LOGGER.trace("Slot {} changed in container {} for player {}: {} -> {}",
-                slotId, container.containerId, player.getName().getString(), oldStack.getItem(), stack.getItem());
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Slot {} changed in container {} for player {}: {} -> {}",
+                    slotId, container.containerId, player.getScoreboardName(), oldStack.getItem(), stack.getItem());
+            }
 
             boolean oldIsBackpack = BackpackWeightHandlerManager.isSophisticatedBackpack(oldStack);
             boolean newIsBackpack = BackpackWeightHandlerManager.isSophisticatedBackpack(stack);
@@ -72,17 +86,17 @@ public class ContainerEventHandler {
 
             // If a backpack was added or removed
             if (oldIsBackpack != newIsBackpack) { // More precise check
-                LOGGER.debug("Backpack added/removed in slot change (Slot {}). Scheduling scan.", slotId);
+                LOG.debug("Backpack added/removed in slot change (Slot {}). Scheduling scan.", slotId);
                 // Schedule scan for next tick
                  player.level().getServer().tell(new net.minecraft.server.TickTask(
                      player.level().getServer().getTickCount() + 1,
-                     () -> BackpackWeightHandlerManager.scanPlayerForBackpacks(player)
+                     () -> BackpackWeightHandlerManager.scanPlayerForBackpacks(player, BackpackScanSource.SLOT_CHANGE)
                  ));
                  // If a *new* backpack appeared, attempt an immediate scan too
                  // This might help catch looted/moved backpacks slightly faster
                  if (!oldIsBackpack && newIsBackpack) {
-                      LOGGER.debug("New backpack detected in slot {}, performing immediate scan attempt.", slotId);
-                      BackpackWeightHandlerManager.scanPlayerForBackpacks(player);
+                      LOG.debug("New backpack detected in slot {}, performing immediate scan attempt.", slotId);
+                      BackpackWeightHandlerManager.scanPlayerForBackpacks(player, BackpackScanSource.SLOT_CHANGE);
                  }
             }
 
@@ -108,23 +122,24 @@ public class ContainerEventHandler {
     @SubscribeEvent
     public static void onContainerOpen(PlayerContainerEvent.Open event) {
         if (event.getEntity().level().isClientSide()) return;
+        long profileStart = HandlerProfiler.begin();
         
         Player player = event.getEntity();
         AbstractContainerMenu menu = event.getContainer();
         int containerId = menu.containerId;
         
-        LOGGER.info("Container opened: {} (type: {}) for player {}", 
-            containerId, 
-            menu.getClass().getName(), 
-            player.getName().getString());
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Container opened: {} (type: {}) for player {}",
+                containerId, menu.getClass().getName(), player.getScoreboardName());
+        }
         
         if (openContainers.add(containerId)) {
             menu.addSlotListener(new WeightContainerListener(player, menu));
             
-            LOGGER.debug("Container opened. Scheduling scan for player {}.", player.getName().getString());
+            LOG.debug("Container opened. Scheduling scan for player {}.", player.getScoreboardName());
             player.level().getServer().tell(new net.minecraft.server.TickTask(
                  player.level().getServer().getTickCount() + 1,
-                 () -> BackpackWeightHandlerManager.scanPlayerForBackpacks(player)
+                 () -> BackpackWeightHandlerManager.scanPlayerForBackpacks(player, BackpackScanSource.CONTAINER_OPEN)
              ));
             
             IPlayerWeight playerWeight = PlayerWeightProvider.getPlayerWeight(player);
@@ -132,26 +147,28 @@ public class ContainerEventHandler {
                 playerWeight.setDirty(true);
             }
         }
+        HandlerProfiler.end(ProfiledHandler.CONTAINER_OPEN, profileStart, player);
     }
 
     @SubscribeEvent
     public static void onContainerClose(PlayerContainerEvent.Close event) {
         if (event.getEntity().level().isClientSide()) return;
+        long profileStart = HandlerProfiler.begin();
         
         Player player = event.getEntity();
         AbstractContainerMenu menu = event.getContainer();
         int containerId = menu.containerId;
         
-        LOGGER.info("Container closed: {} (type: {}) for player {}", 
-            containerId, 
-            menu.getClass().getName(), 
-            player.getName().getString());
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Container closed: {} (type: {}) for player {}",
+                containerId, menu.getClass().getName(), player.getScoreboardName());
+        }
         
         if (openContainers.remove(containerId)) {
-            LOGGER.debug("Container closed. Scheduling scan for player {}.", player.getName().getString());
+            LOG.debug("Container closed. Scheduling scan for player {}.", player.getScoreboardName());
             player.level().getServer().tell(new net.minecraft.server.TickTask(
                  player.level().getServer().getTickCount() + 1,
-                 () -> BackpackWeightHandlerManager.scanPlayerForBackpacks(player)
+                 () -> BackpackWeightHandlerManager.scanPlayerForBackpacks(player, BackpackScanSource.CONTAINER_CLOSE)
              ));
             
             IPlayerWeight playerWeight = PlayerWeightProvider.getPlayerWeight(player);
@@ -159,13 +176,14 @@ public class ContainerEventHandler {
                 playerWeight.setDirty(true);
             }
         }
+        HandlerProfiler.end(ProfiledHandler.CONTAINER_CLOSE, profileStart, player);
     }
 
     /**
      * Recursively invalidates caches for all containers in the given container
      */
     private static void invalidateContainerCaches(AbstractContainerMenu container, Player player) {
-        LOGGER.warn("invalidateContainerCaches called on container close - potentially redundant if slotChanged works correctly.");
+        LOG.warn("invalidateContainerCaches called on container close - potentially redundant if slotChanged works correctly.");
         for (int i = 0; i < container.slots.size(); i++) {
             ItemStack stack = container.getSlot(i).getItem();
             if (!stack.isEmpty() && WeightCalculator.isContainer(stack)) {
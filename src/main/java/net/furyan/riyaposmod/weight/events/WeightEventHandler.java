@@ -3,12 +3,16 @@ package net.furyan.riyaposmod.weight.events;
 import com.mojang.logging.LogUtils;
 import net.furyan.riyaposmod.registries.WeightAttachmentRegistry;
 import net.furyan.riyaposmod.util.ModTags;
+import net.furyan.riyaposmod.util.profile.HandlerProfiler;
+import net.furyan.riyaposmod.util.profile.ProfiledHandler;
 import net.furyan.riyaposmod.weight.EncumbranceLevel;
 import net.furyan.riyaposmod.weight.WeightCalculator;
 import net.furyan.riyaposmod.weight.capability.IPlayerWeight;
 import net.furyan.riyaposmod.weight.capability.PlayerWeightImpl;
 import net.furyan.riyaposmod.weight.capability.PlayerWeightProvider;
+import net.furyan.riyaposmod.weight.trace.WeightTraceRecorder;
 import net.furyan.riyaposmod.weight.util.ContainerWeightHelper;
+import net.furyan.riyaposmod.weight.util.BackpackScanSource;
 import net.furyan.riyaposmod.weight.util.BackpackWeightHandlerManager;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
@@ -84,8 +88,12 @@ public class WeightEventHandler {
      */
     @SubscribeEvent
     public static void onLivingUpdate(PlayerTickEvent.Post event) {
-        Player player = event.getEntity();
+        long profileStart = HandlerProfiler.begin();
+        updatePlayer(event.getEntity());
+        HandlerProfiler.end(ProfiledHandler.WEIGHT_PLAYER_TICK, profileStart, event.getEntity());
+    }
 
+    private static void updatePlayer(Player player) {
         // Process only ServerPlayer on server side
         if (player.level().isClientSide() || !(player instanceof ServerPlayer serverPlayer)) {
             return;
@@ -110,7 +118,7 @@ public class WeightEventHandler {
             int prevHash = lastBackpackInventoryHash.getOrDefault(playerId, 0);
             if (hash != prevHash) {
                 LOGGER.debug("Detected backpack inventory change for player {}. Triggering scan.", serverPlayer.getName().getString());
-                BackpackWeightHandlerManager.scanPlayerForBackpacks(serverPlayer);
+                BackpackWeightHandlerManager.scanPlayerForBackpacks(serverPlayer, BackpackScanSource.PLAYER_TICK);
                 lastBackpackInventoryHash.put(playerId, hash);
             }
             lastInventoryPollTick.put(playerId, tickCount);
@@ -226,6 +234,12 @@ public class WeightEventHandler {
 
     @SubscribeEvent
     public static void onItemPickup(ItemEntityPickupEvent.Pre event) {
+        long profileStart = HandlerProfiler.begin();
+        handleItemPickup(event);
+        HandlerProfiler.end(ProfiledHandler.WEIGHT_ITEM_PICKUP, profileStart, event.getPlayer());
+    }
+
+    private static void handleItemPickup(ItemEntityPickupEvent.Pre event) {
         Player player = event.getPlayer();
         if (player.level().isClientSide()) return;
 
@@ -260,7 +274,7 @@ public class WeightEventHandler {
                     // Schedule scan for the next tick
                     player.level().getServer().tell(new net.minecraft.server.TickTask(
                         player.level().getServer().getTickCount() + 1,
-                        () -> BackpackWeightHandlerManager.scanPlayerForBackpacks(player)
+                        () -> BackpackWeightHandlerManager.scanPlayerForBackpacks(player, BackpackScanSource.ITEM_PICKUP)
                     ));
                     // Invalidate cache immediately for the picked up stack
                     ContainerWeightHelper.invalidateCache(pickupStack, player.level().registryAccess());
@@ -289,6 +303,7 @@ public class WeightEventHandler {
             event.setCanPickup(TriState.FALSE);
             return;
         }
+        WeightTraceRecorder.recordPickup(player, pickupStack, singleWeight);
         // Allow pickup and mark weight dirty, but debounce to once per tick
         int currentTick = player.level().getServer().getTickCount();
         int lastTick = lastPickupDirtyTick.getOrDefault(player.getUUID(), -1);
@@ -314,7 +329,7 @@ public class WeightEventHandler {
             // Schedule scan for the next tick
             player.level().getServer().tell(new net.minecraft.server.TickTask(
                  player.level().getServer().getTickCount() + 1,
-                 () -> BackpackWeightHandlerManager.scanPlayerForBackpacks(player)
+                 () -> BackpackWeightHandlerManager.scanPlayerForBackpacks(player, BackpackScanSource.ITEM_CRAFTED)
              ));
              // Invalidate cache immediately for the crafted stack
              ContainerWeightHelper.invalidateCache(craftedItem, player.level().registryAccess());
@@ -357,7 +372,7 @@ public class WeightEventHandler {
        if (player.level().isClientSide()) return;
        
        // Ensure any backpack handlers are properly registered
-       BackpackWeightHandlerManager.scanPlayerForBackpacks(player);
+       BackpackWeightHandlerManager.scanPlayerForBackpacks(player, BackpackScanSource.CONTAINER_OPEN);
    }
         
     
@@ -380,6 +395,7 @@ public class WeightEventHandler {
         if (!(event.getEntity() instanceof Player player) || player.level().isClientSide()) {
             return; // Only handle server-side players
         }
+        WeightTraceRecorder.recordEquip(player, event.getSlot(), event.getTo());
 
         // Prevent backpacks from being equipped in the chest slot
         if (event.getSlot() == EquipmentSlot.CHEST && !event.getTo().isEmpty()) {
@@ -410,10 +426,10 @@ public class WeightEventHandler {
                 // Schedule scan because item moved back to inventory
                 player.level().getServer().tell(new net.minecraft.server.TickTask(
                     player.level().getServer().getTickCount() + 1,
-                    () -> BackpackWeightHandlerManager.scanPlayerForBackpacks(player)
+                    () -> BackpackWeightHandlerManager.scanPlayerForBackpacks(player, BackpackScanSource.EQUIPMENT_CHANGE)
                 ));
                 // Immediately scan as well to ensure handler state is correct
-                BackpackWeightHandlerManager.scanPlayerForBackpacks(player);
+                BackpackWeightHandlerManager.scanPlayerForBackpacks(player, BackpackScanSource.EQUIPMENT_CHANGE);
                 return; // Skip further processing
             }
         }
@@ -437,6 +453,10 @@ public class WeightEventHandler {
         if (!(event.getEntity() instanceof Player player) || player.level().isClientSide()) {
             return; // Only handle server-side players
         }
+        if (WeightTraceRecorder.isRecording()) {
+            WeightTraceRecorder.recordCurio(player,
+                PlayerWeightImpl.curioTraceSlot(player, event.getIdentifier(), event.getSlotIndex()), event.getTo());
+        }
 
         // Only process slots we might care about for capacity or backpacks
         if (!SLOTS_TO_CHECK.contains(event.getIdentifier())) {
@@ -467,7 +487,7 @@ public class WeightEventHandler {
              // Schedule scan for the next tick
              player.level().getServer().tell(new net.minecraft.server.TickTask(
                   player.level().getServer().getTickCount() + 1,
-                  () -> BackpackWeightHandlerManager.scanPlayerForBackpacks(player)
+                  () -> BackpackWeightHandlerManager.scanPlayerForBackpacks(player, BackpackScanSource.CURIO_CHANGE)
               ));
         }
 
@@ -520,7 +540,7 @@ public class WeightEventHandler {
         weightImpl.refreshEquippedItemBonuses(player);
         
         // Scan for backpacks immediately on login
-        BackpackWeightHandlerManager.scanPlayerForBackpacks(player);
+        BackpackWeightHandlerManager.scanPlayerForBackpacks(player, BackpackScanSource.LOGIN);
         
         // Mark dirty to force weight calculation and client sync on first tick
         weightImpl.setDirty(true);
@@ -573,7 +593,7 @@ public class WeightEventHandler {
         player.level().getServer().tell(new net.minecraft.server.TickTask(
             player.level().getServer().getTickCount() + 3, // Small delay
             () -> {
-                BackpackWeightHandlerManager.scanPlayerForBackpacks(player);
+                BackpackWeightHandlerManager.scanPlayerForBackpacks(player, BackpackScanSource.BLOCK_INTERACT);
                  IPlayerWeight weightCap = PlayerWeightProvider.getPlayerWeight(player);
                  if (weightCap != null) {
                      weightCap.setDirty(true);
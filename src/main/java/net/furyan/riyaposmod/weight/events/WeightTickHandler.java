@@ -1,6 +1,8 @@
 package net.furyan.riyaposmod.weight.events;
 
 import com.mojang.logging.LogUtils;
+import net.furyan.riyaposmod.util.profile.HandlerProfiler;
+import net.furyan.riyaposmod.util.profile.ProfiledHandler;
 import net.furyan.riyaposmod.weight.capability.IPlayerWeight;
 import net.furyan.riyaposmod.weight.capability.PlayerWeightProvider;
 import net.furyan.riyaposmod.weight.data.WeightDataManager;
@@ -49,6 +51,8 @@ public class WeightTickHandler {
             for (UUID playerId : toProcess) {
                 ServerPlayer player = event.getEntity().getServer().getPlayerList().getPlayer(playerId);
                 if (player != null) {
+                    // Profiled per updated player, so the cost is charged to whoever was recalculated
+                    long profileStart = HandlerProfiler.begin();
                     IPlayerWeight playerWeight = PlayerWeightProvider.getPlayerWeight(player);
                     if (playerWeight != null && playerWeight.isDirty()) {
                         float oldWeight = playerWeight.getCurrentWeight();
@@ -59,6 +63,7 @@ public class WeightTickHandler {
                             
                         playerWeight.setDirty(false);
                     }
+                    HandlerProfiler.end(ProfiledHandler.WEIGHT_TICK_UPDATE, profileStart, player);
                 }
             }
         }
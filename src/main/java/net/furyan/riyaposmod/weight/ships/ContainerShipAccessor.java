@@ -4,4 +4,10 @@ import java.util.UUID;
 
 public interface ContainerShipAccessor {
     UUID riyaposmod$getUniqueId();
-} 
\ No newline at end of file
+
+    /**
+     * @return Cargo weight including container contents, recomputed only after the inventory changed
+     * or weight data was reloaded.
+     */
+    float riyaposmod$getCargoWeight();
+}
@@ -2,69 +2,123 @@ package net.furyan.riyaposmod.weight.ships;
 
 import com.talhanation.smallships.world.entity.ship.ContainerShip;
 
+import net.furyan.riyaposmod.util.jfr.VehicleWeightEvent;
+import net.furyan.riyaposmod.util.log.LogCategory;
+import net.furyan.riyaposmod.util.log.LogGate;
+import net.furyan.riyaposmod.util.log.ModLog;
+import net.furyan.riyaposmod.util.metrics.ModMetrics;
 import net.furyan.riyaposmod.weight.WeightCalculator;
+import net.furyan.riyaposmod.weight.data.VehicleDataManager;
+import net.furyan.riyaposmod.weight.data.VehicleProfile;
+import net.furyan.riyaposmod.weight.data.VehicleProfileHolder;
+import net.furyan.riyaposmod.weight.util.ContainerWeightHelper;
+import net.furyan.riyaposmod.weight.util.VehicleLoadHolder;
+import net.furyan.riyaposmod.weight.util.VehicleLoadSync;
+import net.minecraft.core.HolderLookup;
 import net.minecraft.world.item.ItemStack;
 
+import java.util.concurrent.TimeUnit;
+
 public class ShipWeightHandler {
+    private static final ModLog LOG = ModLog.get(LogCategory.SHIPS);
+    private static final LogGate WEIGHT_LOG_LIMIT = LogGate.rateLimit(5, TimeUnit.SECONDS);
+    private static final LogGate CAPACITY_LOG_LIMIT = LogGate.rateLimit(5, TimeUnit.SECONDS);
+    private static final LogGate MISSING_CAPACITY_LIMIT = LogGate.rateLimit(30, TimeUnit.SECONDS);
 
-    private static long lastLogTime = 0;
-   private static final long LOG_INTERVAL = 5000;
     /**
-     * Calculates the total weight of all items in the ship's inventory.
+     * Calculates the total weight of all items in the ship's inventory, including the contents of
+     * containers such as backpacks and shulker boxes. This rescans every slot; callers that only need
+     * the current load should use {@link #getCargoWeight}.
      * @param ship The ship's inventory (Container interface)
      * @return The total weight of all items
      */
     public static float getCurrentInventoryWeight(ContainerShip ship) {
+        ModMetrics.VEHICLE_WEIGHT_RECOMPUTES.inc("ship");
+        VehicleWeightEvent jfrEvent = new VehicleWeightEvent();
+        jfrEvent.begin();
+        HolderLookup.Provider provider = ship.level().registryAccess();
         float totalWeight = 0.0f;
         for (int i = 0; i < ship.getContainerSize(); i++) {
             ItemStack stack = ship.getItem(i);
             if (!stack.isEmpty()) {
                 totalWeight += WeightCalculator.getWeight(stack) * stack.getCount();
+                if (WeightCalculator.isContainer(stack)) {
+                    totalWeight += ContainerWeightHelper.getContainerWeight(stack, provider);
+                }
             }
         }
-        long currentTime = System.currentTimeMillis();
-       if (currentTime - lastLogTime > LOG_INTERVAL) {
-           System.out.println("Total weight: " + totalWeight);
-           lastLogTime = currentTime;
-       }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(WEIGHT_LOG_LIMIT, "Total weight: {}", totalWeight);
+        }
+        jfrEvent.end();
+        if (jfrEvent.shouldCommit()) {
+            jfrEvent.kind = "ship";
+            jfrEvent.entityId = ship.getId();
+            jfrEvent.slots = ship.getContainerSize();
+            jfrEvent.weight = totalWeight;
+            jfrEvent.commit();
+        }
+
+        return totalWeight;
+    }
+
+    /**
+     * @return The ship's cargo weight, kept up to date by {@link ContainerShipAccessor} as its inventory changes.
+     */
+    public static float getCargoWeight(ContainerShip ship) {
+        if (ship instanceof ContainerShipAccessor accessor) {
+            return accessor.riyaposmod$getCargoWeight();
+        }
+        return getCurrentInventoryWeight(ship);
+    }
+
+    /**
+     * @return The ship's capacity and load curves, resolved once per entity from vehicle data.
+     */
+    public static VehicleProfile getProfile(ContainerShip ship) {
+        if (ship instanceof VehicleProfileHolder holder) {
+            return holder.riyaposmod$getVehicleProfile();
+        }
+        return VehicleDataManager.get(ship.getType());
+    }
 
-       return totalWeight;
+    /**
+     * Returns the ship's load as published by the server (see {@link VehicleLoadSync}). Safe to call on the client,
+     * where the ship's inventory is not scanned.
+     * @param ship The ship's inventory
+     * @return The percent of capacity used (0.0-1.0)
+     */
+    public static float getCapacityPercent(ContainerShip ship) {
+        if (ship instanceof VehicleLoadHolder holder) {
+            return VehicleLoadSync.getLoadFraction(holder);
+        }
+        return computeCapacityPercent(ship);
     }
 
     /**
-     * Checks if the ship's inventory exceeds its max capacity.
-     * @param shipType The ship type string (e.g., "oak_cog")
+     * Computes the ship's load from its cargo weight. Server side only; used by {@link VehicleLoadSync}.
      * @param ship The ship's inventory
      * @return The percent of capacity used (0.0-1.0)
      */
-    public static float getCapacityPercent(String shipType, ContainerShip ship) {
-        int maxCapacity = ShipTypeCapacity.getMaxCapacity(shipType);
-        if (maxCapacity <= 0) {
-            System.out.println("[ShipWeightHandler] WARNING: maxCapacity is 0 for shipType: '" + shipType + "'");
+    public static float computeCapacityPercent(ContainerShip ship) {
+        VehicleProfile profile = getProfile(ship);
+        if (profile.capacity() <= 0) {
+            LOG.warn(MISSING_CAPACITY_LIMIT, "No vehicle capacity for ship type {}", ship.getType());
             return 0.0f;
         }
-        float currentWeight = getCurrentInventoryWeight(ship);
-        long currentTime = System.currentTimeMillis();
-        // Log the capacity percent only if the cooldown has expired
-        if (currentTime - lastLogTime > LOG_INTERVAL) {
-            System.out.println("[ShipWeightHandler] shipType: '" + shipType + "', maxCapacity: " + maxCapacity + ", currentWeight: " + currentWeight);
-            lastLogTime = currentTime;
+        float currentWeight = getCargoWeight(ship);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(CAPACITY_LOG_LIMIT, "shipType: {}, maxCapacity: {}, currentWeight: {}", ship.getType(), profile.capacity(), currentWeight);
         }
-        float percentUsed = currentWeight / maxCapacity;
-        // Notify players if a threshold is crossed
-        ShipWeightNotifier.notifyThresholdCrossed(ship, percentUsed);
-        return percentUsed;
+        return profile.loadFraction(currentWeight);
     }
 
     /**
-     * Returns the speed modifier for the ship based on its capacity usage.
+     * Returns the speed modifier for the ship based on its capacity usage, from the ship's speed curve.
      * @param percentUsed The percent of capacity used (0.0-1.0)
      * @return The speed modifier (1.0 = normal, 0.0 = immobile)
      */
-    public static float getSpeedModifier(float percentUsed) {
-        if (percentUsed >= 1.01f) return 0.0f; // 101% or more, immobile
-        if (percentUsed > 0.90f) return 0.6f;  // 90-100%, -40% speed
-        if (percentUsed > 0.50f) return 0.8f;  // 50-90%, -20% speed
-        return 1.0f;                          // 0-50%, normal speed
+    public static float getSpeedModifier(ContainerShip ship, float percentUsed) {
+        return getProfile(ship).speed().apply(percentUsed);
     }
-} 
\ No newline at end of file
+}
@@ -1,10 +1,6 @@
 package net.furyan.riyaposmod.weight.ships;
 
-import com.talhanation.smallships.world.entity.ship.BriggEntity;
-import com.talhanation.smallships.world.entity.ship.CogEntity;
 import com.talhanation.smallships.world.entity.ship.ContainerShip;
-import com.talhanation.smallships.world.entity.ship.DrakkarEntity;
-import com.talhanation.smallships.world.entity.ship.GalleyEntity;
 
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.network.chat.Component;
@@ -62,17 +58,9 @@ public class ShipWeightNotifier {
             }
         }
     }
-        private static String getShipType(ContainerShip containerShip) {
-            if (containerShip instanceof CogEntity) return CogEntity.ID;
-            if (containerShip instanceof BriggEntity) return BriggEntity.ID;
-            if (containerShip instanceof GalleyEntity) return GalleyEntity.ID;
-            if (containerShip instanceof DrakkarEntity) return DrakkarEntity.ID;
-            return "unknown";
-        }
-    
-        public static void sendCurrentThresholdMessage(ContainerShip ship, ServerPlayer player) {
-        String shipType = getShipType(ship);
-        float percentUsed = ShipWeightHandler.getCapacityPercent(shipType, ship);
+
+    public static void sendCurrentThresholdMessage(ContainerShip ship, ServerPlayer player) {
+        float percentUsed = ShipWeightHandler.getCapacityPercent(ship);
         int threshold = getThreshold(percentUsed);
         String msg;
         ChatFormatting color;
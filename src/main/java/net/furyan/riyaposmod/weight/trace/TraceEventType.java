@@ -0,0 +1,66 @@
+package net.furyan.riyaposmod.weight.trace;
+
+import javax.annotation.Nullable;
+
+/**
+ * Record types in a weight trace file. The ids are written to disk, so existing ones must never change.
+ */
+public enum TraceEventType {
+    /** File-local item dictionary entry. Only written by version 1 files, which can no longer be read. */
+    ITEM_DEF(0, false),
+    /** A player inventory slot changed in an open menu. Slot is the inventory index, or -1 for other containers. */
+    SLOT_CHANGE(1, true),
+    /** A player picked up an item entity. Value is the weight of one item including container contents. */
+    PICKUP(2, true),
+    /** The contents of a tracked Sophisticated Backpack changed. Slot is the slot inside the backpack; the stack is the backpack. */
+    BACKPACK_SLOT(3, true),
+    /** An equipment slot changed. Slot is the {@link net.minecraft.world.entity.EquipmentSlot} ordinal. */
+    EQUIP(4, true),
+    /** A Curios slot changed. Slot is numbered as in {@link #RECALC_SLOT}, or -1 for slot types the weight engine ignores. */
+    CURIO(5, true),
+    /** Weight data was reloaded from datapacks. Count is the number of loaded item entries. */
+    DATAPACK_RELOAD(6, false),
+    /** One non-empty stack of an {@link #INVENTORY_SNAPSHOT}. Slot is the inventory index, or a curio slot from {@link #CURIO_SLOT_OFFSET}. */
+    RECALC_SLOT(7, true),
+    /** A recalculation finished. Value is the total weight the engine computed. */
+    RECALC(8, false),
+    /** A slot of the player's own inventory menu changed. Slot is the inventory index. */
+    INVENTORY_SLOT(9, true),
+    /** Starts a snapshot of a player's inventory; the {@link #RECALC_SLOT} records that follow replace what was known of it. */
+    INVENTORY_SNAPSHOT(10, false);
+
+    /** Curios stacks in {@link #RECALC_SLOT} records use slot numbers from this offset. */
+    public static final int CURIO_SLOT_OFFSET = 100;
+
+    private static final TraceEventType[] BY_ID = new TraceEventType[values().length];
+
+    static {
+        for (TraceEventType type : values()) {
+            BY_ID[type.id] = type;
+        }
+    }
+
+    private final int id;
+    private final boolean carriesStack;
+
+    TraceEventType(int id, boolean carriesStack) {
+        this.id = id;
+        this.carriesStack = carriesStack;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * @return Whether records of this type are followed by a {@link TraceStack}
+     */
+    public boolean carriesStack() {
+        return carriesStack;
+    }
+
+    @Nullable
+    public static TraceEventType byId(int id) {
+        return id >= 0 && id < BY_ID.length ? BY_ID[id] : null;
+    }
+}
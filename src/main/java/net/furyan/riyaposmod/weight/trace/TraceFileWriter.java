@@ -0,0 +1,128 @@
+package net.furyan.riyaposmod.weight.trace;
+
+import net.furyan.riyaposmod.RiyaposMod;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+
+import javax.annotation.Nullable;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Writes drained trace records to {@code weight-<timestamp>-<n>.trace} files, starting a new file once the
+ * current one reaches the size limit and deleting the oldest files beyond the file limit.
+ * <p>
+ * Each file is self-contained: a header, then records. Records of types that {@link TraceEventType#carriesStack()
+ * carry a stack} are followed by it, saved with the item codec so files can be replayed on a server whose registry
+ * ids differ, and then by the recorded contents of container items.
+ */
+final class TraceFileWriter implements TraceRingBuffer.Sink, AutoCloseable {
+    static final int MAGIC = 0x52575452; // "RWTR"
+    static final short VERSION = 2;
+    static final String PREFIX = "weight-";
+    static final String SUFFIX = ".trace";
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Path directory;
+    private final HolderLookup.Provider registries;
+    private final long maxBytes;
+    private final int maxFiles;
+    private final String sessionName = PREFIX + LocalDateTime.now().format(FILE_TIMESTAMP);
+
+    private DataOutputStream out;
+    private int fileIndex;
+
+    TraceFileWriter(Path directory, HolderLookup.Provider registries, long maxBytes, int maxFiles) {
+        this.directory = directory;
+        this.registries = registries;
+        this.maxBytes = maxBytes;
+        this.maxFiles = maxFiles;
+    }
+
+    @Override
+    public void accept(long w0, long w1, long w2, long w3, long w4, @Nullable TraceStack stack) {
+        try {
+            if (out == null) {
+                open();
+            }
+            int typeId = (int) (w0 >>> 32);
+            out.writeByte(typeId);
+            out.writeInt((int) w0);
+            out.writeLong(w1);
+            out.writeLong(w2);
+            out.writeInt((int) w3);
+            out.writeInt((int) (w4 >> 32));
+            out.writeInt((int) w4);
+            TraceEventType type = TraceEventType.byId(typeId);
+            if (type != null && type.carriesStack()) {
+                writeStack(stack != null ? stack : TraceStack.EMPTY);
+            }
+
+            if (out.size() >= maxBytes) {
+                close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Runs on the writer thread; the stack is a copy nothing else touches, and the registries are frozen
+    private void writeStack(TraceStack traced) throws IOException {
+        NbtIo.write((CompoundTag) traced.stack().saveOptional(registries), out);
+        out.writeInt(traced.contents().size());
+        for (TraceStack content : traced.contents()) {
+            writeStack(content);
+        }
+    }
+
+    void flush() throws IOException {
+        if (out != null) {
+            out.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (out != null) {
+            out.close();
+            out = null;
+        }
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve(String.format(Locale.ROOT, "%s-%03d%s", sessionName, fileIndex++, SUFFIX));
+        out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16));
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeLong(System.currentTimeMillis());
+        RiyaposMod.LOGGER.info("Writing weight trace to {}", file);
+        deleteOldFiles();
+    }
+
+    private void deleteOldFiles() throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(TraceFileWriter::isTraceFile).sorted().toList();
+        }
+        for (int i = 0; i < files.size() - maxFiles; i++) {
+            Files.deleteIfExists(files.get(i));
+        }
+    }
+
+    static boolean isTraceFile(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+    }
+}
@@ -0,0 +1,101 @@
+package net.furyan.riyaposmod.weight.trace;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, lock-free ring of fixed-size trace records with any number of producers and a single consumer.
+ * <p>
+ * Each record is {@link #FIELDS} longs in a preallocated array, plus an optional {@link TraceStack} in a parallel
+ * array, so the stack copy is the only thing recording allocates. A producer claims a sequence number with a CAS,
+ * writes its fields and then publishes the slot with a release store.
+ * The consumer waits for that store, copies the record out and only then advances its position, which frees
+ * the slot. When the ring is full the record is dropped and counted rather than blocking the server thread.
+ */
+final class TraceRingBuffer {
+    static final int FIELDS = 5;
+
+    /** Receives drained records; called on the consumer thread only. */
+    interface Sink {
+        void accept(long w0, long w1, long w2, long w3, long w4, @Nullable TraceStack stack);
+    }
+
+    private final int capacity;
+    private final int mask;
+    private final long[] data;
+    private final TraceStack[] stacks;
+    // Holds sequence + 1 once the record for that sequence has been written; 0 means never written
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong();
+    private volatile long consumed;
+    private final LongAdder dropped = new LongAdder();
+
+    TraceRingBuffer(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.data = new long[capacity * FIELDS];
+        this.stacks = new TraceStack[capacity];
+        this.published = new AtomicLongArray(capacity);
+    }
+
+    /**
+     * @return Whether the record was stored; false if the ring was full and it was dropped.
+     */
+    boolean offer(long w0, long w1, long w2, long w3, long w4, @Nullable TraceStack stack) {
+        long seq;
+        do {
+            seq = claimed.get();
+            if (seq - consumed >= capacity) {
+                dropped.increment();
+                return false;
+            }
+        } while (!claimed.compareAndSet(seq, seq + 1));
+
+        int index = (int) (seq & mask);
+        int base = index * FIELDS;
+        data[base] = w0;
+        data[base + 1] = w1;
+        data[base + 2] = w2;
+        data[base + 3] = w3;
+        data[base + 4] = w4;
+        stacks[index] = stack;
+        published.lazySet(index, seq + 1);
+        return true;
+    }
+
+    /**
+     * Passes every published record to the sink in sequence order. Must only be called from one thread.
+     * Stops at the first claimed but not yet published record, so ordering is preserved.
+     * @return The number of records drained.
+     */
+    int drain(Sink sink) {
+        long seq = consumed;
+        int count = 0;
+        while (true) {
+            int index = (int) (seq & mask);
+            if (published.get(index) != seq + 1) {
+                break;
+            }
+            int base = index * FIELDS;
+            sink.accept(data[base], data[base + 1], data[base + 2], data[base + 3], data[base + 4], stacks[index]);
+            stacks[index] = null;
+            seq++;
+            count++;
+            consumed = seq;
+        }
+        return count;
+    }
+
+    boolean isEmpty() {
+        return claimed.get() == consumed;
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+}
@@ -0,0 +1,46 @@
+package net.furyan.riyaposmod.weight.trace;
+
+import net.furyan.riyaposmod.weight.WeightCalculator;
+import net.furyan.riyaposmod.weight.util.ContainerWeightHelper;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.neoforge.capabilities.Capabilities;
+import net.neoforged.neoforge.items.IItemHandler;
+
+import java.util.List;
+
+/**
+ * A stack as written to a weight trace: the stack itself, saved with the item codec, plus the contents of container
+ * items as read through their item handler. Contents are captured separately because containers such as
+ * Sophisticated Backpacks keep them outside the stack, which alone would replay as an empty container.
+ *
+ * @param contents One entry per handler slot for containers, empty for everything else
+ */
+public record TraceStack(ItemStack stack, List<TraceStack> contents) {
+    public static final TraceStack EMPTY = new TraceStack(ItemStack.EMPTY, List.of());
+
+    /**
+     * Copies a stack and, for containers, its contents as deep as the weight engine reads them.
+     * Must be called on the server thread, since container contents may live in world data.
+     */
+    public static TraceStack capture(ItemStack stack) {
+        return capture(stack, 0);
+    }
+
+    private static TraceStack capture(ItemStack stack, int depth) {
+        if (stack.isEmpty()) {
+            return EMPTY;
+        }
+        List<TraceStack> contents = List.of();
+        if (depth < ContainerWeightHelper.MAX_RECURSION_DEPTH && WeightCalculator.isContainer(stack)) {
+            IItemHandler handler = stack.getCapability(Capabilities.ItemHandler.ITEM);
+            if (handler != null) {
+                TraceStack[] slots = new TraceStack[handler.getSlots()];
+                for (int i = 0; i < slots.length; i++) {
+                    slots[i] = capture(handler.getStackInSlot(i), depth + 1);
+                }
+                contents = List.of(slots);
+            }
+        }
+        return new TraceStack(stack.copy(), contents);
+    }
+}
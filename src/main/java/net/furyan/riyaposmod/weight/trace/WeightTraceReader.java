@@ -0,0 +1,123 @@
+package net.furyan.riyaposmod.weight.trace;
+
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.NbtOps;
+import net.minecraft.world.item.ItemStack;
+
+import javax.annotation.Nullable;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Reads trace files written by {@link WeightTraceRecorder}, one event at a time. Stacks are decoded against the
+ * registries of the server doing the reading.
+ */
+public final class WeightTraceReader {
+
+    /**
+     * One recorded event. {@code player} is null for server-wide events such as datapack reloads,
+     * and {@code stack} is null unless the type {@link TraceEventType#carriesStack() carries one}.
+     */
+    public record TraceEvent(TraceEventType type, int tick, @Nullable UUID player, int slot, int count, float value,
+                             @Nullable TraceStack stack) {}
+
+    @FunctionalInterface
+    public interface Visitor {
+        void visit(TraceEvent event);
+
+        /**
+         * Called for each recorded stack whose item is not in this server's registries; it is read as empty.
+         */
+        default void unresolvedItem(String id) {}
+    }
+
+    private WeightTraceReader() {}
+
+    /**
+     * Expands a path to the trace files it names: the file itself, or every trace file in a directory in name order,
+     * which is recording order.
+     */
+    public static List<Path> listTraceFiles(Path path) throws IOException {
+        if (!Files.isDirectory(path)) {
+            return List.of(path);
+        }
+        try (Stream<Path> stream = Files.list(path)) {
+            return stream.filter(TraceFileWriter::isTraceFile).sorted().toList();
+        }
+    }
+
+    /**
+     * Passes every event in the file to the visitor. A file cut short by a crash is read up to its last whole record.
+     * @return Whether the file ended cleanly; false if it was truncated.
+     */
+    public static boolean read(Path file, HolderLookup.Provider registries, Visitor visitor) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            if (in.readInt() != TraceFileWriter.MAGIC) {
+                throw new IOException("Not a weight trace file: " + file);
+            }
+            short version = in.readShort();
+            if (version != TraceFileWriter.VERSION) {
+                throw new IOException("Unsupported weight trace version " + version + " in " + file);
+            }
+            in.readLong(); // Recording start time
+
+            while (true) {
+                int typeId = in.read();
+                if (typeId < 0) {
+                    return true;
+                }
+                try {
+                    TraceEventType type = TraceEventType.byId(typeId);
+                    if (type == null || type == TraceEventType.ITEM_DEF) {
+                        throw new IOException("Unknown record type " + typeId + " in " + file);
+                    }
+
+                    int tick = in.readInt();
+                    long most = in.readLong();
+                    long least = in.readLong();
+                    int slot = in.readInt();
+                    int count = in.readInt();
+                    float value = in.readFloat();
+                    TraceStack stack = type.carriesStack() ? readStack(in, registries, visitor) : null;
+                    UUID player = most == 0L && least == 0L ? null : new UUID(most, least);
+                    visitor.visit(new TraceEvent(type, tick, player, slot, count, value, stack));
+                } catch (EOFException e) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    private static TraceStack readStack(DataInputStream in, HolderLookup.Provider registries, Visitor visitor) throws IOException {
+        CompoundTag tag = NbtIo.read(in);
+        ItemStack stack = ItemStack.EMPTY;
+        if (!tag.isEmpty()) {
+            // Decoded directly rather than through ItemStack.parseOptional, which logs an error for every unknown item
+            stack = ItemStack.CODEC.parse(registries.createSerializationContext(NbtOps.INSTANCE), tag).result().orElse(ItemStack.EMPTY);
+            if (stack.isEmpty()) {
+                visitor.unresolvedItem(tag.getString("id"));
+            }
+        }
+        int size = in.readInt();
+        if (size < 0) {
+            throw new IOException("Invalid container size " + size);
+        }
+        if (size == 0) {
+            return stack.isEmpty() ? TraceStack.EMPTY : new TraceStack(stack, List.of());
+        }
+        TraceStack[] contents = new TraceStack[size];
+        for (int i = 0; i < size; i++) {
+            contents[i] = readStack(in, registries, visitor);
+        }
+        return new TraceStack(stack, List.of(contents));
+    }
+}
@@ -0,0 +1,307 @@
+package net.furyan.riyaposmod.weight.trace;
+
+import net.furyan.riyaposmod.Config;
+import net.furyan.riyaposmod.RiyaposMod;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.inventory.AbstractContainerMenu;
+import net.minecraft.world.inventory.ContainerListener;
+import net.minecraft.world.inventory.Slot;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.storage.LevelResource;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+import net.neoforged.neoforge.event.server.ServerStartedEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Records weight-related events to a binary trace under {@code <world>/riyaposmod/traces/}, so real production
+ * workloads can be replayed through the weight engine offline with {@link WeightTraceReplayer}.
+ * <p>
+ * Each player's first recalculation in a recording writes a snapshot of their inventory; after that, the input
+ * events (slot changes, pickups, equipment, curios and backpack contents) carry the full stacks involved, so a replay
+ * can rebuild every inventory from them. If the ring drops events, every player is snapshotted again on their next
+ * recalculation.
+ * <p>
+ * Handlers call the static {@code record*} methods, which return after a single volatile read while no trace is
+ * running. While one is, each call packs the event into a {@link TraceRingBuffer} without locking; the only
+ * allocation is the {@link TraceStack} copy for events that carry a stack. A virtual thread encodes and drains the
+ * ring to rotating files. If the writer falls behind, events are dropped and counted rather than stalling the server
+ * thread. Recording starts with {@code /riyapos trace start} or at server start when {@code weightTraceOnStartup}
+ * is set.
+ */
+@EventBusSubscriber(modid = RiyaposMod.MOD_ID, bus = EventBusSubscriber.Bus.GAME)
+public final class WeightTraceRecorder {
+    private static final int RING_CAPACITY = 1 << 16;
+    private static final long IDLE_PARK_NANOS = 10_000_000L;
+    private static final long FLUSH_INTERVAL_NANOS = 1_000_000_000L;
+
+    private static volatile boolean recording;
+    private static volatile TraceRingBuffer ring;
+    private static Thread writerThread;
+    private static MinecraftServer server;
+    private static int currentTick;
+    // Server thread only: players whose inventory has been snapshotted since recording started or events were dropped
+    private static final Set<UUID> snapshotted = new HashSet<>();
+    private static long droppedAtLastSnapshot;
+
+    private WeightTraceRecorder() {}
+
+    @SubscribeEvent
+    public static void onServerStarted(ServerStartedEvent event) {
+        server = event.getServer();
+        if (Config.weightTraceOnStartup) {
+            start();
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        stop();
+        server = null;
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedIn(PlayerEvent.PlayerLoggedInEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            player.inventoryMenu.addSlotListener(new InventoryListener(player));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerRespawn(PlayerEvent.PlayerRespawnEvent event) {
+        // Respawning creates a new player with a new inventory menu
+        if (event.getEntity() instanceof ServerPlayer player) {
+            player.inventoryMenu.addSlotListener(new InventoryListener(player));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(ServerTickEvent.Pre event) {
+        currentTick = event.getServer().getTickCount();
+    }
+
+    /**
+     * Starts recording to a new set of trace files.
+     * @return Whether recording started; false if it was already running or no server is available.
+     */
+    public static synchronized boolean start() {
+        if (recording || server == null) {
+            return false;
+        }
+        Path directory = server.getWorldPath(LevelResource.ROOT).resolve(RiyaposMod.MOD_ID).resolve("traces");
+        TraceFileWriter writer = new TraceFileWriter(directory, server.registryAccess(), Config.weightTraceFileSizeMb * 1024L * 1024L, Config.weightTraceFileCount);
+        TraceRingBuffer buffer = new TraceRingBuffer(RING_CAPACITY);
+        snapshotted.clear();
+        droppedAtLastSnapshot = 0;
+        ring = buffer;
+        recording = true;
+        writerThread = Thread.ofVirtual().name("riyaposmod-weight-trace").start(() -> drainLoop(buffer, writer));
+        RiyaposMod.LOGGER.info("Weight trace recording started in {}", directory);
+        return true;
+    }
+
+    /**
+     * Stops recording and waits for buffered events to be written.
+     * @return Whether a recording was running.
+     */
+    public static synchronized boolean stop() {
+        if (!recording) {
+            return false;
+        }
+        recording = false;
+        Thread thread = writerThread;
+        writerThread = null;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(5_000L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        TraceRingBuffer buffer = ring;
+        ring = null;
+        long dropped = buffer.dropped();
+        if (dropped > 0) {
+            RiyaposMod.LOGGER.warn("Weight trace dropped {} events because the writer fell behind", dropped);
+        }
+        RiyaposMod.LOGGER.info("Weight trace recording stopped");
+        return true;
+    }
+
+    public static boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * @return Events dropped so far in the current recording, or 0 if none is running.
+     */
+    public static long droppedEvents() {
+        TraceRingBuffer buffer = ring;
+        return buffer == null ? 0L : buffer.dropped();
+    }
+
+    private static void drainLoop(TraceRingBuffer buffer, TraceFileWriter writer) {
+        long lastFlush = System.nanoTime();
+        try (writer) {
+            while (recording || !buffer.isEmpty()) {
+                int drained = buffer.drain(writer);
+                long now = System.nanoTime();
+                if (now - lastFlush >= FLUSH_INTERVAL_NANOS) {
+                    writer.flush();
+                    lastFlush = now;
+                }
+                if (drained == 0) {
+                    if (!recording) {
+                        // A producer claimed a slot but has not published it yet
+                        Thread.onSpinWait();
+                    } else {
+                        LockSupport.parkNanos(IDLE_PARK_NANOS);
+                    }
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            RiyaposMod.LOGGER.error("Weight trace writer failed; recording stopped", e);
+            recording = false;
+        }
+    }
+
+    private static void record(TraceEventType type, @Nullable Player player, int slot, @Nullable ItemStack stack, int count, float value) {
+        TraceRingBuffer buffer = ring;
+        if (buffer == null) {
+            return;
+        }
+        long most = player == null ? 0L : player.getUUID().getMostSignificantBits();
+        long least = player == null ? 0L : player.getUUID().getLeastSignificantBits();
+        buffer.offer(
+            ((long) type.getId() << 32) | (currentTick & 0xFFFFFFFFL),
+            most,
+            least,
+            slot,
+            ((long) count << 32) | (Float.floatToRawIntBits(value) & 0xFFFFFFFFL),
+            stack == null ? null : TraceStack.capture(stack));
+    }
+
+    /** A player inventory slot changed in an open menu; {@code slot} is -1 for slots of other containers. */
+    public static void recordSlotChange(Player player, int slot, ItemStack stack) {
+        if (recording) {
+            record(TraceEventType.SLOT_CHANGE, player, slot, stack, stack.getCount(), 0f);
+        }
+    }
+
+    /** A slot of the player's own inventory changed while no other menu was open. */
+    public static void recordInventorySlot(Player player, int slot, ItemStack stack) {
+        if (recording) {
+            record(TraceEventType.INVENTORY_SLOT, player, slot, stack, stack.getCount(), 0f);
+        }
+    }
+
+    /** A player picked up {@code stack}; {@code unitWeight} includes container contents. */
+    public static void recordPickup(Player player, ItemStack stack, float unitWeight) {
+        if (recording) {
+            record(TraceEventType.PICKUP, player, -1, stack, stack.getCount(), unitWeight);
+        }
+    }
+
+    /** A slot inside one of the player's tracked backpacks changed; {@code backpack} is captured with its new contents. */
+    public static void recordBackpackSlot(Player player, int slot, ItemStack backpack) {
+        if (recording) {
+            record(TraceEventType.BACKPACK_SLOT, player, slot, backpack, backpack.getCount(), 0f);
+        }
+    }
+
+    public static void recordEquip(Player player, EquipmentSlot slot, ItemStack stack) {
+        if (recording) {
+            record(TraceEventType.EQUIP, player, slot.ordinal(), stack, stack.getCount(), 0f);
+        }
+    }
+
+    /** @param traceSlot The curio's slot as numbered in {@link TraceEventType#RECALC_SLOT}, or -1 */
+    public static void recordCurio(Player player, int traceSlot, ItemStack stack) {
+        if (recording) {
+            record(TraceEventType.CURIO, player, traceSlot, stack, stack.getCount(), 0f);
+        }
+    }
+
+    public static void recordDatapackReload(int entries) {
+        if (recording) {
+            record(TraceEventType.DATAPACK_RELOAD, null, -1, null, entries, 0f);
+        }
+    }
+
+    /**
+     * Called at the start of a recalculation. If the player needs an inventory snapshot, starts one; the
+     * recalculation must then pass every non-empty stack it sums to {@link #recordRecalcSlot}.
+     * @return Whether a snapshot was started
+     */
+    public static boolean beginSnapshot(Player player) {
+        TraceRingBuffer buffer = ring;
+        if (!recording || buffer == null) {
+            return false;
+        }
+        long dropped = buffer.dropped();
+        if (dropped != droppedAtLastSnapshot) {
+            // Dropped events may have been any player's inputs, so every replayed inventory could now be wrong
+            snapshotted.clear();
+            droppedAtLastSnapshot = dropped;
+        }
+        if (!snapshotted.add(player.getUUID())) {
+            return false;
+        }
+        record(TraceEventType.INVENTORY_SNAPSHOT, player, -1, null, 0, 0f);
+        return true;
+    }
+
+    /** One stack of an inventory snapshot started by {@link #beginSnapshot}. */
+    public static void recordRecalcSlot(Player player, int slot, ItemStack stack) {
+        if (recording) {
+            record(TraceEventType.RECALC_SLOT, player, slot, stack, stack.getCount(), 0f);
+        }
+    }
+
+    public static void recordRecalc(Player player, float total) {
+        // Without a snapshot the replay has nothing to recalculate from, e.g. if recording started mid-recalculation
+        if (recording && snapshotted.contains(player.getUUID())) {
+            record(TraceEventType.RECALC, player, -1, null, 0, total);
+        }
+    }
+
+    /**
+     * Records changes to a player's own inventory, which no weight handler listens to but a replay needs to
+     * rebuild it. Other menus are covered by the slot listener in ContainerEventHandler.
+     */
+    private static final class InventoryListener implements ContainerListener {
+        private final Player player;
+
+        InventoryListener(Player player) {
+            this.player = player;
+        }
+
+        @Override
+        public void slotChanged(AbstractContainerMenu menu, int slotId, ItemStack stack) {
+            if (!recording) {
+                return;
+            }
+            Slot slot = menu.getSlot(slotId);
+            if (slot.container == player.getInventory()) {
+                recordInventorySlot(player, slot.getContainerSlot(), stack);
+            }
+        }
+
+        @Override
+        public void dataChanged(AbstractContainerMenu menu, int dataSlot, int value) {
+        }
+    }
+}
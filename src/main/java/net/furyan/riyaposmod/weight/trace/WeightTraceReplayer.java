@@ -0,0 +1,320 @@
+package net.furyan.riyaposmod.weight.trace;
+
+import net.furyan.riyaposmod.weight.WeightCalculator;
+import net.furyan.riyaposmod.weight.capability.PlayerWeightImpl;
+import net.furyan.riyaposmod.weight.data.WeightDataManager;
+import net.furyan.riyaposmod.weight.util.BackpackWeightHandlerManager;
+import net.furyan.riyaposmod.weight.util.ContainerWeightHelper;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.world.SimpleContainer;
+import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.neoforge.capabilities.Capabilities;
+import net.neoforged.neoforge.items.IItemHandler;
+import net.neoforged.neoforge.items.IItemHandlerModifiable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Replays weight traces through the weight engine as fast as it can and checks the totals against what production
+ * computed.
+ * <p>
+ * Each player's inventory is rebuilt from their snapshot and then from the recorded input events, whose stacks are
+ * restored together with their container contents. Inputs trigger the same container cache invalidations their
+ * production handlers do, and every {@link TraceEventType#RECALC} runs {@link PlayerWeightImpl#sumInventoryWeight}
+ * over the rebuilt inventory and curios, through {@link ContainerWeightHelper}'s cache and dirty tracking. Events are
+ * streamed from disk, so trace size is not limited by memory.
+ * <p>
+ * Capacity and capacity bonuses are not replayed; {@link net.furyan.riyaposmod.weight.util.WeightShadowVerifier}
+ * covers those on the live server.
+ * <p>
+ * Traces must be replayed on a server with the same mods and weight datapacks as the one that recorded them. A
+ * replay clears the global weight caches, writes recorded backpack contents into this server's storage and runs
+ * until it is done, so it belongs on the GameTest server only (see {@code WeightTraceReplayTests}), never on a
+ * server with players. Not thread-safe: like the live engine, replays must run on the server thread.
+ */
+public final class WeightTraceReplayer {
+    private static final float ABSOLUTE_TOLERANCE = 0.01f;
+    private static final float RELATIVE_TOLERANCE = 1.0e-5f;
+    private static final int MAX_REPORTED_MISMATCHES = 5;
+    // Main inventory, armor and offhand, indexed as Inventory does
+    private static final int INVENTORY_SLOTS = Inventory.SLOT_OFFHAND + 1;
+
+    private WeightTraceReplayer() {}
+
+    /**
+     * @param recalcMismatches Recalculations whose replayed total differed from the recorded one
+     * @param finalMismatches Players whose last replayed total differed from their last recorded one
+     * @param unrestoredContainers Recorded containers whose contents could not be written back on this server
+     */
+    public record Result(int files, int truncatedFiles, long events, Map<TraceEventType, Long> eventCounts,
+                         long recalcs, long engineNanos, long wallNanos, int players, long recalcMismatches,
+                         float maxDifference, int finalMismatches, long unrestoredContainers, Set<String> unresolvedItems,
+                         List<String> mismatchDetails) {
+
+        public boolean passed() {
+            return finalMismatches == 0 && recalcMismatches == 0;
+        }
+
+        public List<String> toLines() {
+            double wallSeconds = Math.max(1, wallNanos) / 1_000_000_000.0;
+            List<String> lines = new ArrayList<>();
+            lines.add(String.format(Locale.ROOT, "--- Weight Trace Replay (%d files, %d events, %d players) ---", files, events, players));
+            if (truncatedFiles > 0) {
+                lines.add(truncatedFiles + " file(s) were truncated; replayed up to their last whole record.");
+            }
+            StringBuilder counts = new StringBuilder("Events:");
+            eventCounts.forEach((type, count) -> counts.append(' ').append(type.name().toLowerCase(Locale.ROOT)).append('=').append(count));
+            lines.add(counts.toString());
+            lines.add(String.format(Locale.ROOT, "Throughput: %.0f events/s, %.0f recalcs/s (%.3f s wall, including reading)",
+                events / wallSeconds, recalcs / wallSeconds, wallSeconds));
+            lines.add(String.format(Locale.ROOT, "Engine: %d recalcs, %.2f us/recalc, %.1f%% of wall time",
+                recalcs, recalcs == 0 ? 0.0 : engineNanos / 1000.0 / recalcs, engineNanos * 100.0 / Math.max(1, wallNanos)));
+            lines.add(String.format(Locale.ROOT, "Recalc mismatches: %d (max difference %.4f)", recalcMismatches, maxDifference));
+            lines.add(String.format(Locale.ROOT, "Final totals: %d of %d players match", players - finalMismatches, players));
+            if (unrestoredContainers > 0) {
+                lines.add(unrestoredContainers + " container(s) could not have their recorded contents restored.");
+            }
+            if (!unresolvedItems.isEmpty()) {
+                lines.add("Items missing from this registry: " + unresolvedItems);
+            }
+            lines.addAll(mismatchDetails);
+            lines.add(passed() ? "Replay PASSED" : "Replay FAILED");
+            return lines;
+        }
+    }
+
+    private static final class PlayerState {
+        final SimpleContainer inventory = new SimpleContainer(INVENTORY_SLOTS);
+        // Keyed by trace slot, so they are summed in the order calculateWeight visits them
+        final TreeMap<Integer, ItemStack> curios = new TreeMap<>();
+        float recorded = Float.NaN;
+        float replayed = Float.NaN;
+
+        ItemStack get(int slot) {
+            if (slot >= TraceEventType.CURIO_SLOT_OFFSET) {
+                return curios.getOrDefault(slot, ItemStack.EMPTY);
+            }
+            return slot >= 0 && slot < INVENTORY_SLOTS ? inventory.getItem(slot) : ItemStack.EMPTY;
+        }
+
+        void set(int slot, ItemStack stack) {
+            if (slot >= TraceEventType.CURIO_SLOT_OFFSET) {
+                if (stack.isEmpty()) {
+                    curios.remove(slot);
+                } else {
+                    curios.put(slot, stack);
+                }
+            } else if (slot >= 0 && slot < INVENTORY_SLOTS) {
+                inventory.setItem(slot, stack);
+            }
+        }
+
+        void clear() {
+            inventory.clearContent();
+            curios.clear();
+        }
+    }
+
+    /**
+     * Streams the events of one or more trace files through the engine.
+     */
+    private static final class Replay implements WeightTraceReader.Visitor {
+        private final HolderLookup.Provider registries;
+        private final Map<TraceEventType, Long> counts = new EnumMap<>(TraceEventType.class);
+        private final Map<UUID, PlayerState> players = new HashMap<>();
+        private final Set<String> unresolved = new HashSet<>();
+        private final List<String> details = new ArrayList<>();
+        private final int[] visited = new int[2];
+        private long events;
+        private long recalcs;
+        private long engineNanos;
+        private long mismatches;
+        private long unrestoredContainers;
+        private float maxDifference;
+        private int lastTick = Integer.MIN_VALUE;
+
+        Replay(HolderLookup.Provider registries) {
+            this.registries = registries;
+        }
+
+        @Override
+        public void unresolvedItem(String id) {
+            unresolved.add(id);
+        }
+
+        @Override
+        public void visit(WeightTraceReader.TraceEvent event) {
+            events++;
+            counts.merge(event.type(), 1L, Long::sum);
+            if (event.tick() != lastTick) {
+                // WeightTickHandler clears the per-tick cache every tick
+                WeightDataManager.clearPerTickWeightCache();
+                lastTick = event.tick();
+            }
+            if (event.type() == TraceEventType.DATAPACK_RELOAD) {
+                WeightDataManager.clearAllCaches();
+                return;
+            }
+            if (event.player() == null) {
+                return;
+            }
+            PlayerState state = players.computeIfAbsent(event.player(), id -> new PlayerState());
+
+            switch (event.type()) {
+                case INVENTORY_SNAPSHOT -> state.clear();
+                // Nothing in production reacts to these beyond the recalculation they lead to
+                case RECALC_SLOT, INVENTORY_SLOT, CURIO -> state.set(event.slot(), restore(event.stack()));
+                case EQUIP -> state.set(inventorySlot(EquipmentSlot.values()[event.slot()]), restore(event.stack()));
+                case SLOT_CHANGE -> {
+                    // Slots of other containers are not part of the player's weight
+                    if (event.slot() < 0) {
+                        return;
+                    }
+                    ItemStack previous = state.get(event.slot());
+                    ItemStack stack = restore(event.stack());
+                    state.set(event.slot(), stack);
+                    // As ContainerEventHandler does for the stack leaving and the stack entering the slot
+                    long start = System.nanoTime();
+                    if (WeightCalculator.isContainer(previous)) {
+                        ContainerWeightHelper.invalidateCache(previous, registries);
+                    }
+                    if (WeightCalculator.isContainer(stack)) {
+                        ContainerWeightHelper.invalidateCache(stack, registries);
+                    }
+                    engineNanos += System.nanoTime() - start;
+                }
+                case PICKUP -> {
+                    // The stack lands in the inventory through a later INVENTORY_SLOT; like WeightEventHandler,
+                    // only a picked up backpack is invalidated
+                    ItemStack stack = restore(event.stack());
+                    if (BackpackWeightHandlerManager.isSophisticatedBackpack(stack)) {
+                        long start = System.nanoTime();
+                        ContainerWeightHelper.invalidateCache(stack, registries);
+                        engineNanos += System.nanoTime() - start;
+                    }
+                }
+                case BACKPACK_SLOT -> {
+                    // Writes the new contents to the backpack's storage, which the copy in the inventory shares
+                    ItemStack backpack = restore(event.stack());
+                    if (!backpack.isEmpty()) {
+                        long start = System.nanoTime();
+                        ContainerWeightHelper.invalidateCache(backpack, registries);
+                        engineNanos += System.nanoTime() - start;
+                    }
+                }
+                case RECALC -> recalculate(event, state);
+                default -> {
+                    // DATAPACK_RELOAD is handled above and ITEM_DEF is never read
+                }
+            }
+        }
+
+        private void recalculate(WeightTraceReader.TraceEvent event, PlayerState state) {
+            SimpleContainer curios = state.curios.isEmpty() ? null
+                : new SimpleContainer(state.curios.values().toArray(ItemStack[]::new));
+            long start = System.nanoTime();
+            float total = PlayerWeightImpl.sumInventoryWeight(state.inventory, registries, visited);
+            if (curios != null) {
+                total += PlayerWeightImpl.sumInventoryWeight(curios, registries, visited);
+            }
+            engineNanos += System.nanoTime() - start;
+            recalcs++;
+
+            float difference = Math.abs(total - event.value());
+            maxDifference = Math.max(maxDifference, difference);
+            if (!withinTolerance(total, event.value())) {
+                mismatches++;
+                if (details.size() < MAX_REPORTED_MISMATCHES) {
+                    details.add(String.format(Locale.ROOT, "  tick %d, player %s: replayed %.3f, recorded %.3f",
+                        event.tick(), event.player(), total, event.value()));
+                }
+            }
+            state.replayed = total;
+            state.recorded = event.value();
+        }
+
+        /**
+         * Rebuilds a recorded stack, writing its recorded contents back through the container's item handler.
+         */
+        private ItemStack restore(TraceStack traced) {
+            ItemStack stack = traced.stack();
+            if (stack.isEmpty() || traced.contents().isEmpty()) {
+                return stack;
+            }
+            IItemHandler handler = stack.getCapability(Capabilities.ItemHandler.ITEM);
+            if (!(handler instanceof IItemHandlerModifiable modifiable)) {
+                unrestoredContainers++;
+                return stack;
+            }
+            int slots = Math.min(modifiable.getSlots(), traced.contents().size());
+            if (slots != traced.contents().size()) {
+                unrestoredContainers++;
+            }
+            for (int i = 0; i < slots; i++) {
+                ItemStack content = restore(traced.contents().get(i));
+                if (!ItemStack.matches(modifiable.getStackInSlot(i), content)) {
+                    modifiable.setStackInSlot(i, content);
+                }
+            }
+            return stack;
+        }
+    }
+
+    /**
+     * Replays the given trace files in order.
+     * @param registries The registries to decode recorded stacks against
+     */
+    public static Result replay(List<Path> files, HolderLookup.Provider registries) throws IOException {
+        WeightDataManager.clearAllCaches();
+        ContainerWeightHelper.clearCache();
+        Replay replay = new Replay(registries);
+        int truncated = 0;
+        long wallStart = System.nanoTime();
+        for (Path file : files) {
+            if (!WeightTraceReader.read(file, registries, replay)) {
+                truncated++;
+            }
+        }
+        long wallNanos = System.nanoTime() - wallStart;
+
+        int finalMismatches = 0;
+        for (PlayerState state : replay.players.values()) {
+            if (!Float.isNaN(state.recorded) && !withinTolerance(state.replayed, state.recorded)) {
+                finalMismatches++;
+            }
+        }
+
+        return new Result(files.size(), truncated, replay.events, replay.counts, replay.recalcs, replay.engineNanos, wallNanos,
+            replay.players.size(), replay.mismatches, replay.maxDifference, finalMismatches, replay.unrestoredContainers,
+            replay.unresolved, replay.details);
+    }
+
+    /**
+     * @return The inventory index an equipment slot is stored at, or -1 for the main hand (the selected hotbar
+     *         slot, which inventory events already cover) and non-player slots
+     */
+    private static int inventorySlot(EquipmentSlot slot) {
+        return switch (slot.getType()) {
+            case HUMANOID_ARMOR -> Inventory.INVENTORY_SIZE + slot.getIndex();
+            case HAND -> slot == EquipmentSlot.OFFHAND ? Inventory.SLOT_OFFHAND : -1;
+            default -> -1;
+        };
+    }
+
+    private static boolean withinTolerance(float replayed, float recorded) {
+        return Math.abs(replayed - recorded) <= ABSOLUTE_TOLERANCE + RELATIVE_TOLERANCE * Math.abs(recorded);
+    }
+}
@@ -0,0 +1,27 @@
+package net.furyan.riyaposmod.weight.util;
+
+import java.util.Locale;
+
+/**
+ * What triggered a {@link BackpackWeightHandlerManager#scanPlayerForBackpacks} call.
+ * Used to break the backpack scan metrics down by caller.
+ */
+public enum BackpackScanSource {
+    PLAYER_TICK,
+    LOGIN,
+    ITEM_PICKUP,
+    ITEM_CRAFTED,
+    BLOCK_INTERACT,
+    CONTAINER_OPEN,
+    CONTAINER_CLOSE,
+    SLOT_CHANGE,
+    EQUIPMENT_CHANGE,
+    CURIO_CHANGE,
+    COMMAND;
+
+    private final String metricLabel = name().toLowerCase(Locale.ROOT);
+
+    public String getMetricLabel() {
+        return metricLabel;
+    }
+}
@@ -1,8 +1,11 @@
 package net.furyan.riyaposmod.weight.util;
 
 import com.mojang.logging.LogUtils;
+import net.furyan.riyaposmod.util.jfr.BackpackScanEvent;
+import net.furyan.riyaposmod.util.metrics.ModMetrics;
 import net.furyan.riyaposmod.weight.capability.IPlayerWeight;
 import net.furyan.riyaposmod.weight.capability.PlayerWeightProvider;
+import net.furyan.riyaposmod.weight.trace.WeightTraceRecorder;
 
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.world.entity.player.Player;
@@ -124,6 +127,8 @@ public final class BackpackWeightHandlerManager {
                  // Find the current ItemStack instance corresponding to this UUID
                  LOGGER.trace("Searching for stack with UUID {} for player {}", backpackUuid, currentPlayer.getName().getString());
                  ItemStack currentBackpackStack = findBackpackStackByUUID(currentPlayer, backpackUuid);
+                 WeightTraceRecorder.recordBackpackSlot(currentPlayer, slot,
+                     currentBackpackStack != null ? currentBackpackStack : ItemStack.EMPTY);
 
                  if (currentBackpackStack != null && !currentBackpackStack.isEmpty()) {
                      LOGGER.trace("Found stack {} for UUID {}. Invalidating cache.", currentBackpackStack.getItem(), backpackUuid);
@@ -213,9 +218,15 @@ public final class BackpackWeightHandlerManager {
      * Scans the player's inventory and relevant Curios slots for backpacks.
      * Registers handlers for new backpacks and unregisters handlers for backpacks no longer present.
      * This is the central function for managing backpack listeners.
+     *
+     * @param source What triggered the scan; recorded in the backpack scan metrics
      */
-    public static void scanPlayerForBackpacks(Player player) {
+    public static void scanPlayerForBackpacks(Player player, BackpackScanSource source) {
         if (player == null || player.level().isClientSide()) return;
+        ModMetrics.BACKPACK_SCANS.inc(source.getMetricLabel());
+        long start = System.nanoTime();
+        BackpackScanEvent jfrEvent = new BackpackScanEvent();
+        jfrEvent.begin();
 
         LOGGER.debug("Scanning player inventory/curios for backpacks: {}", player.getName().getString());
         Set<UUID> foundBackpackUuids = new HashSet<>();
@@ -305,6 +316,14 @@ public final class BackpackWeightHandlerManager {
         } else {
             LOGGER.trace("Backpack scan completed, no handler changes needed for player {}", player.getName().getString());
         }
+        ModMetrics.BACKPACK_SCAN_TIME.recordSince(start);
+        jfrEvent.end();
+        if (jfrEvent.shouldCommit()) {
+            jfrEvent.player = player.getScoreboardName();
+            jfrEvent.source = source.getMetricLabel();
+            jfrEvent.changed = potentiallyDirty[0];
+            jfrEvent.commit();
+        }
     }
 
     /**
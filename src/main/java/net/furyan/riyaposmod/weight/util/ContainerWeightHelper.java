@@ -1,6 +1,8 @@
 package net.furyan.riyaposmod.weight.util;
 
 import com.mojang.logging.LogUtils;
+import net.furyan.riyaposmod.util.jfr.ContainerCacheMissEvent;
+import net.furyan.riyaposmod.util.metrics.ModMetrics;
 import net.furyan.riyaposmod.weight.WeightCalculator;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
@@ -19,7 +21,7 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public final class ContainerWeightHelper {
     private static final Logger LOGGER = LogUtils.getLogger();
-    private static final int MAX_RECURSION_DEPTH = 3;
+    public static final int MAX_RECURSION_DEPTH = 3;
     
     // Cache container weights with NBT hash as key
     private static final ConcurrentHashMap<Integer, CacheEntry> weightCache = new ConcurrentHashMap<>();
@@ -88,7 +90,8 @@ public final class ContainerWeightHelper {
         if (isDirty(cacheKey)) {
             LOGGER.debug("Container {} or its children are dirty, recalculating", 
                 containerStack.getItem().toString());
-            return recalculateWeight(containerStack, cacheKey, provider);
+            ModMetrics.CONTAINER_CACHE_MISSES.inc();
+            return recalculateWeight(containerStack, cacheKey, provider, true);
         }
         
         // Check cache
@@ -99,11 +102,13 @@ public final class ContainerWeightHelper {
                     containerStack.getItem().toString(), 
                     entry.weight);
             }
+            ModMetrics.CONTAINER_CACHE_HITS.inc();
             return entry.weight;
         }
         
         // Calculate weight if not cached
-        return recalculateWeight(containerStack, cacheKey, provider);
+        ModMetrics.CONTAINER_CACHE_MISSES.inc();
+        return recalculateWeight(containerStack, cacheKey, provider, false);
     }
     
     /**
@@ -128,8 +133,12 @@ public final class ContainerWeightHelper {
     
     /**
      * Recalculates the weight of a container and updates the cache
+     *
+     * @param dirty Whether the cached entry was invalidated rather than missing; recorded in the JFR event
      */
-    private static float recalculateWeight(ItemStack containerStack, int cacheKey, HolderLookup.Provider provider) {
+    private static float recalculateWeight(ItemStack containerStack, int cacheKey, HolderLookup.Provider provider, boolean dirty) {
+        ContainerCacheMissEvent jfrEvent = new ContainerCacheMissEvent();
+        jfrEvent.begin();
         Set<Integer> childContainers = new HashSet<>();
         float weight = calculateContainerWeight(containerStack, new HashSet<>(), 0, provider, childContainers);
         
@@ -142,7 +151,14 @@ public final class ContainerWeightHelper {
             containerStack.getItem().toString(), 
             weight,
             childContainers.size());
-            
+
+        jfrEvent.end();
+        if (jfrEvent.shouldCommit()) {
+            jfrEvent.item = containerStack.getItem().toString();
+            jfrEvent.dirty = dirty;
+            jfrEvent.children = childContainers.size();
+            jfrEvent.commit();
+        }
         return weight;
     }
     
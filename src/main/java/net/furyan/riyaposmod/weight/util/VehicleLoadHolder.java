@@ -0,0 +1,11 @@
+package net.furyan.riyaposmod.weight.util;
+
+/**
+ * Implemented by ship and aircraft entities through mixins to hold their load fraction as published by the server.
+ * The value is quantized by {@link VehicleLoadSync}; use {@link VehicleLoadSync#getLoadFraction} to read it.
+ */
+public interface VehicleLoadHolder {
+    byte riyaposmod$getSyncedLoad();
+
+    void riyaposmod$setSyncedLoad(byte load);
+}
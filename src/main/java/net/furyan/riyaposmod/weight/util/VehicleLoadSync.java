@@ -0,0 +1,159 @@
+package net.furyan.riyaposmod.weight.util;
+
+import com.talhanation.smallships.world.entity.ship.ContainerShip;
+import immersive_aircraft.entity.InventoryVehicleEntity;
+import net.furyan.riyaposmod.RiyaposMod;
+import net.furyan.riyaposmod.network.packet.SyncVehicleLoadPacket;
+import net.furyan.riyaposmod.util.profile.HandlerProfiler;
+import net.furyan.riyaposmod.util.profile.ProfiledHandler;
+import net.furyan.riyaposmod.weight.aircraft.AircraftWeightHandler;
+import net.furyan.riyaposmod.weight.aircraft.AircraftWeightNotifier;
+import net.furyan.riyaposmod.weight.data.VehicleDataManager;
+import net.furyan.riyaposmod.weight.data.WeightDataManager;
+import net.furyan.riyaposmod.weight.ships.ShipWeightHandler;
+import net.furyan.riyaposmod.weight.ships.ShipWeightNotifier;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
+import net.neoforged.neoforge.event.entity.EntityLeaveLevelEvent;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+import net.neoforged.neoforge.network.PacketDistributor;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Computes ship and aircraft load fractions on the server and publishes them to tracking clients as a single byte
+ * ({@link SyncVehicleLoadPacket}). Clients never scan vehicle inventories: their weight data may be empty or differ
+ * from the server's, so movement prediction reads the synced value instead.
+ * <p>
+ * The fraction is quantized to {@link #STEP}, rounding up so that a load strictly above a threshold on that grid
+ * stays above it. Both sides evaluate the load curves on the quantized value, so server and client agree on every
+ * modifier. Vehicles are refreshed at the end of the server tick after they report an inventory change, after a
+ * weight or vehicle data reload, and when they are loaded.
+ */
+@EventBusSubscriber(modid = RiyaposMod.MOD_ID, bus = EventBusSubscriber.Bus.GAME)
+public final class VehicleLoadSync {
+    public static final float STEP = 0.01f;
+    private static final int MAX_LOAD = 255;
+
+    // Server thread only
+    private static final Set<Entity> loaded = new HashSet<>();
+    private static final Set<Entity> pending = new LinkedHashSet<>();
+    private static int weightGeneration;
+    private static int vehicleGeneration;
+
+    private VehicleLoadSync() {}
+
+    public static byte quantize(float loadFraction) {
+        int steps = (int) Math.ceil(loadFraction / STEP - 1.0e-4f);
+        return (byte) Math.max(0, Math.min(MAX_LOAD, steps));
+    }
+
+    public static float dequantize(byte load) {
+        return (load & 0xFF) * STEP;
+    }
+
+    /**
+     * @return The vehicle's load fraction as last published by the server; the same value on both sides.
+     */
+    public static float getLoadFraction(VehicleLoadHolder holder) {
+        return dequantize(holder.riyaposmod$getSyncedLoad());
+    }
+
+    /**
+     * Schedules a server-side vehicle for recomputation at the end of this tick. Does nothing on the client
+     * or for vehicles that are not in a level yet; those are computed when they join.
+     */
+    public static void markDirty(Entity vehicle) {
+        if (!vehicle.level().isClientSide() && loaded.contains(vehicle)) {
+            pending.add(vehicle);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEntityJoin(EntityJoinLevelEvent event) {
+        if (!event.getLevel().isClientSide() && event.getEntity() instanceof VehicleLoadHolder) {
+            loaded.add(event.getEntity());
+            pending.add(event.getEntity());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeave(EntityLeaveLevelEvent event) {
+        if (!event.getLevel().isClientSide() && event.getEntity() instanceof VehicleLoadHolder) {
+            loaded.remove(event.getEntity());
+            pending.remove(event.getEntity());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onStartTracking(PlayerEvent.StartTracking event) {
+        if (event.getTarget() instanceof VehicleLoadHolder holder && event.getEntity() instanceof ServerPlayer player) {
+            PacketDistributor.sendToPlayer(player, new SyncVehicleLoadPacket(event.getTarget().getId(), holder.riyaposmod$getSyncedLoad()));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(ServerTickEvent.Post event) {
+        if (loaded.isEmpty()) {
+            return;
+        }
+        int currentWeightGeneration = WeightDataManager.getDataGeneration();
+        int currentVehicleGeneration = VehicleDataManager.getGeneration();
+        if (currentWeightGeneration != weightGeneration || currentVehicleGeneration != vehicleGeneration) {
+            weightGeneration = currentWeightGeneration;
+            vehicleGeneration = currentVehicleGeneration;
+            pending.addAll(loaded);
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // Copied so that vehicles marked dirty while refreshing wait for the next tick
+        List<Entity> vehicles = new ArrayList<>(pending);
+        pending.clear();
+        for (Entity vehicle : vehicles) {
+            if (!vehicle.isRemoved()) {
+                refresh(vehicle);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        loaded.clear();
+        pending.clear();
+    }
+
+    private static void refresh(Entity vehicle) {
+        long profileStart = HandlerProfiler.begin();
+        VehicleLoadHolder holder = (VehicleLoadHolder) vehicle;
+        byte load;
+        if (vehicle instanceof ContainerShip ship) {
+            load = quantize(ShipWeightHandler.computeCapacityPercent(ship));
+        } else if (vehicle instanceof InventoryVehicleEntity aircraft) {
+            load = quantize(AircraftWeightHandler.computeCapacityPercent(aircraft));
+        } else {
+            return;
+        }
+
+        if (load != holder.riyaposmod$getSyncedLoad()) {
+            holder.riyaposmod$setSyncedLoad(load);
+            PacketDistributor.sendToPlayersTrackingEntity(vehicle, new SyncVehicleLoadPacket(vehicle.getId(), load));
+            if (vehicle instanceof ContainerShip ship) {
+                ShipWeightNotifier.notifyThresholdCrossed(ship, dequantize(load));
+            } else {
+                AircraftWeightNotifier.notifyThresholdCrossed((InventoryVehicleEntity) vehicle, dequantize(load));
+            }
+        }
+        HandlerProfiler.end(ProfiledHandler.VEHICLE_LOAD_REFRESH, profileStart, vehicle);
+    }
+}
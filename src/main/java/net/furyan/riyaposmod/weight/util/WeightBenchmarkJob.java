@@ -0,0 +1,508 @@
+package net.furyan.riyaposmod.weight.util;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import net.furyan.riyaposmod.RiyaposMod;
+import net.furyan.riyaposmod.util.log.LogCategory;
+import net.furyan.riyaposmod.util.log.ModLog;
+import net.furyan.riyaposmod.weight.WeightCalculator;
+import net.furyan.riyaposmod.weight.capability.IPlayerWeight;
+import net.furyan.riyaposmod.weight.capability.PlayerWeightProvider;
+import net.furyan.riyaposmod.weight.data.WeightDataManager;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.storage.LevelResource;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.capabilities.Capabilities;
+import net.neoforged.neoforge.event.server.ServerStoppingEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+import net.neoforged.neoforge.items.IItemHandler;
+import net.p3pp3rf1y.sophisticatedbackpacks.backpack.BackpackStorage;
+import net.p3pp3rf1y.sophisticatedbackpacks.backpack.wrapper.BackpackWrapper;
+import net.p3pp3rf1y.sophisticatedbackpacks.backpack.wrapper.IBackpackWrapper;
+import net.p3pp3rf1y.sophisticatedcore.inventory.InventoryHandler;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Runs the weight system benchmark as a staged job on the live server.
+ * <p>
+ * Each server tick spends at most {@link Settings#budgetMillis()} on the job, so players keep
+ * playing while it runs. The work stays on the server thread because the weight caches and
+ * backpack inventories it measures are not thread-safe. Every operation is timed on its own,
+ * which gives p50/p95/p99 instead of a single total. Allocation per operation is read from
+ * {@code com.sun.management.ThreadMXBean} where the JVM supports it. Cases that depend on a
+ * cache are measured twice: once with that cache invalidated before each operation (untimed)
+ * and once with the cache warm. Results are sent to the command source and written as JSON to
+ * {@code <world>/riyaposmod/benchmarks/}.
+ * <p>
+ * Sophisticated Backpacks stores backpack contents in the world's saved data, so the contents of
+ * the benchmark's backpacks are removed from that storage when the job ends in any way.
+ */
+@EventBusSubscriber(modid = RiyaposMod.MOD_ID, bus = EventBusSubscriber.Bus.GAME)
+public class WeightBenchmarkJob {
+    private static final ModLog LOG = ModLog.get(LogCategory.WEIGHT);
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    // Fixture sizes. Each backpack briefly occupies an entry in Sophisticated Backpacks' world storage,
+    // so the backpack count is kept small.
+    private static final int ITEMS_PER_KIND = 1000;
+    private static final int CONTAINERS_PER_KIND = 50;
+    private static final int PLAYER_OPS_PER_ROUND = 50;
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = allocationMXBean();
+
+    private static WeightBenchmarkJob current;
+
+    /**
+     * @param iterations Measured rounds over every case's samples
+     * @param warmup Rounds run before measuring; their results are discarded
+     * @param budgetMillis Time the job may use per server tick
+     */
+    public record Settings(int iterations, int warmup, int budgetMillis) {
+        public static final Settings DEFAULT = new Settings(10, 3, 10);
+    }
+
+    /**
+     * What one benchmark operation measures. Cases that need a player are skipped when
+     * the benchmark is started from the console.
+     */
+    private enum Case {
+        ITEM_WEIGHT("item_weight"),
+        ITEM_WEIGHT_CACHED("item_weight_cached"),
+        CAPACITY_BONUS("capacity_bonus"),
+        CONTAINER_WEIGHT("container_weight"),
+        CONTAINER_WEIGHT_CACHED("container_weight_cached"),
+        PLAYER_WEIGHT("player_weight");
+
+        final String label;
+
+        Case(String label) {
+            this.label = label;
+        }
+    }
+
+    private final CommandSourceStack source;
+    private final MinecraftServer server;
+    private final HolderLookup.Provider provider;
+    private final ServerPlayer player;
+    private final Settings settings;
+    private final int startTick;
+
+    private final List<ItemStack> items = new ArrayList<>();
+    private final List<ItemStack> containers = new ArrayList<>();
+    // Contents the fixtures created in Sophisticated Backpacks' world storage
+    private final List<UUID> backpackContents = new ArrayList<>();
+    private int containersBuilt;
+    private boolean fixturesReady;
+
+    private final List<Case> cases = new ArrayList<>();
+    private final List<CaseResult> results = new ArrayList<>();
+    private int caseIndex;
+    private int round;
+    private int sampleIndex;
+    private long[] timings;
+    private int recorded;
+    private long allocatedBytes;
+
+    // Keeps the JIT from discarding the measured calls
+    private float sink;
+
+    private WeightBenchmarkJob(CommandSourceStack source, Settings settings) {
+        this.source = source;
+        this.server = source.getServer();
+        this.provider = server.registryAccess();
+        this.player = source.getEntity() instanceof ServerPlayer serverPlayer ? serverPlayer : null;
+        this.settings = settings;
+        this.startTick = server.getTickCount();
+
+        for (Case benchmarkCase : Case.values()) {
+            if (benchmarkCase != Case.PLAYER_WEIGHT || player != null) {
+                cases.add(benchmarkCase);
+            }
+        }
+    }
+
+    /**
+     * Starts a benchmark unless one is already running.
+     * @return Whether a new benchmark was started.
+     */
+    public static boolean start(CommandSourceStack source, Settings settings) {
+        if (current != null) {
+            return false;
+        }
+        current = new WeightBenchmarkJob(source, settings);
+        LOG.info("Weight benchmark started: {} iterations, {} warmup, {} ms per tick",
+            settings.iterations(), settings.warmup(), settings.budgetMillis());
+        return true;
+    }
+
+    /**
+     * Stops the running benchmark without reporting.
+     * @return Whether a benchmark was running.
+     */
+    public static boolean cancel() {
+        if (current == null) {
+            return false;
+        }
+        current.releaseFixtures();
+        current = null;
+        LOG.info("Weight benchmark cancelled");
+        return true;
+    }
+
+    public static boolean isRunning() {
+        return current != null;
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(ServerTickEvent.Post event) {
+        WeightBenchmarkJob job = current;
+        if (job == null) {
+            return;
+        }
+        try {
+            if (job.runSlice()) {
+                current = null;
+                job.releaseFixtures();
+                job.finish();
+            }
+        } catch (RuntimeException e) {
+            current = null;
+            job.releaseFixtures();
+            LOG.error("Weight benchmark failed", e);
+            job.source.sendFailure(Component.literal("Weight benchmark failed: " + e.getMessage()));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopping(ServerStoppingEvent event) {
+        // Runs before the final save, so the fixtures' backpack contents are not persisted
+        if (current != null) {
+            current.releaseFixtures();
+            current = null;
+        }
+    }
+
+    /**
+     * Runs operations until this tick's budget is used up.
+     * @return Whether the job has finished.
+     */
+    private boolean runSlice() {
+        long deadline = System.nanoTime() + settings.budgetMillis() * 1_000_000L;
+        while (System.nanoTime() < deadline) {
+            if (!fixturesReady) {
+                buildNextFixture();
+            } else if (caseIndex >= cases.size()) {
+                return true;
+            } else {
+                runNextOperation();
+            }
+        }
+        return false;
+    }
+
+    private void buildNextFixture() {
+        if (items.isEmpty()) {
+            // Plain stacks are cheap, build them all at once
+            Item[] kinds = {Items.STONE_PICKAXE, Items.IRON_SWORD, Items.IRON_CHESTPLATE};
+            for (int i = 0; i < ITEMS_PER_KIND; i++) {
+                for (Item kind : kinds) {
+                    items.add(new ItemStack(kind));
+                }
+            }
+            return;
+        }
+
+        if (containersBuilt < CONTAINERS_PER_KIND * 2) {
+            ItemStack[] contents = {new ItemStack(Items.STONE_PICKAXE), new ItemStack(Items.IRON_SWORD), new ItemStack(Items.IRON_CHESTPLATE)};
+            ItemStack container = containersBuilt % 2 == 0
+                ? createShulkerBox(contents)
+                : createBackpack(contents);
+            containersBuilt++;
+            if (!container.isEmpty() && WeightCalculator.isContainer(container)) {
+                containers.add(container);
+                items.add(container);
+            }
+            return;
+        }
+
+        fixturesReady = true;
+        if (containers.isEmpty()) {
+            // Nothing is registered as a container in this pack
+            cases.remove(Case.CONTAINER_WEIGHT);
+            cases.remove(Case.CONTAINER_WEIGHT_CACHED);
+        }
+        startCase();
+    }
+
+    private static ItemStack createShulkerBox(ItemStack... contents) {
+        ItemStack box = new ItemStack(Items.SHULKER_BOX);
+        IItemHandler handler = box.getCapability(Capabilities.ItemHandler.ITEM);
+        if (handler != null) {
+            for (int slot = 0; slot < handler.getSlots(); slot++) {
+                handler.insertItem(slot, contents[slot % contents.length].copy(), false);
+            }
+        }
+        return box;
+    }
+
+    private ItemStack createBackpack(ItemStack... contents) {
+        Item backpack = BuiltInRegistries.ITEM.getOptional(ResourceLocation.parse("sophisticatedbackpacks:backpack")).orElse(null);
+        if (backpack == null) {
+            return ItemStack.EMPTY;
+        }
+        ItemStack stack = new ItemStack(backpack);
+        try {
+            IBackpackWrapper wrapper = BackpackWrapper.fromStack(stack);
+            InventoryHandler handler = wrapper.getInventoryHandler();
+            // Creating the inventory assigned the contents UUID and its storage entry
+            wrapper.getContentsUuid().ifPresent(backpackContents::add);
+            for (int slot = 0; slot < handler.getSlots(); slot++) {
+                handler.setStackInSlot(slot, contents[slot % contents.length].copy());
+            }
+        } catch (Exception e) {
+            LOG.warn("Could not fill benchmark backpack: {}", e.getMessage());
+        }
+        return stack;
+    }
+
+    /**
+     * Removes the fixtures' backpack contents from Sophisticated Backpacks' world storage.
+     */
+    private void releaseFixtures() {
+        if (backpackContents.isEmpty()) {
+            return;
+        }
+        try {
+            BackpackStorage storage = BackpackStorage.get();
+            for (UUID uuid : backpackContents) {
+                storage.removeBackpackContents(uuid);
+            }
+            LOG.debug("Removed {} benchmark backpacks from backpack storage", backpackContents.size());
+        } catch (Exception e) {
+            LOG.warn("Could not remove benchmark backpacks from backpack storage: {}", e.getMessage());
+        }
+        backpackContents.clear();
+    }
+
+    private void startCase() {
+        if (caseIndex >= cases.size()) {
+            return;
+        }
+        round = 0;
+        sampleIndex = 0;
+        recorded = 0;
+        allocatedBytes = 0;
+        timings = new long[settings.iterations() * samplesPerRound(cases.get(caseIndex))];
+    }
+
+    private int samplesPerRound(Case benchmarkCase) {
+        return switch (benchmarkCase) {
+            case ITEM_WEIGHT, ITEM_WEIGHT_CACHED, CAPACITY_BONUS -> items.size();
+            case CONTAINER_WEIGHT, CONTAINER_WEIGHT_CACHED -> containers.size();
+            case PLAYER_WEIGHT -> PLAYER_OPS_PER_ROUND;
+        };
+    }
+
+    private void runNextOperation() {
+        Case benchmarkCase = cases.get(caseIndex);
+        if (benchmarkCase == Case.PLAYER_WEIGHT && (player.isRemoved() || player.hasDisconnected())) {
+            // The player left; skip the case rather than failing the whole run
+            nextCase();
+            return;
+        }
+
+        // Untimed per-operation setup: invalidate whatever cache the case must not hit
+        ItemStack sample = null;
+        switch (benchmarkCase) {
+            case ITEM_WEIGHT -> {
+                WeightDataManager.clearPerTickWeightCache();
+                sample = items.get(sampleIndex);
+            }
+            case ITEM_WEIGHT_CACHED, CAPACITY_BONUS -> sample = items.get(sampleIndex);
+            case CONTAINER_WEIGHT -> {
+                sample = containers.get(sampleIndex);
+                ContainerWeightHelper.invalidateCache(sample, provider);
+            }
+            case CONTAINER_WEIGHT_CACHED -> sample = containers.get(sampleIndex);
+            case PLAYER_WEIGHT -> WeightDataManager.clearPerTickWeightCache();
+        }
+
+        long allocBefore = allocatedBytes();
+        long start = System.nanoTime();
+        float result = switch (benchmarkCase) {
+            case ITEM_WEIGHT, ITEM_WEIGHT_CACHED -> WeightCalculator.getWeight(sample);
+            case CAPACITY_BONUS -> WeightCalculator.getCapacityBonus(sample);
+            case CONTAINER_WEIGHT, CONTAINER_WEIGHT_CACHED -> ContainerWeightHelper.getContainerWeight(sample, provider);
+            case PLAYER_WEIGHT -> playerWeight();
+        };
+        long elapsed = System.nanoTime() - start;
+        long allocAfter = allocatedBytes();
+        sink += result;
+
+        if (round >= settings.warmup()) {
+            timings[recorded++] = elapsed;
+            if (allocBefore >= 0) {
+                allocatedBytes += allocAfter - allocBefore;
+            }
+        }
+
+        if (++sampleIndex >= samplesPerRound(benchmarkCase)) {
+            sampleIndex = 0;
+            if (++round >= settings.warmup() + settings.iterations()) {
+                nextCase();
+            }
+        }
+    }
+
+    private float playerWeight() {
+        IPlayerWeight weight = PlayerWeightProvider.getPlayerWeight(player);
+        return weight != null ? weight.calculateWeight(player) : 0f;
+    }
+
+    private void nextCase() {
+        Case benchmarkCase = cases.get(caseIndex);
+        if (recorded > 0) {
+            long[] measured = Arrays.copyOf(timings, recorded);
+            long alloc = THREAD_MX_BEAN != null ? allocatedBytes : -1;
+            results.add(CaseResult.of(benchmarkCase.label, measured, alloc));
+        }
+        timings = null;
+        caseIndex++;
+        startCase();
+    }
+
+    private void finish() {
+        int ticks = server.getTickCount() - startTick;
+        source.sendSuccess(() -> Component.literal(String.format(Locale.ROOT,
+            "--- Weight Benchmark (%d iterations, %d warmup, %d ticks) ---",
+            settings.iterations(), settings.warmup(), ticks)), false);
+        for (CaseResult result : results) {
+            String line = result.describe();
+            source.sendSuccess(() -> Component.literal(line), false);
+            LOG.info("[Benchmark] {}", line);
+        }
+
+        String json = GSON.toJson(toJson(ticks));
+        Path target = server.getWorldPath(LevelResource.ROOT)
+            .resolve(RiyaposMod.MOD_ID)
+            .resolve("benchmarks")
+            .resolve("weight-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".json");
+        Path relative = server.getWorldPath(LevelResource.ROOT).relativize(target);
+        // Only the file I/O happens off-thread; command sources must be messaged from the server thread
+        Thread.ofVirtual().name("riyaposmod-benchmark-writer").start(() -> {
+            try {
+                Files.createDirectories(target.getParent());
+                Files.writeString(target, json, StandardCharsets.UTF_8);
+                server.execute(() -> source.sendSuccess(() -> Component.literal("Results written to " + relative), false));
+            } catch (IOException e) {
+                LOG.warn("Failed to write benchmark results to {}", target, e);
+                String message = e.getMessage();
+                server.execute(() -> source.sendFailure(Component.literal("Could not write benchmark results: " + message)));
+            }
+        });
+        LOG.debug("Benchmark checksum {}", sink);
+    }
+
+    private JsonObject toJson(int ticks) {
+        JsonObject root = new JsonObject();
+        root.addProperty("timestamp", LocalDateTime.now().toString());
+        root.addProperty("iterations", settings.iterations());
+        root.addProperty("warmup", settings.warmup());
+        root.addProperty("budget_ms", settings.budgetMillis());
+        root.addProperty("ticks", ticks);
+        root.addProperty("items", items.size());
+        root.addProperty("containers", containers.size());
+        JsonArray cases = new JsonArray();
+        for (CaseResult result : results) {
+            cases.add(result.toJson());
+        }
+        root.add("cases", cases);
+        return root;
+    }
+
+    /**
+     * @return Bytes allocated by this thread so far, or -1 if the JVM cannot tell.
+     */
+    private static long allocatedBytes() {
+        return THREAD_MX_BEAN != null ? THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationMXBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            if (!bean.isThreadAllocatedMemoryEnabled()) {
+                bean.setThreadAllocatedMemoryEnabled(true);
+            }
+            return bean;
+        }
+        return null;
+    }
+
+    /**
+     * Latency percentiles (nanoseconds) and allocation for one case.
+     * {@code bytesPerOp} is negative when allocation could not be measured.
+     */
+    private record CaseResult(String name, int ops, double meanNanos, long p50, long p95, long p99, long max, double bytesPerOp) {
+
+        static CaseResult of(String name, long[] timings, long allocatedBytes) {
+            Arrays.sort(timings);
+            long total = 0;
+            for (long timing : timings) {
+                total += timing;
+            }
+            int ops = timings.length;
+            return new CaseResult(name, ops, (double) total / ops,
+                percentile(timings, 0.50), percentile(timings, 0.95), percentile(timings, 0.99),
+                timings[ops - 1], allocatedBytes < 0 ? -1 : (double) allocatedBytes / ops);
+        }
+
+        private static long percentile(long[] sorted, double quantile) {
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+        }
+
+        String describe() {
+            String alloc = bytesPerOp < 0 ? "n/a" : String.format(Locale.ROOT, "%.1f B/op", bytesPerOp);
+            return String.format(Locale.ROOT, "%s: %d ops, p50 %.2f us, p95 %.2f us, p99 %.2f us, max %.2f us, %s",
+                name, ops, p50 / 1000.0, p95 / 1000.0, p99 / 1000.0, max / 1000.0, alloc);
+        }
+
+        JsonObject toJson() {
+            JsonObject json = new JsonObject();
+            json.addProperty("name", name);
+            json.addProperty("ops", ops);
+            json.addProperty("mean_ns", meanNanos);
+            json.addProperty("p50_ns", p50);
+            json.addProperty("p95_ns", p95);
+            json.addProperty("p99_ns", p99);
+            json.addProperty("max_ns", max);
+            json.addProperty("bytes_per_op", bytesPerOp);
+            return json;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package net.furyan.riyaposmod.weight.util;
+
+import net.furyan.riyaposmod.Config;
+import net.furyan.riyaposmod.util.log.LogCategory;
+import net.furyan.riyaposmod.util.log.LogGate;
+import net.furyan.riyaposmod.util.log.ModLog;
+import net.furyan.riyaposmod.util.metrics.ModMetrics;
+import net.furyan.riyaposmod.weight.WeightCalculator;
+import net.furyan.riyaposmod.weight.capability.PlayerWeightImpl;
+import net.furyan.riyaposmod.weight.data.WeightDataManager;
+import net.furyan.riyaposmod.weight.events.WeightEventHandler;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.world.Container;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.fml.ModList;
+import net.neoforged.neoforge.capabilities.Capabilities;
+import net.neoforged.neoforge.items.IItemHandler;
+import top.theillusivec4.curios.api.CuriosApi;
+import top.theillusivec4.curios.api.type.inventory.ICurioStacksHandler;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shadow verification for the cached weight engine. On a sampled fraction of recalculations
+ * ({@code weightShadowSampleRate}) it snapshots the player's inventory on the server thread, then recomputes weight
+ * and capacity on a virtual thread straight from the weight data, bypassing the per-tick item cache, the container
+ * content cache and dirty tracking, the capacity bonus cache and the player's incremental capacity bonuses.
+ * A result that differs from what the cached engine produced is counted in
+ * {@code riyaposmod_weight_shadow_divergences_total} and logged with the slots that disagree.
+ * <p>
+ * Container contents are copied into the snapshot to the same depth the engine recurses, so the worker never touches
+ * live inventories. A check that overlaps a datapack reload is discarded.
+ */
+public final class WeightShadowVerifier {
+    private static final ModLog LOG = ModLog.get(LogCategory.WEIGHT);
+    private static final LogGate DIVERGENCE_LOG_GATE = LogGate.rateLimit(10, TimeUnit.SECONDS);
+    private static final String CAPACITY_CATEGORY = "containers";
+    private static final float ABSOLUTE_TOLERANCE = 0.01f;
+    private static final float RELATIVE_TOLERANCE = 1.0e-4f;
+    private static final int MAX_IN_FLIGHT = 4;
+
+    private static final AtomicInteger inFlight = new AtomicInteger();
+
+    private WeightShadowVerifier() {}
+
+    /**
+     * One stack as the engine saw it. The cached fields are only set for top-level slots.
+     */
+    private record StackSnapshot(String slot, Item item, int count, boolean container,
+                                 float cachedWeight, float cachedContents, List<StackSnapshot> contents) {}
+
+    private record PlayerSnapshot(String player, int generation, float cachedTotal, float cachedCapacity,
+                                  float baseCapacity, List<StackSnapshot> slots, List<Item> capacityItems) {}
+
+    /**
+     * Called by {@link PlayerWeightImpl#calculateWeight} with the result it just stored.
+     * Returns immediately unless this recalculation is sampled.
+     */
+    public static void maybeVerify(Player player, PlayerWeightImpl weight) {
+        double rate = Config.weightShadowSampleRate;
+        if (rate <= 0 || ThreadLocalRandom.current().nextDouble() >= rate) {
+            return;
+        }
+        if (inFlight.incrementAndGet() > MAX_IN_FLIGHT) {
+            inFlight.decrementAndGet();
+            ModMetrics.WEIGHT_SHADOW_SKIPPED.inc();
+            return;
+        }
+
+        PlayerSnapshot snapshot;
+        try {
+            snapshot = snapshot(player, weight);
+        } catch (RuntimeException e) {
+            inFlight.decrementAndGet();
+            LOG.warn("Failed to snapshot {} for weight shadow check", player.getScoreboardName(), e);
+            return;
+        }
+        Thread.ofVirtual().name("riyaposmod-weight-shadow").start(() -> {
+            try {
+                verify(snapshot);
+            } catch (RuntimeException e) {
+                // Most likely a datapack reload changed the weight maps under us
+                if (WeightDataManager.getDataGeneration() == snapshot.generation()) {
+                    LOG.warn("Weight shadow check for {} failed", snapshot.player(), e);
+                }
+                ModMetrics.WEIGHT_SHADOW_SKIPPED.inc();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+    }
+
+    private static PlayerSnapshot snapshot(Player player, PlayerWeightImpl weight) {
+        HolderLookup.Provider provider = player.level().registryAccess();
+        List<StackSnapshot> slots = new ArrayList<>();
+        List<Item> capacityItems = new ArrayList<>();
+
+        Container inventory = player.getInventory();
+        for (int i = 0; i < inventory.getContainerSize(); i++) {
+            ItemStack stack = inventory.getItem(i);
+            if (!stack.isEmpty()) {
+                slots.add(topLevel("inventory/" + i, stack, provider));
+            }
+        }
+        for (ItemStack stack : player.getArmorSlots()) {
+            if (!stack.isEmpty()) {
+                capacityItems.add(stack.getItem());
+            }
+        }
+        if (ModList.get().isLoaded("curios")) {
+            CuriosApi.getCuriosInventory(player).ifPresent(handler -> {
+                for (String slotType : WeightEventHandler.SLOTS_TO_CHECK) {
+                    ICurioStacksHandler slotHandler = handler.getCurios().get(slotType);
+                    if (slotHandler != null) {
+                        for (int i = 0; i < slotHandler.getSlots(); i++) {
+                            ItemStack stack = slotHandler.getStacks().getStackInSlot(i);
+                            if (!stack.isEmpty()) {
+                                slots.add(topLevel("curio/" + slotType + "/" + i, stack, provider));
+                                capacityItems.add(stack.getItem());
+                            }
+                        }
+                    }
+                }
+            });
+        }
+
+        return new PlayerSnapshot(player.getScoreboardName(), WeightDataManager.getDataGeneration(),
+            weight.getCurrentWeight(), weight.getMaxCapacity(), weight.getBaseCapacity(), slots, capacityItems);
+    }
+
+    private static StackSnapshot topLevel(String slot, ItemStack stack, HolderLookup.Provider provider) {
+        boolean container = WeightCalculator.isContainer(stack);
+        // Same tick as the recalculation, so these are the cached values it just used
+        float cachedWeight = WeightCalculator.getWeight(stack);
+        float cachedContents = container ? ContainerWeightHelper.getContainerWeight(stack, provider) : 0f;
+        return new StackSnapshot(slot, stack.getItem(), stack.getCount(), container, cachedWeight, cachedContents,
+            container ? copyContents(stack, 0) : List.of());
+    }
+
+    private static List<StackSnapshot> copyContents(ItemStack containerStack, int depth) {
+        if (depth >= ContainerWeightHelper.MAX_RECURSION_DEPTH) {
+            return List.of();
+        }
+        IItemHandler handler = containerStack.getCapability(Capabilities.ItemHandler.ITEM);
+        if (handler == null) {
+            return List.of();
+        }
+        List<StackSnapshot> contents = new ArrayList<>();
+        for (int i = 0; i < handler.getSlots(); i++) {
+            ItemStack stack = handler.getStackInSlot(i);
+            if (!stack.isEmpty()) {
+                boolean container = WeightCalculator.isContainer(stack);
+                contents.add(new StackSnapshot(Integer.toString(i), stack.getItem(), stack.getCount(), container,
+                    Float.NaN, Float.NaN, container ? copyContents(stack, depth + 1) : List.of()));
+            }
+        }
+        return contents;
+    }
+
+    private static void verify(PlayerSnapshot snapshot) {
+        float total = 0f;
+        List<String> offending = new ArrayList<>();
+        for (StackSnapshot slot : snapshot.slots()) {
+            float weight = WeightDataManager.resolveWeight(slot.item());
+            float contents = slot.container() ? contentsWeight(slot, new HashSet<>(), 0) : 0f;
+            total += weight * slot.count() + contents;
+
+            if (differs(weight, slot.cachedWeight()) || differs(contents, slot.cachedContents())) {
+                offending.add(String.format(Locale.ROOT, "%s %s x%d: item %.3f (cached %.3f), contents %.3f (cached %.3f)",
+                    slot.slot(), slot.item(), slot.count(), weight, slot.cachedWeight(), contents, slot.cachedContents()));
+            }
+        }
+
+        float capacity = snapshot.baseCapacity();
+        for (Item item : snapshot.capacityItems()) {
+            float bonus = WeightDataManager.resolveCapacityBonus(item, CAPACITY_CATEGORY);
+            if (bonus > 0) {
+                capacity += bonus;
+            }
+        }
+
+        int generation = WeightDataManager.getDataGeneration();
+        if (generation != snapshot.generation() || (generation & 1) != 0) {
+            // Weight data was reloaded while we were reading it
+            ModMetrics.WEIGHT_SHADOW_SKIPPED.inc();
+            return;
+        }
+        ModMetrics.WEIGHT_SHADOW_CHECKS.inc();
+
+        if (differs(total, snapshot.cachedTotal())) {
+            ModMetrics.WEIGHT_SHADOW_DIVERGENCES.inc("weight");
+            LOG.warn(DIVERGENCE_LOG_GATE, "Weight shadow check for {}: cached weight {} but uncached {}. Slots: {}",
+                snapshot.player(), snapshot.cachedTotal(), total, offending.isEmpty() ? "none differ individually" : offending);
+        }
+        if (differs(capacity, snapshot.cachedCapacity())) {
+            ModMetrics.WEIGHT_SHADOW_DIVERGENCES.inc("capacity");
+            LOG.warn(DIVERGENCE_LOG_GATE, "Weight shadow check for {}: cached capacity {} but uncached {} (base {}, items {})",
+                snapshot.player(), snapshot.cachedCapacity(), capacity, snapshot.baseCapacity(), snapshot.capacityItems());
+        }
+    }
+
+    /**
+     * Mirrors {@link ContainerWeightHelper}'s recursion, including its depth limit and its rule that an item type is
+     * only descended into once per top-level container.
+     */
+    private static float contentsWeight(StackSnapshot container, Set<Item> visited, int depth) {
+        if (depth >= ContainerWeightHelper.MAX_RECURSION_DEPTH || !visited.add(container.item())) {
+            return 0f;
+        }
+        float total = 0f;
+        for (StackSnapshot stack : container.contents()) {
+            float weight = WeightDataManager.resolveWeight(stack.item()) * stack.count();
+            if (stack.container()) {
+                weight += contentsWeight(stack, visited, depth + 1);
+            }
+            total += weight;
+        }
+        return total;
+    }
+
+    private static boolean differs(float uncached, float cached) {
+        return Math.abs(uncached - cached) > ABSOLUTE_TOLERANCE + RELATIVE_TOLERANCE * Math.abs(uncached);
+    }
+}